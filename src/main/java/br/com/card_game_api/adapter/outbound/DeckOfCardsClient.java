@@ -1,9 +1,15 @@
 package br.com.card_game_api.adapter.outbound;
 
+import br.com.card_game_api.adapter.outbound.dto.CardDTO;
 import br.com.card_game_api.adapter.outbound.dto.DeckDTO;
-import br.com.card_game_api.dto.CardDTO;
+import br.com.card_game_api.domain.CardCode;
 import br.com.card_game_api.exception.DeckCreationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -12,26 +18,124 @@ import org.springframework.web.util.UriComponentsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
  * Classe responsável pela interação com a API externa de baralho (Deck of Cards API).
  * Esta classe fornece métodos para criar um deck, distribuir cartas e outras operações relacionadas
  * ao gerenciamento do baralho utilizando a API externa.
+ * <p>
+ * Além dos métodos síncronos, expõe versões assíncronas ({@link #createDeckAsync(int)} e
+ * {@link #dealCardsAsync(String, int)}) que não prendem a thread chamadora durante a latência da API.
+ * O número de chamadas assíncronas simultâneas é limitado por {@code deckofcards.api.max-concurrent-requests}.
+ * <p>
+ * Com {@code deckofcards.hedging.enabled=true}, {@link #dealCards(String, int)} dispara uma segunda compra
+ * equivalente quando a primeira não responde dentro do percentil configurado das latências recentes, e usa
+ * a resposta que chegar primeiro. Como cada compra retira cartas do deck, o hedge só é disparado quando o
+ * número de cartas restantes conhecido comporta a compra duplicada e todas as cartas que o jogo ainda vai retirar
+ * ({@link #dealCards(String, int, int)}); as cartas da compra perdedora são descartadas
+ * (o restante do deck continua aleatório) e o saldo de cartas é reconciliado com o {@code remaining} informado
+ * pela API.
+ * <p>
+ * As cartas recebidas em {@link CardDTO} são convertidas para {@link CardCode} aqui, na fronteira com a API externa.
  */
 @Component
-public class DeckOfCardsClient {
+public class DeckOfCardsClient implements DeckProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DeckOfCardsClient.class);
 
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int MAX_TRACKED_DECKS = 10_000;
+
     private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
 
     @Value("${deckofcards.api.baseurl}")
     private String apiBaseUrl;
 
-    public DeckOfCardsClient(RestTemplate restTemplate) {
+    @Value("${deckofcards.api.read-timeout:5s}")
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    private final Semaphore inFlightRequests;
+
+    @Value("${deckofcards.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    /**
+     * Percentil (0 a 100) das latências recentes usado como atraso antes de disparar o hedge.
+     */
+    @Value("${deckofcards.hedging.percentile:95}")
+    private double hedgingPercentile = 95;
+
+    @Value("${deckofcards.hedging.min-delay:50ms}")
+    private Duration hedgingMinDelay = Duration.ofMillis(50);
+
+    /**
+     * Atraso usado enquanto não há amostras suficientes para calcular o percentil.
+     */
+    @Value("${deckofcards.hedging.initial-delay:500ms}")
+    private Duration hedgingInitialDelay = Duration.ofMillis(500);
+
+    private final DrawLatencyTracker drawLatencyTracker = new DrawLatencyTracker(256);
+    private final Map<String, Integer> remainingCardsByDeck = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > MAX_TRACKED_DECKS;
+                }
+            });
+
+    /**
+     * Compras com hedge em andamento por deck, inclusive as que já perderam a corrida.
+     */
+    private final Map<String, InFlightDraws> inFlightDrawsByDeck = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService hedgeScheduler;
+    private final Counter hedgesFired;
+    private final Counter hedgesWon;
+
+    public DeckOfCardsClient(RestTemplate restTemplate,
+                             HttpClient httpClient,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${deckofcards.api.max-concurrent-requests:64}") int maxConcurrentRequests) {
         this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.inFlightRequests = new Semaphore(Math.max(maxConcurrentRequests, 1));
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("deck-api-hedge-");
+        threadFactory.setDaemon(true);
+        this.hedgeScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.hedgesFired = Counter.builder("deckofcards.hedge.fired")
+                .description("Compras de cartas repetidas por demora da primeira requisição")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("deckofcards.hedge.won")
+                .description("Compras de cartas em que a requisição de hedge respondeu primeiro")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeScheduler.shutdownNow();
     }
 
     /**
@@ -41,14 +145,13 @@ public class DeckOfCardsClient {
      * @return O deckId do deck criado.
      * @throws DeckCreationException Se a criação do deck falhar.
      */
+    @Override
     public String createDeck(int numberOfDecks) throws DeckCreationException {
         if (numberOfDecks <= 0) {
             throw new IllegalArgumentException("O número de decks deve ser maior que zero.");
         }
 
-        String url = UriComponentsBuilder.fromHttpUrl(apiBaseUrl + "new/shuffle/")
-                .queryParam("deck_count", numberOfDecks)
-                .toUriString();
+        String url = createDeckUrl(numberOfDecks);
 
         try {
             LOGGER.info("Criando deck com {} deck(s) usando a API externa.", numberOfDecks);
@@ -60,6 +163,7 @@ public class DeckOfCardsClient {
             }
 
             LOGGER.info("Deck criado com sucesso: {}", deckDTO.getDeckId());
+            trackRemainingCards(deckDTO);
             return deckDTO.getDeckId();
 
         } catch (HttpClientErrorException | HttpServerErrorException e) {
@@ -75,10 +179,27 @@ public class DeckOfCardsClient {
      *
      * @param deckId O ID do deck a ser utilizado.
      * @param numberOfCards O número de cartas a serem distribuídas.
-     * @return A lista de cartas distribuídas.
+     * @return As cartas distribuídas, no formato de {@link CardCode}.
      * @throws DeckCreationException Se a distribuição das cartas falhar.
      */
-    public List<CardDTO> dealCards(String deckId, int numberOfCards) throws DeckCreationException {
+    @Override
+    public byte[] dealCards(String deckId, int numberOfCards) throws DeckCreationException {
+        return dealCards(deckId, numberOfCards, numberOfCards);
+    }
+
+    /**
+     * Distribui as cartas do deck. Com o hedge habilitado, {@code outstandingCards} define se o deck comporta uma
+     * compra duplicada sem faltar cartas para o restante do jogo; sem essa informação, a compra é tratada como a
+     * única do jogo.
+     *
+     * @param deckId O ID do deck a ser utilizado.
+     * @param numberOfCards O número de cartas a serem distribuídas.
+     * @param outstandingCards O número de cartas que o jogo ainda vai retirar do deck, incluindo esta compra.
+     * @return As cartas distribuídas, no formato de {@link CardCode}.
+     * @throws DeckCreationException Se a distribuição das cartas falhar.
+     */
+    @Override
+    public byte[] dealCards(String deckId, int numberOfCards, int outstandingCards) throws DeckCreationException {
         if (deckId == null || deckId.isEmpty()) {
             throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
         }
@@ -87,10 +208,11 @@ public class DeckOfCardsClient {
             throw new IllegalArgumentException("O número de cartas deve ser maior que zero.");
         }
 
-        String url = UriComponentsBuilder.fromHttpUrl(apiBaseUrl + "{deck_id}/draw/")
-                .queryParam("count", numberOfCards)
-                .buildAndExpand(deckId)
-                .toUriString();
+        if (hedgingEnabled) {
+            return dealCardsHedged(deckId, numberOfCards, Math.max(outstandingCards, numberOfCards));
+        }
+
+        String url = dealCardsUrl(deckId, numberOfCards);
 
         try {
             LOGGER.info("Distribuindo {} carta(s) do deck com ID: {}", numberOfCards, deckId);
@@ -102,7 +224,7 @@ public class DeckOfCardsClient {
             }
 
             LOGGER.info("{} carta(s) distribuída(s) com sucesso do deck com ID: {}", numberOfCards, deckId);
-            return deckDTO.getCards();
+            return toCardCodes(deckDTO.getCards());
 
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             throw new DeckCreationException("Erro ao se comunicar com a API externa ao distribuir as cartas.", e);
@@ -112,4 +234,306 @@ public class DeckOfCardsClient {
         }
     }
 
+    /**
+     * Devolve ao deck todas as cartas já compradas e o embaralha novamente na API externa.
+     *
+     * @param deckId O ID do deck a ser reembaralhado.
+     * @throws DeckCreationException Se o reembaralhamento falhar.
+     */
+    @Override
+    public void shuffleDeck(String deckId) throws DeckCreationException {
+        if (deckId == null || deckId.isEmpty()) {
+            throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
+        }
+
+        String url = UriComponentsBuilder.fromHttpUrl(apiBaseUrl + "{deck_id}/shuffle/")
+                .buildAndExpand(deckId)
+                .toUriString();
+
+        try {
+            LOGGER.info("Reembaralhando o deck com ID: {}", deckId);
+
+            DeckDTO deckDTO = restTemplate.getForObject(url, DeckDTO.class);
+
+            if (deckDTO == null || deckDTO.getDeckId() == null) {
+                throw new DeckCreationException("Erro ao reembaralhar o deck. Resposta inválida da API externa.");
+            }
+
+            trackRemainingCards(deckDTO);
+
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            throw new DeckCreationException("Erro ao se comunicar com a API externa ao reembaralhar o deck.", e);
+
+        } catch (Exception e) {
+            throw new DeckCreationException("Erro inesperado ao tentar reembaralhar o deck.", e);
+        }
+    }
+
+    /**
+     * Com o hedge, a compra perdedora continua em andamento depois que o jogo recebe as cartas. A future só é
+     * completada quando ela terminar, para que o deck não seja reembaralhado e emprestado a outro jogo enquanto
+     * ainda perde cartas.
+     */
+    @Override
+    public CompletableFuture<Void> drawsSettled(String deckId) {
+        InFlightDraws draws = inFlightDrawsByDeck.get(deckId);
+        return draws == null ? CompletableFuture.completedFuture(null) : draws.settled;
+    }
+
+    /**
+     * Versão assíncrona de {@link #createDeck(int)}.
+     *
+     * @param numberOfDecks O número de decks a serem criados.
+     * @return Future com o deckId do deck criado, ou completada com {@link DeckCreationException} em caso de falha.
+     */
+    public CompletableFuture<String> createDeckAsync(int numberOfDecks) {
+        if (numberOfDecks <= 0) {
+            throw new IllegalArgumentException("O número de decks deve ser maior que zero.");
+        }
+
+        LOGGER.info("Criando deck com {} deck(s) usando a API externa (assíncrono).", numberOfDecks);
+
+        return getAsync(createDeckUrl(numberOfDecks), "Erro inesperado ao tentar criar o deck.")
+                .thenApply(deckDTO -> {
+                    if (deckDTO == null || deckDTO.getDeckId() == null) {
+                        throw new DeckCreationException("Erro ao criar o deck. Não foi possível recuperar o deckId.");
+                    }
+                    trackRemainingCards(deckDTO);
+                    return deckDTO.getDeckId();
+                });
+    }
+
+    /**
+     * Versão assíncrona de {@link #dealCards(String, int)}.
+     *
+     * @param deckId O ID do deck a ser utilizado.
+     * @param numberOfCards O número de cartas a serem distribuídas.
+     * @return Future com as cartas distribuídas, ou completada com {@link DeckCreationException} em caso de falha.
+     */
+    public CompletableFuture<byte[]> dealCardsAsync(String deckId, int numberOfCards) {
+        if (deckId == null || deckId.isEmpty()) {
+            throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
+        }
+
+        if (numberOfCards <= 0) {
+            throw new IllegalArgumentException("O número de cartas deve ser maior que zero.");
+        }
+
+        LOGGER.info("Distribuindo {} carta(s) do deck com ID: {} (assíncrono)", numberOfCards, deckId);
+
+        return drawAsync(deckId, numberOfCards).thenApply(deckDTO -> toCardCodes(deckDTO.getCards()));
+    }
+
+    /**
+     * Compra cartas com hedge: se a primeira requisição não responder dentro do atraso calculado, dispara uma
+     * segunda compra equivalente e usa a que responder primeiro. Só falha se todas as tentativas falharem.
+     */
+    private byte[] dealCardsHedged(String deckId, int numberOfCards, int outstandingCards) {
+        CompletableFuture<DeckDTO> result = new CompletableFuture<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        boolean canHedge = canHedge(deckId, numberOfCards, outstandingCards);
+
+        launchDraw(deckId, numberOfCards, result, pendingAttempts, false);
+
+        if (canHedge) {
+            hedgeScheduler.schedule(() -> {
+                // Registrado antes de verificar o resultado: o deck não é liberado entre a verificação e o disparo
+                beginDraw(deckId);
+                try {
+                    if (!result.isDone()) {
+                        pendingAttempts.incrementAndGet();
+                        hedgesFired.increment();
+                        LOGGER.info("Disparando hedge da compra de {} carta(s) do deck {}", numberOfCards, deckId);
+                        launchDraw(deckId, numberOfCards, result, pendingAttempts, true);
+                    }
+                } finally {
+                    endDraw(deckId);
+                }
+            }, hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return toCardCodes(result.join().getCards());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DeckCreationException deckCreationException) {
+                throw deckCreationException;
+            }
+            throw new DeckCreationException("Erro inesperado ao tentar distribuir as cartas.", e.getCause());
+        }
+    }
+
+    private void launchDraw(String deckId, int numberOfCards, CompletableFuture<DeckDTO> result,
+                            AtomicInteger pendingAttempts, boolean hedge) {
+        long startNanos = System.nanoTime();
+        remainingCardsByDeck.computeIfPresent(deckId, (id, remaining) -> remaining - numberOfCards);
+        beginDraw(deckId);
+
+        drawAsync(deckId, numberOfCards).whenComplete((deckDTO, throwable) -> {
+            try {
+                completeDraw(deckDTO, throwable, deckId, startNanos, result, pendingAttempts, hedge);
+            } finally {
+                endDraw(deckId);
+            }
+        });
+    }
+
+    private void completeDraw(DeckDTO deckDTO, Throwable throwable, String deckId, long startNanos,
+                              CompletableFuture<DeckDTO> result, AtomicInteger pendingAttempts, boolean hedge) {
+        if (throwable == null) {
+            drawLatencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            remainingCardsByDeck.computeIfPresent(deckId,
+                    (id, remaining) -> Math.min(remaining, deckDTO.getRemaining()));
+            // O contador é atualizado antes de completar a future, para que o chamador já o veja atualizado
+            synchronized (result) {
+                if (!result.isDone()) {
+                    if (hedge) {
+                        hedgesWon.increment();
+                    }
+                    result.complete(deckDTO);
+                }
+            }
+        } else if (pendingAttempts.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable);
+        }
+    }
+
+    /**
+     * O hedge só é seguro quando, depois das cartas descartadas pela compra perdedora, o deck ainda comporta todas
+     * as cartas que faltam ao jogo. Decks sem saldo conhecido não recebem hedge.
+     */
+    private boolean canHedge(String deckId, int numberOfCards, int outstandingCards) {
+        Integer remaining = remainingCardsByDeck.get(deckId);
+        return remaining != null && remaining >= (long) outstandingCards + numberOfCards;
+    }
+
+    private long hedgeDelayMillis() {
+        if (drawLatencyTracker.sampleCount() < MIN_LATENCY_SAMPLES) {
+            return hedgingInitialDelay.toMillis();
+        }
+        return Math.max(hedgingMinDelay.toMillis(), drawLatencyTracker.percentile(hedgingPercentile));
+    }
+
+    private void trackRemainingCards(DeckDTO deckDTO) {
+        if (hedgingEnabled) {
+            remainingCardsByDeck.put(deckDTO.getDeckId(), deckDTO.getRemaining());
+        }
+    }
+
+    private CompletableFuture<DeckDTO> drawAsync(String deckId, int numberOfCards) {
+        return getAsync(dealCardsUrl(deckId, numberOfCards), "Erro inesperado ao tentar distribuir as cartas.")
+                .thenApply(deckDTO -> {
+                    if (deckDTO == null || deckDTO.getCards() == null || deckDTO.getCards().isEmpty()) {
+                        throw new DeckCreationException("Erro ao distribuir as cartas. Resposta inválida ou sem cartas.");
+                    }
+                    return deckDTO;
+                });
+    }
+
+    /**
+     * Executa um GET assíncrono na API externa e converte o corpo da resposta em {@link DeckDTO}.
+     * Falhas de rede, tempo esgotado, respostas 4xx/5xx e excesso de chamadas simultâneas
+     * completam a future com {@link DeckCreationException}.
+     */
+    private CompletableFuture<DeckDTO> getAsync(String url, String unexpectedErrorMessage) {
+        if (!inFlightRequests.tryAcquire()) {
+            return CompletableFuture.failedFuture(new DeckCreationException(
+                    "Limite de chamadas simultâneas à API externa atingido."));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        CompletableFuture<DeckDTO> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(this::readDeck);
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            return CompletableFuture.failedFuture(new DeckCreationException(unexpectedErrorMessage, e));
+        }
+
+        return response
+                .whenComplete((deckDTO, throwable) -> inFlightRequests.release())
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                    if (cause instanceof DeckCreationException) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    return CompletableFuture.failedFuture(new DeckCreationException(unexpectedErrorMessage, cause));
+                });
+    }
+
+    private DeckDTO readDeck(HttpResponse<byte[]> response) {
+        if (response.statusCode() >= 400) {
+            throw new DeckCreationException("Falha ao se comunicar com a API externa. Status HTTP: "
+                    + response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), DeckDTO.class);
+        } catch (IOException e) {
+            throw new DeckCreationException("Resposta inválida da API externa.", e);
+        }
+    }
+
+    /**
+     * Converte as cartas da resposta da API para o formato compacto usado pelos serviços do jogo.
+     */
+    private static byte[] toCardCodes(List<CardDTO> cards) {
+        byte[] codes = new byte[cards.size()];
+        try {
+            for (int i = 0; i < codes.length; i++) {
+                CardDTO card = cards.get(i);
+                codes[i] = CardCode.of(card.getValue(), card.getSuit());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DeckCreationException("Resposta inválida da API externa: " + e.getMessage(), e);
+        }
+        return codes;
+    }
+
+    private void beginDraw(String deckId) {
+        inFlightDrawsByDeck.compute(deckId, (id, draws) -> {
+            InFlightDraws current = draws == null ? new InFlightDraws() : draws;
+            current.count++;
+            return current;
+        });
+    }
+
+    private void endDraw(String deckId) {
+        // Enquanto esta compra estiver registrada, a entrada do deck não é removida por outra thread
+        InFlightDraws draws = inFlightDrawsByDeck.get(deckId);
+        InFlightDraws remaining = inFlightDrawsByDeck.computeIfPresent(deckId,
+                (id, current) -> --current.count == 0 ? null : current);
+        if (remaining == null) {
+            draws.settled.complete(null);
+        }
+    }
+
+    private String createDeckUrl(int numberOfDecks) {
+        return UriComponentsBuilder.fromHttpUrl(apiBaseUrl + "new/shuffle/")
+                .queryParam("deck_count", numberOfDecks)
+                .toUriString();
+    }
+
+    private String dealCardsUrl(String deckId, int numberOfCards) {
+        return UriComponentsBuilder.fromHttpUrl(apiBaseUrl + "{deck_id}/draw/")
+                .queryParam("count", numberOfCards)
+                .buildAndExpand(deckId)
+                .toUriString();
+    }
+
+    private static final class InFlightDraws {
+
+        private int count;
+        private final CompletableFuture<Void> settled = new CompletableFuture<>();
+
+    }
+
 }
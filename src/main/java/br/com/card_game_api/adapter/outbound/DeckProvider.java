@@ -0,0 +1,67 @@
+package br.com.card_game_api.adapter.outbound;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.exception.DeckCreationException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Porta de saída para a criação de baralhos e distribuição de cartas.
+ * Permite trocar a origem das cartas (API externa ou baralho em memória) sem alterar os serviços do jogo.
+ */
+public interface DeckProvider {
+
+    /**
+     * Cria e embaralha um novo deck com a quantidade especificada de baralhos.
+     *
+     * @param numberOfDecks O número de baralhos que compõem o deck.
+     * @return O deckId do deck criado.
+     * @throws DeckCreationException Se a criação do deck falhar.
+     */
+    String createDeck(int numberOfDecks) throws DeckCreationException;
+
+    /**
+     * Retira cartas do topo do deck.
+     *
+     * @param deckId O ID do deck a ser utilizado.
+     * @param numberOfCards O número de cartas a serem distribuídas.
+     * @return As cartas distribuídas no formato de {@link CardCode}, na ordem em que foram retiradas.
+     * @throws DeckCreationException Se a distribuição das cartas falhar.
+     */
+    byte[] dealCards(String deckId, int numberOfCards) throws DeckCreationException;
+
+    /**
+     * Retira cartas do topo do deck, informando quantas cartas o jogo ainda vai retirar dele, incluindo esta
+     * compra. Provedores que podem retirar cartas a mais (como o hedge da API externa) usam essa quantidade para
+     * não deixar o deck sem cartas antes do fim do jogo.
+     *
+     * @param deckId O ID do deck a ser utilizado.
+     * @param numberOfCards O número de cartas a serem distribuídas.
+     * @param outstandingCards O número de cartas que o jogo ainda vai retirar do deck, incluindo esta compra.
+     * @return As cartas distribuídas no formato de {@link CardCode}, na ordem em que foram retiradas.
+     * @throws DeckCreationException Se a distribuição das cartas falhar.
+     */
+    default byte[] dealCards(String deckId, int numberOfCards, int outstandingCards) throws DeckCreationException {
+        return dealCards(deckId, numberOfCards);
+    }
+
+    /**
+     * Devolve ao deck todas as cartas já retiradas e embaralha novamente, permitindo reutilizá-lo em outro jogo.
+     *
+     * @param deckId O ID do deck a ser reembaralhado.
+     * @throws DeckCreationException Se o deck não existir ou o reembaralhamento falhar.
+     */
+    void shuffleDeck(String deckId) throws DeckCreationException;
+
+    /**
+     * Indica quando o deck não tem mais compras em andamento, inclusive as que o jogo já não espera (como a
+     * compra perdedora de um hedge). O deck só deve ser reembaralhado para outro jogo depois disso.
+     *
+     * @param deckId O ID do deck.
+     * @return Future completada quando não houver compras em andamento no deck.
+     */
+    default CompletableFuture<Void> drawsSettled(String deckId) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+}
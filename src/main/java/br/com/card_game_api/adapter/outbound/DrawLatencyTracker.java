@@ -0,0 +1,49 @@
+package br.com.card_game_api.adapter.outbound;
+
+import java.util.Arrays;
+
+/**
+ * Janela circular com as latências mais recentes das compras de cartas na API externa.
+ * Usada para calcular o atraso das requisições de hedge a partir de um percentil observado.
+ */
+class DrawLatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    DrawLatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    synchronized int sampleCount() {
+        return count;
+    }
+
+    /**
+     * Calcula o percentil informado (0 a 100) sobre as amostras da janela.
+     *
+     * @return A latência do percentil em milissegundos, ou -1 se ainda não houver amostras.
+     */
+    long percentile(double percentile) {
+        long[] snapshot;
+        synchronized (this) {
+            if (count == 0) {
+                return -1;
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile / 100.0 * snapshot.length) - 1;
+        return snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+
+}
@@ -0,0 +1,185 @@
+package br.com.card_game_api.adapter.outbound;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.exception.DeckCreationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementação em memória do {@link DeckProvider}.
+ * Embaralha e distribui cartas localmente, sem nenhuma chamada de rede. Cada carta é guardada
+ * como um único byte no formato de {@link CardCode}, e o deck mantém apenas o vetor embaralhado e a posição do topo.
+ * Decks esgotados continuam em memória (podem ser reembaralhados) até serem descartados pelo limite de decks ativos.
+ */
+@Component
+public class LocalDeckProvider implements DeckProvider {
+
+    static final String DECK_ID_PREFIX = "local-";
+
+    private static final int CARDS_PER_DECK = CardCode.CARDS_PER_DECK;
+    private static final char[] ID_ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int ID_LENGTH = 12;
+
+    private final Map<String, LocalDeck> decks = new ConcurrentHashMap<>();
+    private final Queue<String> creationOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedDecks = new AtomicInteger();
+
+    /**
+     * Quantidade máxima de decks mantidos em memória. Ao ultrapassar o limite, os decks mais antigos são descartados.
+     */
+    @Value("${deck.local.max-active-decks:10000}")
+    private int maxActiveDecks = 10000;
+
+    /**
+     * Cria um novo deck embaralhado em memória.
+     *
+     * @param numberOfDecks O número de baralhos que compõem o deck.
+     * @return O deckId do deck criado.
+     */
+    @Override
+    public String createDeck(int numberOfDecks) {
+        if (numberOfDecks <= 0) {
+            throw new IllegalArgumentException("O número de decks deve ser maior que zero.");
+        }
+
+        String deckId = generateDeckId();
+        decks.put(deckId, new LocalDeck(numberOfDecks));
+        creationOrder.add(deckId);
+        queuedDecks.incrementAndGet();
+        evictOldestDecks();
+        return deckId;
+    }
+
+    /**
+     * Retira cartas do topo de um deck em memória.
+     * Se o deck tiver menos cartas que o solicitado, retorna apenas as cartas restantes.
+     *
+     * @param deckId O ID do deck a ser utilizado.
+     * @param numberOfCards O número de cartas a serem distribuídas.
+     * @return As cartas distribuídas.
+     * @throws DeckCreationException Se o deck não existir ou não tiver mais cartas.
+     */
+    @Override
+    public byte[] dealCards(String deckId, int numberOfCards) {
+        if (deckId == null || deckId.isEmpty()) {
+            throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
+        }
+
+        if (numberOfCards <= 0) {
+            throw new IllegalArgumentException("O número de cartas deve ser maior que zero.");
+        }
+
+        LocalDeck deck = decks.get(deckId);
+        if (deck == null) {
+            throw new DeckCreationException("Deck local não encontrado: " + deckId);
+        }
+
+        byte[] drawn = deck.draw(numberOfCards);
+        if (drawn.length == 0) {
+            throw new DeckCreationException("Erro ao distribuir as cartas. O deck " + deckId + " não possui mais cartas.");
+        }
+        return drawn;
+    }
+
+    /**
+     * Devolve todas as cartas ao deck em memória e o embaralha novamente.
+     *
+     * @param deckId O ID do deck a ser reembaralhado.
+     * @throws DeckCreationException Se o deck não existir mais em memória.
+     */
+    @Override
+    public void shuffleDeck(String deckId) {
+        if (deckId == null || deckId.isEmpty()) {
+            throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
+        }
+
+        LocalDeck deck = decks.get(deckId);
+        if (deck == null) {
+            throw new DeckCreationException("Deck local não encontrado: " + deckId);
+        }
+        deck.reshuffle();
+    }
+
+    /**
+     * Indica se o deckId foi emitido por este provedor.
+     */
+    public boolean isLocalDeck(String deckId) {
+        return deckId != null && deckId.startsWith(DECK_ID_PREFIX);
+    }
+
+    int activeDecks() {
+        return decks.size();
+    }
+
+    /**
+     * Mantém a fila de criação limitada, descartando os decks mais antigos.
+     * Decks já esgotados continuam ocupando uma posição na fila até serem descartados.
+     */
+    private void evictOldestDecks() {
+        while (queuedDecks.get() > maxActiveDecks) {
+            String oldest = creationOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            queuedDecks.decrementAndGet();
+            decks.remove(oldest);
+        }
+    }
+
+    private static String generateDeckId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] id = new char[ID_LENGTH];
+        for (int i = 0; i < ID_LENGTH; i++) {
+            id[i] = ID_ALPHABET[random.nextInt(ID_ALPHABET.length)];
+        }
+        return DECK_ID_PREFIX + new String(id);
+    }
+
+    /**
+     * Estado compacto de um deck: as cartas embaralhadas e a posição da próxima carta a ser retirada.
+     */
+    private static final class LocalDeck {
+
+        private final byte[] cards;
+        private int position;
+
+        private LocalDeck(int numberOfDecks) {
+            cards = new byte[numberOfDecks * CARDS_PER_DECK];
+            for (int i = 0; i < cards.length; i++) {
+                cards[i] = (byte) (i % CARDS_PER_DECK);
+            }
+            shuffle(cards);
+        }
+
+        private synchronized byte[] draw(int numberOfCards) {
+            int count = Math.min(numberOfCards, cards.length - position);
+            byte[] drawn = new byte[count];
+            System.arraycopy(cards, position, drawn, 0, count);
+            position += count;
+            return drawn;
+        }
+
+        private synchronized void reshuffle() {
+            position = 0;
+            shuffle(cards);
+        }
+
+        private static void shuffle(byte[] cards) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = cards.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte tmp = cards[i];
+                cards[i] = cards[j];
+                cards[j] = tmp;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package br.com.card_game_api.adapter.outbound;
+
+import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.DeckUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Camada de resiliência em torno de um {@link DeckProvider} remoto.
+ * <p>
+ * Cada chamada passa por um bulkhead (limite de chamadas simultâneas, sem espera) e por um circuit breaker
+ * por taxa de falhas e de chamadas lentas. Apenas a indisponibilidade da API (circuito aberto, bulkhead cheio ou
+ * tempo esgotado) tem fallback; as demais falhas, como deck inexistente ou sem cartas suficientes, são propagadas.
+ * <ul>
+ *     <li>Na criação, o deck vem do {@link LocalDeckProvider}.</li>
+ *     <li>Na distribuição, a falha é propagada como {@link DeckUnavailableException}: as cartas já retiradas
+ *     pertencem ao deck remoto, então o jogo inteiro é refeito com um único deck local pelo
+ *     {@code CardGameService}, e não apenas a compra que falhou.</li>
+ * </ul>
+ * <p>
+ * O estado do circuito fica em {@code /actuator/circuitbreakers} e no health. Os contadores
+ * {@code deck.resilience.rejected} (reason=circuit_open|bulkhead_full) e {@code deck.resilience.fallback}
+ * mostram quantas chamadas deixaram de ir à API externa.
+ */
+public class ResilientDeckProvider implements DeckProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilientDeckProvider.class);
+
+    private final DeckProvider remoteDeckProvider;
+    private final LocalDeckProvider localDeckProvider;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+    private final Counter createDeckFallbacks;
+
+    public ResilientDeckProvider(DeckProvider remoteDeckProvider,
+                                 LocalDeckProvider localDeckProvider,
+                                 CircuitBreaker circuitBreaker,
+                                 Bulkhead bulkhead,
+                                 MeterRegistry meterRegistry) {
+        this.remoteDeckProvider = remoteDeckProvider;
+        this.localDeckProvider = localDeckProvider;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.circuitOpenRejections = Counter.builder("deck.resilience.rejected")
+                .description("Chamadas à API externa rejeitadas pela camada de resiliência")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("deck.resilience.rejected")
+                .description("Chamadas à API externa rejeitadas pela camada de resiliência")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        this.createDeckFallbacks = Counter.builder("deck.resilience.fallback")
+                .description("Operações atendidas pelo baralho local no lugar da API externa")
+                .tag("operation", "createDeck")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String createDeck(int numberOfDecks) {
+        if (numberOfDecks <= 0) {
+            throw new IllegalArgumentException("O número de decks deve ser maior que zero.");
+        }
+
+        try {
+            return protect(() -> remoteDeckProvider.createDeck(numberOfDecks));
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw e;
+            }
+            recordRejection(e);
+            LOGGER.warn("Criando deck local no lugar da API externa: {}", e.getMessage());
+            createDeckFallbacks.increment();
+            return localDeckProvider.createDeck(numberOfDecks);
+        }
+    }
+
+    @Override
+    public byte[] dealCards(String deckId, int numberOfCards) {
+        return dealCards(deckId, numberOfCards, numberOfCards);
+    }
+
+    @Override
+    public byte[] dealCards(String deckId, int numberOfCards, int outstandingCards) {
+        if (localDeckProvider.isLocalDeck(deckId)) {
+            return localDeckProvider.dealCards(deckId, numberOfCards);
+        }
+
+        if (deckId == null || deckId.isEmpty()) {
+            throw new IllegalArgumentException("O deckId não pode ser nulo ou vazio.");
+        }
+
+        if (numberOfCards <= 0) {
+            throw new IllegalArgumentException("O número de cartas deve ser maior que zero.");
+        }
+
+        try {
+            return protect(() -> remoteDeckProvider.dealCards(deckId, numberOfCards, outstandingCards));
+        } catch (RuntimeException e) {
+            if (!isUnavailable(e)) {
+                throw e;
+            }
+            recordRejection(e);
+            throw new DeckUnavailableException("API externa indisponível para distribuir as cartas do deck "
+                    + deckId + ".", e);
+        }
+    }
+
+    /**
+     * Reembaralha o deck no provedor de origem. Não há fallback: se o deck remoto não puder ser reembaralhado,
+     * a falha é propagada para que o deck deixe de ser reutilizado.
+     */
+    @Override
+    public void shuffleDeck(String deckId) {
+        if (localDeckProvider.isLocalDeck(deckId)) {
+            localDeckProvider.shuffleDeck(deckId);
+            return;
+        }
+
+        try {
+            protect(() -> {
+                remoteDeckProvider.shuffleDeck(deckId);
+                return deckId;
+            });
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            recordRejection(e);
+            throw new DeckCreationException("API externa indisponível para reembaralhar o deck " + deckId + ".", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> drawsSettled(String deckId) {
+        return localDeckProvider.isLocalDeck(deckId)
+                ? localDeckProvider.drawsSettled(deckId)
+                : remoteDeckProvider.drawsSettled(deckId);
+    }
+
+    private <T> T protect(Supplier<T> call) {
+        Supplier<T> limited = Bulkhead.decorateSupplier(bulkhead, call);
+        return CircuitBreaker.decorateSupplier(circuitBreaker, limited).get();
+    }
+
+    /**
+     * Indisponibilidade da API: chamada rejeitada pelo circuito ou pelo bulkhead, ou tempo esgotado.
+     */
+    static boolean isUnavailable(Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private void recordRejection(RuntimeException e) {
+        if (e instanceof CallNotPermittedException) {
+            circuitOpenRejections.increment();
+        } else if (e instanceof BulkheadFullException) {
+            bulkheadRejections.increment();
+        }
+    }
+
+}
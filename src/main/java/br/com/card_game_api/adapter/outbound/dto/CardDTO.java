@@ -1,9 +1,9 @@
-package br.com.card_game_api.dto;
+package br.com.card_game_api.adapter.outbound.dto;
 
 import jakarta.validation.constraints.NotNull;
 
 /**
- * DTO que representa uma carta do baralho.
+ * DTO que representa uma carta do baralho, no formato retornado pela API externa.
  */
 public class CardDTO {
 
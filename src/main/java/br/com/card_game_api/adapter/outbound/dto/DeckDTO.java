@@ -1,6 +1,6 @@
 package br.com.card_game_api.adapter.outbound.dto;
 
-import br.com.card_game_api.dto.CardDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -8,6 +8,7 @@ import java.util.List;
 /**
  * DTO para representar a resposta da API externa quando criamos um deck ou distribuímos cartas.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class DeckDTO {
 
     @JsonProperty("deck_id")
@@ -1,14 +1,65 @@
 package br.com.card_game_api.config;
 
+import br.com.card_game_api.domain.HandFormatter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class AppConfig {
 
+    /**
+     * Cliente HTTP compartilhado para a Deck of Cards API.
+     * Reutiliza conexões (keep-alive), negocia HTTP/2 quando o servidor suporta e processa as respostas
+     * assíncronas em um pool de threads limitado.
+     */
+    @Bean
+    public HttpClient deckOfCardsHttpClient(@Value("${deckofcards.api.connect-timeout:2s}") Duration connectTimeout,
+                                            @Value("${deckofcards.api.client-threads:4}") int clientThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("deck-api-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(clientThreads, 1), threadFactory);
+
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * RestTemplate usado nas chamadas síncronas, apoiado no mesmo {@link HttpClient} e com tempo máximo de leitura,
+     * para que uma chamada lenta não prenda a thread da requisição indefinidamente.
+     */
+    @Bean
+    public RestTemplate restTemplate(HttpClient deckOfCardsHttpClient,
+                                     @Value("${deckofcards.api.read-timeout:5s}") Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(deckOfCardsHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Idioma das respostas a partir do cabeçalho {@code Accept-Language}: português (padrão) ou inglês.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public LocaleResolver localeResolver() {
+        AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+        localeResolver.setSupportedLocales(List.of(HandFormatter.DEFAULT_LOCALE, Locale.ENGLISH));
+        localeResolver.setDefaultLocale(HandFormatter.DEFAULT_LOCALE);
+        return localeResolver;
     }
 }
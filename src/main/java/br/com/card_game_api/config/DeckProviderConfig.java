@@ -0,0 +1,58 @@
+package br.com.card_game_api.config;
+
+import br.com.card_game_api.adapter.outbound.DeckOfCardsClient;
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import br.com.card_game_api.adapter.outbound.LocalDeckProvider;
+import br.com.card_game_api.adapter.outbound.ResilientDeckProvider;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Seleciona, por configuração, qual {@link DeckProvider} é utilizado pelos serviços do jogo.
+ * <ul>
+ *     <li>{@code deck.provider=remote}: Deck of Cards API (padrão)</li>
+ *     <li>{@code deck.provider=local}: baralho embaralhado em memória, sem chamadas de rede</li>
+ * </ul>
+ * Com o provedor remoto e {@code deck.resilience.enabled=true}, as chamadas passam pelo
+ * {@link ResilientDeckProvider}, configurado pelas instâncias {@code deckOfCards} do Resilience4j.
+ */
+@Configuration
+public class DeckProviderConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckProviderConfig.class);
+
+    static final String DECK_OF_CARDS_INSTANCE = "deckOfCards";
+
+    @Bean
+    @Primary
+    public DeckProvider deckProvider(@Value("${deck.provider:remote}") String provider,
+                                     @Value("${deck.resilience.enabled:true}") boolean resilienceEnabled,
+                                     DeckOfCardsClient deckOfCardsClient,
+                                     LocalDeckProvider localDeckProvider,
+                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                     BulkheadRegistry bulkheadRegistry,
+                                     MeterRegistry meterRegistry) {
+        LOGGER.info("Utilizando o provedor de baralhos: {}", provider);
+        return switch (provider.toLowerCase()) {
+            case "remote" -> resilienceEnabled
+                    ? new ResilientDeckProvider(
+                            deckOfCardsClient,
+                            localDeckProvider,
+                            circuitBreakerRegistry.circuitBreaker(DECK_OF_CARDS_INSTANCE),
+                            bulkheadRegistry.bulkhead(DECK_OF_CARDS_INSTANCE),
+                            meterRegistry)
+                    : deckOfCardsClient;
+            case "local" -> localDeckProvider;
+            default -> throw new IllegalStateException("Provedor de baralhos inválido: " + provider
+                    + ". Valores aceitos: remote, local.");
+        };
+    }
+
+}
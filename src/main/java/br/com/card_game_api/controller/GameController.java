@@ -2,16 +2,37 @@ package br.com.card_game_api.controller;
 
 import br.com.card_game_api.domain.GameHistory;
 import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryMapper;
+import br.com.card_game_api.dto.GameHistoryPageDTO;
 import br.com.card_game_api.dto.GameRequestDTO;
+import br.com.card_game_api.dto.GameStatsDTO;
+import br.com.card_game_api.dto.ScoreDistributionDTO;
+import br.com.card_game_api.dto.SimulationRequestDTO;
+import br.com.card_game_api.dto.SimulationResultDTO;
 import br.com.card_game_api.service.CardGameService;
+import br.com.card_game_api.service.GameBatchService;
+import br.com.card_game_api.service.GameHistoryExportService;
+import br.com.card_game_api.service.GameHistoryFilter;
+import br.com.card_game_api.service.GameHistoryPage;
+import br.com.card_game_api.service.GameHistoryResponseCache;
 import br.com.card_game_api.service.GamePersistenceService;
+import br.com.card_game_api.service.GameSimulationService;
+import br.com.card_game_api.service.GameStatsService;
+import br.com.card_game_api.service.ScoreDistributionService;
 import jakarta.validation.Valid;
-import org.modelmapper.ModelMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controlador responsável por expor os endpoints da API REST.
@@ -20,68 +41,240 @@ import java.util.List;
 @RequestMapping("/game")
 public class GameController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final CardGameService cardGameService;
+    private final GameBatchService gameBatchService;
     private final GamePersistenceService gamePersistenceService;
-    private final ModelMapper modelMapper;
+    private final GameHistoryExportService gameHistoryExportService;
+    private final GameHistoryResponseCache gameHistoryResponseCache;
+    private final GameStatsService gameStatsService;
+    private final GameSimulationService gameSimulationService;
+    private final ScoreDistributionService scoreDistributionService;
 
-    public GameController(CardGameService cardGameService, GamePersistenceService gamePersistenceService, ModelMapper modelMapper) {
+    public GameController(CardGameService cardGameService,
+                          GameBatchService gameBatchService,
+                          GamePersistenceService gamePersistenceService,
+                          GameHistoryExportService gameHistoryExportService,
+                          GameHistoryResponseCache gameHistoryResponseCache,
+                          GameStatsService gameStatsService,
+                          GameSimulationService gameSimulationService,
+                          ScoreDistributionService scoreDistributionService) {
         this.cardGameService = cardGameService;
+        this.gameBatchService = gameBatchService;
         this.gamePersistenceService = gamePersistenceService;
-        this.modelMapper = modelMapper;
+        this.gameHistoryExportService = gameHistoryExportService;
+        this.gameHistoryResponseCache = gameHistoryResponseCache;
+        this.gameStatsService = gameStatsService;
+        this.gameSimulationService = gameSimulationService;
+        this.scoreDistributionService = scoreDistributionService;
     }
 
     /**
      * Endpoint para iniciar um novo jogo.
      *
+     * As mãos dos jogadores são traduzidas conforme o cabeçalho {@code Accept-Language} (português por padrão).
+     *
      * @param gameRequestDTO Objeto que contém o número de jogadores (numPlayers) e o número de cartas por jogador (cardsPerHand).
+     * @param locale Idioma da requisição
      * @return Resposta contendo o histórico do jogo em formato DTO e o status HTTP 201 (Criado), caso o jogo seja iniciado com sucesso.
      */
     @PostMapping("/play")
-    public ResponseEntity<GameHistoryDTO> playGame(@Valid @RequestBody GameRequestDTO gameRequestDTO) {
+    public ResponseEntity<GameHistoryDTO> playGame(@Valid @RequestBody GameRequestDTO gameRequestDTO, Locale locale) {
         int numPlayers = gameRequestDTO.getNumPlayers();
         int cardsPerHand = gameRequestDTO.getCardsPerHand();
 
         GameHistory gameHistory = cardGameService.playGame(numPlayers, cardsPerHand);
 
-        GameHistoryDTO gameHistoryDTO = modelMapper.map(gameHistory, GameHistoryDTO.class);
+        GameHistoryDTO gameHistoryDTO = GameHistoryMapper.toDTO(gameHistory, locale);
 
         return new ResponseEntity<>(gameHistoryDTO, HttpStatus.CREATED);
     }
 
+    /**
+     * Endpoint para iniciar vários jogos em uma única requisição. Os jogos são executados em paralelo e gravados
+     * juntos, em uma única transação.
+     *
+     * @param gameRequestDTOs Número de jogadores e cartas por jogador de cada jogo
+     * @param locale          Idioma da requisição
+     * @return Resposta com os históricos dos jogos, na ordem da requisição, e o status HTTP 201 (Criado)
+     */
+    @PostMapping("/play/batch")
+    public ResponseEntity<List<GameHistoryDTO>> playGames(@Valid @RequestBody List<GameRequestDTO> gameRequestDTOs,
+                                                          Locale locale) {
+        List<GameHistory> gameHistories = gameBatchService.playGames(gameRequestDTOs);
+
+        List<GameHistoryDTO> gameHistoryDTOs = new ArrayList<>(gameHistories.size());
+        for (GameHistory gameHistory : gameHistories) {
+            gameHistoryDTOs.add(GameHistoryMapper.toDTO(gameHistory, locale));
+        }
+        return new ResponseEntity<>(gameHistoryDTOs, HttpStatus.CREATED);
+    }
+
+    /**
+     * Endpoint para simular muitos jogos em memória (Monte Carlo), sem deck remoto e sem gravar os jogos.
+     *
+     * @param simulationRequestDTO Formato dos jogos, quantidade de jogos e semente opcional
+     * @return Resposta com as estatísticas agregadas da simulação
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<SimulationResultDTO> simulate(@Valid @RequestBody SimulationRequestDTO simulationRequestDTO) {
+        SimulationResultDTO result = gameSimulationService.simulate(
+                simulationRequestDTO.getNumPlayers(),
+                simulationRequestDTO.getCardsPerHand(),
+                simulationRequestDTO.getGames(),
+                simulationRequestDTO.getSeed());
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Endpoint para consultar a distribuição exata da pontuação de uma mão e as probabilidades de vitória e de
+     * empate de um jogador, calculadas sem simulação.
+     *
+     * @param numPlayers   Número de jogadores
+     * @param cardsPerHand Número de cartas por jogador
+     * @return Resposta com a distribuição das pontuações e as probabilidades
+     */
+    @GetMapping("/score-distribution")
+    public ResponseEntity<ScoreDistributionDTO> getScoreDistribution(@RequestParam int numPlayers,
+                                                                     @RequestParam int cardsPerHand) {
+        return ResponseEntity.ok(scoreDistributionService.getDistribution(numPlayers, cardsPerHand));
+    }
+
     /**
      * Endpoint para consultar o histórico de um jogo pelo ID.
      *
+     * A resposta ({@link GameHistoryDTO} em JSON) vem pronta do {@link GameHistoryResponseCache}.
+     *
      * @param gameId ID do jogo
      * @return Resposta com o histórico do jogo ou mensagem de erro
      */
-    @GetMapping("/history/{gameId}")
-    public ResponseEntity<GameHistoryDTO> getGameHistory(@PathVariable Long gameId) {
-        GameHistory gameHistory = gamePersistenceService.getGameHistoryById(gameId);
+    @GetMapping(value = "/history/{gameId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getGameHistory(@PathVariable Long gameId) {
+        byte[] gameHistoryJson = gameHistoryResponseCache.getGameHistoryJson(gameId);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(gameHistoryJson);
+    }
 
-        // Converte GameHistory para GameHistoryDTO
-        GameHistoryDTO gameHistoryDTO = modelMapper.map(gameHistory, GameHistoryDTO.class);
+    /**
+     * Endpoint para consultar um jogo com todos os jogadores, as pontuações e as mãos (traduzidas conforme o
+     * cabeçalho {@code Accept-Language}). O jogo e os jogadores são lidos em uma única consulta.
+     *
+     * @param gameId ID do jogo
+     * @param locale Idioma da requisição
+     * @return Resposta com o histórico do jogo e os jogadores
+     */
+    @GetMapping("/history/{gameId}/details")
+    public ResponseEntity<GameHistoryDTO> getGameHistoryDetails(@PathVariable Long gameId, Locale locale) {
+        GameHistory gameHistory = gamePersistenceService.getGameHistoryWithPlayers(gameId);
 
-        return new ResponseEntity<>(gameHistoryDTO, HttpStatus.OK);
+        return ResponseEntity.ok(GameHistoryMapper.toDTO(gameHistory, locale));
     }
 
     /**
-     * Endpoint para consultar o histórico de todos os jogos.
+     * Endpoint para consultar o histórico de jogos, paginado por cursor, do mais recente para o mais antigo.
      *
-     * @return Resposta com uma lista do histórico de jogos ou mensagem de erro, caso não haja jogos.
+     * @param cursor Valor de {@code nextCursor} da página anterior; ausente na primeira página
+     * @param limit  Tamanho da página (padrão 50, máximo 200)
+     * @param from     Início do período (inclusivo), no formato ISO 8601
+     * @param to       Fim do período (exclusivo), no formato ISO 8601
+     * @param winner   Identificador de um vencedor (ex.: "Jogador 1"), inclusive em empates
+     * @param minScore Pontuação mínima do vencedor (inclusiva)
+     * @param deckId   ID do baralho utilizado (com a reciclagem de decks, vários jogos compartilham o mesmo deck)
+     * @param includePlayers Inclui os jogadores de cada jogo, lidos em uma única consulta para a página inteira
+     * @param locale   Idioma da requisição (mãos dos jogadores)
+     * @return Resposta com a página do histórico, ou 204 (Sem Conteúdo) se não houver jogos.
      */
     @GetMapping("/history")
-    public ResponseEntity<List<GameHistoryDTO>> getAllGameHistories() {
-        List<GameHistory> gameHistories = gamePersistenceService.getAllGameHistories();
+    public ResponseEntity<GameHistoryPageDTO> getGameHistories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + GamePersistenceService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String winner,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(required = false) String deckId,
+            @RequestParam(defaultValue = "false") boolean includePlayers,
+            Locale locale) {
+        GameHistoryFilter filter = new GameHistoryFilter(from, to, winner, minScore, deckId);
+        GameHistoryPage page = gamePersistenceService.getGameHistoryPage(filter, cursor, limit);
 
-        List<GameHistoryDTO> gameHistoryDTOs = gameHistories.stream()
-                .map(gameHistory -> modelMapper.map(gameHistory, GameHistoryDTO.class))
-                .toList();
-
-        if (gameHistoryDTOs.isEmpty()) {
+        if (page.getItems().isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(gameHistoryDTOs);
+        if (!includePlayers) {
+            // Os jogos da página já chegam do banco como DTOs
+            return ResponseEntity.ok(new GameHistoryPageDTO(page.getItems(), page.getNextCursor()));
+        }
+
+        List<Long> gameIds = new ArrayList<>(page.getItems().size());
+        for (GameHistoryDTO item : page.getItems()) {
+            gameIds.add(item.getId());
+        }
+        List<GameHistoryDTO> gameHistoryDTOs = new ArrayList<>(gameIds.size());
+        for (GameHistory gameHistory : gamePersistenceService.getGameHistoriesWithPlayers(gameIds)) {
+            gameHistoryDTOs.add(GameHistoryMapper.toDTO(gameHistory, locale));
+        }
+        return ResponseEntity.ok(new GameHistoryPageDTO(gameHistoryDTOs, page.getNextCursor()));
+    }
+
+    /**
+     * Endpoint para exportar o histórico completo de jogos em NDJSON (um jogo por linha), do mais antigo para o
+     * mais recente. As linhas são enviadas à medida que são lidas do banco.
+     * A resposta é compactada com gzip quando o cliente envia {@code Accept-Encoding: gzip}.
+     *
+     * @param includePlayers Inclui os jogadores de cada jogo, com as mãos no idioma da requisição
+     * @param acceptEncoding Cabeçalho {@code Accept-Encoding} da requisição
+     * @param locale         Idioma da requisição
+     * @return Resposta com o histórico em NDJSON
+     */
+    @GetMapping(value = "/history/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportGameHistories(
+            @RequestParam(defaultValue = "false") boolean includePlayers,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Locale locale) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = output -> {
+            if (!gzip) {
+                gameHistoryExportService.export(output, includePlayers, locale);
+                return;
+            }
+            GZIPOutputStream gzipOutput = new GZIPOutputStream(output, EXPORT_BUFFER_SIZE);
+            gameHistoryExportService.export(gzipOutput, includePlayers, locale);
+            gzipOutput.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Endpoint para consultar as estatísticas agregadas do histórico: jogos disputados, taxa de empates, vitórias
+     * por posição na mesa e maior pontuação (média e máxima) por formato de jogo.
+     * Os totais são mantidos a cada gravação, sem percorrer o histórico.
+     *
+     * @return Resposta com as estatísticas
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<GameStatsDTO> getGameStats() {
+        return ResponseEntity.ok(gameStatsService.getStats());
+    }
+
+    /**
+     * Endpoint para recalcular as estatísticas a partir do histórico de jogos.
+     *
+     * @return Resposta com as estatísticas recalculadas
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<GameStatsDTO> rebuildGameStats() {
+        return ResponseEntity.ok(gameStatsService.rebuildStats());
     }
 
 }
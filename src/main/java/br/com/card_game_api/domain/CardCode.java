@@ -0,0 +1,118 @@
+package br.com.card_game_api.domain;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Representação compacta de uma carta: um único byte de 0 a 51, calculado como {@code naipe * 13 + valor}.
+ * <ul>
+ *     <li>valor: 0 = Ás, 1 a 9 = cartas de 2 a 10, 10 = Valete, 11 = Dama, 12 = Rei</li>
+ *     <li>naipe: 0 = Espadas, 1 = Ouros, 2 = Paus, 3 = Copas</li>
+ * </ul>
+ * Mãos são vetores {@code byte[]}, e pontuação e símbolos são obtidos por tabelas de 52 posições,
+ * sem alocação nem comparação de strings por carta.
+ */
+public final class CardCode {
+
+    public static final int CARDS_PER_DECK = 52;
+    public static final int RANKS = 13;
+
+    private static final String[] VALUE_SYMBOLS = {
+            "ACE", "2", "3", "4", "5", "6", "7", "8", "9", "10", "JACK", "QUEEN", "KING"
+    };
+    private static final String[] SUIT_SYMBOLS = {"SPADES", "DIAMONDS", "CLUBS", "HEARTS"};
+
+    /**
+     * Maior pontuação de uma única carta.
+     */
+    public static final int MAX_SCORE;
+
+    private static final byte[] SCORES = new byte[CARDS_PER_DECK];
+    private static final Map<String, Integer> RANK_BY_VALUE = new HashMap<>();
+    private static final Map<String, Integer> SUIT_BY_NAME = new HashMap<>();
+
+    static {
+        for (int rank = 0; rank < RANKS; rank++) {
+            RANK_BY_VALUE.put(VALUE_SYMBOLS[rank], rank);
+        }
+        for (int suit = 0; suit < SUIT_SYMBOLS.length; suit++) {
+            SUIT_BY_NAME.put(SUIT_SYMBOLS[suit], suit);
+        }
+
+        int[] rankScores = new int[RANKS];
+        for (int rank = 0; rank < RANKS; rank++) {
+            rankScores[rank] = rank + 1;
+        }
+        for (CardValue cardValue : CardValue.values()) {
+            rankScores[RANK_BY_VALUE.get(cardValue.getCardSymbol())] = cardValue.getScore();
+        }
+        for (int code = 0; code < CARDS_PER_DECK; code++) {
+            SCORES[code] = (byte) rankScores[code % RANKS];
+        }
+        int maxScore = 0;
+        for (int rankScore : rankScores) {
+            maxScore = Math.max(maxScore, rankScore);
+        }
+        MAX_SCORE = maxScore;
+    }
+
+    private CardCode() {
+    }
+
+    /**
+     * Converte o valor e o naipe no formato da Deck of Cards API (ex.: {@code "KING"}, {@code "HEARTS"})
+     * para o código compacto da carta.
+     *
+     * @throws IllegalArgumentException Se o valor ou o naipe forem desconhecidos.
+     */
+    public static byte of(String value, String suit) {
+        Integer rank = lookup(RANK_BY_VALUE, value);
+        if (rank == null) {
+            throw new IllegalArgumentException("Valor inválido para a carta: " + value);
+        }
+        Integer suitIndex = lookup(SUIT_BY_NAME, suit);
+        if (suitIndex == null) {
+            throw new IllegalArgumentException("Naipe inválido: " + suit);
+        }
+        return (byte) (suitIndex * RANKS + rank);
+    }
+
+    /**
+     * Pontuação da carta: Ás vale 1, cartas numéricas o próprio número, Valete 11, Dama 12 e Rei 13.
+     */
+    public static int score(byte code) {
+        return SCORES[code];
+    }
+
+    public static int rank(byte code) {
+        return code % RANKS;
+    }
+
+    public static int suit(byte code) {
+        return code / RANKS;
+    }
+
+    /**
+     * Valor da carta no formato da Deck of Cards API.
+     */
+    public static String valueSymbol(byte code) {
+        return VALUE_SYMBOLS[code % RANKS];
+    }
+
+    /**
+     * Naipe da carta no formato da Deck of Cards API.
+     */
+    public static String suitSymbol(byte code) {
+        return SUIT_SYMBOLS[code / RANKS];
+    }
+
+    private static Integer lookup(Map<String, Integer> table, String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        Integer index = table.get(symbol);
+        return index != null ? index : table.get(symbol.toUpperCase(Locale.ROOT));
+    }
+
+}
@@ -1,7 +1,9 @@
 package br.com.card_game_api.domain;
 
-import br.com.card_game_api.dto.CardDTO;
-
+/**
+ * Cartas de figura (e o Ás) com pontuação própria. As demais cartas valem o próprio número.
+ * As pontuações são aplicadas às cartas pela tabela de {@link CardCode}.
+ */
 public enum CardValue {
     ACE("ACE", 1),
     KING("KING", 13),
@@ -24,18 +26,4 @@ public enum CardValue {
         return cardSymbol;
     }
 
-    // Renomeado para evitar ambiguidade
-    public static int getScoreFromCardDTO(CardDTO card) {
-        for (CardValue cardValue : CardValue.values()) {
-            if (cardValue.getCardSymbol().equalsIgnoreCase(card.getValue())) {
-                return cardValue.getScore();
-            }
-        }
-        // Se não for especial, assume que o valor já é numérico
-        try {
-            return Integer.parseInt(card.getValue());
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Valor inválido para a carta: " + card.getValue());
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package br.com.card_game_api.domain;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Parte dos totais dos jogos de um formato (número de jogadores e cartas por jogador), mantidos a cada gravação.
+ * Os totais de cada formato ficam distribuídos em várias linhas ({@code slot}), somadas na leitura. As linhas são
+ * atualizadas por upsert em {@code GameStatsService}; a entidade é usada apenas para leitura.
+ */
+@Entity
+@Table(name = "game_stats_by_format")
+@IdClass(GameFormatStats.Key.class)
+public class GameFormatStats {
+
+    @Id
+    private int numberOfPlayers;
+
+    @Id
+    private int cardsPerPlayer;
+
+    @Id
+    private int slot;
+
+    @Column(nullable = false)
+    private long games; // Quantidade de jogos
+
+    @Column(nullable = false)
+    private long ties; // Jogos com mais de um vencedor
+
+    @Column(nullable = false)
+    private long highestScoreSum; // Soma das maiores pontuações, para a média
+
+    @Column(nullable = false)
+    private int highestScoreMax; // Maior pontuação entre todos os jogos
+
+    public GameFormatStats() {}
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public int getCardsPerPlayer() {
+        return cardsPerPlayer;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public long getHighestScoreSum() {
+        return highestScoreSum;
+    }
+
+    public int getHighestScoreMax() {
+        return highestScoreMax;
+    }
+
+    /**
+     * Chave composta: número de jogadores, cartas por jogador e linha do formato.
+     */
+    public static class Key implements Serializable {
+
+        private int numberOfPlayers;
+        private int cardsPerPlayer;
+        private int slot;
+
+        public Key() {}
+
+        public Key(int numberOfPlayers, int cardsPerPlayer, int slot) {
+            this.numberOfPlayers = numberOfPlayers;
+            this.cardsPerPlayer = cardsPerPlayer;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return numberOfPlayers == key.numberOfPlayers && cardsPerPlayer == key.cardsPerPlayer && slot == key.slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(numberOfPlayers, cardsPerPlayer, slot);
+        }
+    }
+
+}
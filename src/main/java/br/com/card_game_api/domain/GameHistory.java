@@ -1,9 +1,12 @@
 package br.com.card_game_api.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,8 +17,17 @@ import java.util.List;
 @Table(name = "game_history")
 public class GameHistory {
 
+    /**
+     * Separador dos vencedores em {@link #getWinner()} quando há empate.
+     */
+    public static final String WINNER_SEPARATOR = ", ";
+
+    /**
+     * Gerado pela sequence {@code game_history_seq}, reservada em blocos de 50 ids (otimizador pooled-lo).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_history_seq")
+    @SequenceGenerator(name = "game_history_seq", sequenceName = "game_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,6 +42,13 @@ public class GameHistory {
     @Column(nullable = false, length = 20)
     private String winner; // Nome(s) do vencedor(es), ex: "Jogador 1"
 
+    /**
+     * Os mesmos vencedores de {@link #winner}, um por posição, para a busca por vencedor pelo índice GIN
+     * {@code idx_game_history_winners} (inclusive nos empates).
+     */
+    @Column(name = "winners")
+    private String[] winners;
+
     @Column(nullable = false)
     private int highestScore; // Maior pontuação
 
@@ -37,15 +56,30 @@ public class GameHistory {
     private LocalDateTime gameTimestamp; // Data e hora do jogo
 
     @OneToMany(mappedBy = "gameHistory", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<Player> players = new ArrayList<>();
 
+    /**
+     * Jogadores gravados na própria linha do jogo (modo {@code game.persistence.mode=document}).
+     * Nulo para os jogos gravados com os jogadores na tabela {@code players}.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "players_json")
+    private List<PlayerDocument> embeddedPlayers;
+
+    /**
+     * Jogadores reconstruídos de {@link #embeddedPlayers}, criados na primeira chamada a {@link #getPlayers()}.
+     */
+    @Transient
+    private List<Player> documentPlayers;
+
     public GameHistory() {}
 
     public GameHistory(int numberOfPlayers, int cardsPerPlayer, String deckId, String winner, int highestScore, LocalDateTime gameTimestamp) {
         this.numberOfPlayers = numberOfPlayers;
         this.cardsPerPlayer = cardsPerPlayer;
         this.deckId = deckId;
-        this.winner = winner;
+        setWinner(winner);
         this.highestScore = highestScore;
         this.gameTimestamp = gameTimestamp;
     }
@@ -88,6 +122,7 @@ public class GameHistory {
 
     public void setWinner(String winner) {
         this.winner = winner;
+        this.winners = winner == null ? null : winner.split(WINNER_SEPARATOR);
     }
 
     public int getHighestScore() {
@@ -106,8 +141,23 @@ public class GameHistory {
         this.gameTimestamp = gameTimestamp;
     }
 
+    /**
+     * Jogadores do jogo, lidos da tabela {@code players} ou, para os jogos gravados no modo documento,
+     * reconstruídos a partir de {@code players_json} uma única vez e devolvidos como lista somente leitura
+     * (os jogadores do documento não são entidades gerenciadas).
+     */
     public List<Player> getPlayers() {
-        return players;
+        if (embeddedPlayers == null) {
+            return players;
+        }
+        if (documentPlayers == null) {
+            List<Player> rebuilt = new ArrayList<>(embeddedPlayers.size());
+            for (PlayerDocument document : embeddedPlayers) {
+                rebuilt.add(document.toPlayer(this));
+            }
+            documentPlayers = Collections.unmodifiableList(rebuilt);
+        }
+        return documentPlayers;
     }
 
     public void setPlayers(List<Player> players) {
@@ -119,4 +169,17 @@ public class GameHistory {
         player.setGameHistory(this);
     }
 
+    /**
+     * Grava os jogadores na própria linha do jogo, em vez da tabela {@code players}.
+     */
+    public void embedPlayers(List<Player> players) {
+        this.embeddedPlayers = PlayerDocument.fromPlayers(players);
+        this.documentPlayers = null;
+        players.forEach(player -> player.setGameHistory(this));
+    }
+
+    public boolean hasEmbeddedPlayers() {
+        return embeddedPlayers != null;
+    }
+
 }
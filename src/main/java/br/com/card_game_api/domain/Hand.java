@@ -0,0 +1,73 @@
+package br.com.card_game_api.domain;
+
+import java.util.Arrays;
+
+/**
+ * Mão de um jogador: as cartas no formato de {@link CardCode}, na ordem em que foram recebidas.
+ * <p>
+ * É imutável e guardada no banco como um byte por carta (coluna {@code players.hand_codes}, via
+ * {@link HandConverter}). O texto exibido ao jogador é montado apenas na resposta, por {@link HandFormatter}.
+ */
+public final class Hand {
+
+    private static final Hand EMPTY = new Hand(new byte[0]);
+
+    private final byte[] cards;
+
+    private Hand(byte[] cards) {
+        this.cards = cards;
+    }
+
+    public static Hand of(byte... cards) {
+        return cards.length == 0 ? EMPTY : new Hand(cards.clone());
+    }
+
+    /**
+     * Cria a mão a partir de um trecho das cartas compradas.
+     *
+     * @param cards Cartas compradas
+     * @param from  Posição da primeira carta da mão (inclusiva)
+     * @param to    Posição final da mão (exclusiva)
+     */
+    public static Hand of(byte[] cards, int from, int to) {
+        return from >= to ? EMPTY : new Hand(Arrays.copyOfRange(cards, from, to));
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public byte card(int index) {
+        return cards[index];
+    }
+
+    /**
+     * Cópia das cartas da mão.
+     */
+    public byte[] toBytes() {
+        return cards.clone();
+    }
+
+    /**
+     * Acesso sem cópia para a formatação e a conversão para o banco, que apenas leem o vetor.
+     */
+    byte[] codes() {
+        return cards;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Hand hand && Arrays.equals(cards, hand.cards));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cards);
+    }
+
+    @Override
+    public String toString() {
+        return HandFormatter.format(this);
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.com.card_game_api.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte a {@link Hand} para a coluna {@code bytea}: um byte por carta, no formato de {@link CardCode}.
+ */
+@Converter
+public class HandConverter implements AttributeConverter<Hand, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(Hand hand) {
+        return hand == null ? null : hand.codes();
+    }
+
+    @Override
+    public Hand convertToEntityAttribute(byte[] codes) {
+        if (codes == null) {
+            return null;
+        }
+        for (byte code : codes) {
+            if (code < 0 || code >= CardCode.CARDS_PER_DECK) {
+                throw new IllegalArgumentException("Código de carta inválido: " + code);
+            }
+        }
+        return Hand.of(codes);
+    }
+
+}
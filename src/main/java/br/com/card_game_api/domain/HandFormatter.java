@@ -0,0 +1,186 @@
+package br.com.card_game_api.domain;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formata mãos de cartas no texto exibido ao jogador, no idioma da requisição.
+ * <ul>
+ *     <li>português (padrão): {@code "Ás de Copas, 10 de Paus"}</li>
+ *     <li>inglês: {@code "Ace of Hearts, 10 of Clubs"}</li>
+ * </ul>
+ * Os rótulos das 52 cartas são montados uma única vez por idioma (em português, a partir de
+ * {@link TranslatedCardValue} e {@link TranslatedCardSuit}). Cada mão é escrita em um {@link StringBuilder}
+ * reaproveitado por thread e dimensionado antes da escrita, de modo que formatar uma mão gera apenas a
+ * {@code String} final.
+ */
+public final class HandFormatter {
+
+    public static final Locale DEFAULT_LOCALE = Locale.forLanguageTag("pt-BR");
+
+    private static final String SEPARATOR = ", ";
+
+    /**
+     * Mãos que exigiriam um buffer maior que este limite usam um buffer próprio, para que a thread
+     * não fique retendo memória depois de um jogo muito grande.
+     */
+    private static final int MAX_REUSED_CAPACITY = 16 * 1024;
+
+    private static final String[] ENGLISH_VALUES = {
+            "Ace", "2", "3", "4", "5", "6", "7", "8", "9", "10", "Jack", "Queen", "King"
+    };
+    private static final String[] ENGLISH_SUITS = {"Spades", "Diamonds", "Clubs", "Hearts"};
+
+    private static final Labels PORTUGUESE = portugueseLabels();
+    private static final Labels ENGLISH = englishLabels();
+
+    /**
+     * Rótulo em português de cada carta, para converter o texto gravado antes da coluna {@code hand_codes}.
+     */
+    private static final Map<String, Byte> CODE_BY_PORTUGUESE_LABEL = new HashMap<>();
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    static {
+        for (byte code = 0; code < CardCode.CARDS_PER_DECK; code++) {
+            CODE_BY_PORTUGUESE_LABEL.put(PORTUGUESE.labels[code], code);
+        }
+    }
+
+    private HandFormatter() {
+    }
+
+    /**
+     * Rótulo em português de uma carta (ex.: {@code "Rei de Ouros"}).
+     */
+    public static String label(byte code) {
+        return PORTUGUESE.labels[code];
+    }
+
+    /**
+     * Rótulo de uma carta no idioma informado.
+     */
+    public static String label(byte code, Locale locale) {
+        return labelsFor(locale).labels[code];
+    }
+
+    public static String format(Hand hand) {
+        return format(hand, DEFAULT_LOCALE);
+    }
+
+    public static String format(Hand hand, Locale locale) {
+        byte[] codes = hand.codes();
+        return format(codes, 0, codes.length, locale);
+    }
+
+    public static String format(byte[] cards, int from, int to) {
+        return format(cards, from, to, DEFAULT_LOCALE);
+    }
+
+    /**
+     * Formata as cartas de um trecho do vetor, separadas por vírgula.
+     *
+     * @param cards  Cartas compradas, no formato de {@link CardCode}
+     * @param from   Posição da primeira carta da mão (inclusiva)
+     * @param to     Posição final da mão (exclusiva)
+     * @param locale Idioma da resposta; idiomas sem tradução usam o português
+     * @return Texto da mão, ou uma string vazia se o trecho não tiver cartas
+     */
+    public static String format(byte[] cards, int from, int to, Locale locale) {
+        int count = to - from;
+        if (count <= 0) {
+            return "";
+        }
+
+        Labels labels = labelsFor(locale);
+        int capacity = count * (labels.maxLength + SEPARATOR.length());
+        StringBuilder hand;
+        if (capacity > MAX_REUSED_CAPACITY) {
+            hand = new StringBuilder(capacity);
+        } else {
+            hand = BUFFER.get();
+            hand.setLength(0);
+            hand.ensureCapacity(capacity);
+        }
+
+        hand.append(labels.labels[cards[from]]);
+        for (int i = from + 1; i < to; i++) {
+            hand.append(SEPARATOR).append(labels.labels[cards[i]]);
+        }
+        return hand.toString();
+    }
+
+    /**
+     * Converte o texto em português gravado pelas versões anteriores (ex.: {@code "Ás de Copas, 10 de Paus"})
+     * de volta para a mão.
+     *
+     * @throws IllegalArgumentException Se alguma carta do texto não for reconhecida.
+     */
+    public static Hand parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Hand.of();
+        }
+
+        String[] labels = text.split(SEPARATOR);
+        byte[] codes = new byte[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            Byte code = CODE_BY_PORTUGUESE_LABEL.get(labels[i].trim());
+            if (code == null) {
+                throw new IllegalArgumentException("Carta não reconhecida: " + labels[i]);
+            }
+            codes[i] = code;
+        }
+        return Hand.of(codes);
+    }
+
+    private static Labels labelsFor(Locale locale) {
+        return locale != null && "en".equals(locale.getLanguage()) ? ENGLISH : PORTUGUESE;
+    }
+
+    private static Labels portugueseLabels() {
+        String[] labels = new String[CardCode.CARDS_PER_DECK];
+        for (byte code = 0; code < CardCode.CARDS_PER_DECK; code++) {
+            labels[code] = translatedValue(CardCode.valueSymbol(code)) + " de "
+                    + TranslatedCardSuit.valueOf(CardCode.suitSymbol(code)).getTranslatedSuit();
+        }
+        return new Labels(labels);
+    }
+
+    private static Labels englishLabels() {
+        String[] labels = new String[CardCode.CARDS_PER_DECK];
+        for (byte code = 0; code < CardCode.CARDS_PER_DECK; code++) {
+            labels[code] = ENGLISH_VALUES[CardCode.rank(code)] + " of " + ENGLISH_SUITS[CardCode.suit(code)];
+        }
+        return new Labels(labels);
+    }
+
+    private static String translatedValue(String valueSymbol) {
+        for (TranslatedCardValue translatedCardValue : TranslatedCardValue.values()) {
+            if (translatedCardValue.name().equals(valueSymbol)) {
+                return translatedCardValue.getTranslatedValue();
+            }
+        }
+        return valueSymbol;
+    }
+
+    /**
+     * Rótulos das 52 cartas em um idioma e o tamanho do maior deles, usado para dimensionar o buffer.
+     */
+    private static final class Labels {
+
+        private final String[] labels;
+        private final int maxLength;
+
+        private Labels(String[] labels) {
+            int max = 0;
+            for (String label : labels) {
+                max = Math.max(max, label.length());
+            }
+            this.labels = labels;
+            this.maxLength = max;
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package br.com.card_game_api.domain;
 
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
+
 /**
  * Representa um jogador no jogo de cartas.
  * Cada jogador possui um identificador e uma pontuação.
@@ -10,8 +12,13 @@ import jakarta.persistence.*;
 @Table(name = "players")
 public class Player {
 
+    /**
+     * Gerado pela sequence {@code players_seq}, reservada em blocos de 100 ids (otimizador pooled-lo),
+     * para que os jogadores de um jogo sejam inseridos em um único lote.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 100)
     @Column(name = "id")
     private Long id;
 
@@ -21,16 +28,31 @@ public class Player {
     @Column(nullable = false)
     private int score; // Pontuação do jogador
 
-    @Column(nullable = false)
-    private String hand; // Mão de cartas do jogador como uma string concatenada
+    @Convert(converter = HandConverter.class)
+    @Column(name = "hand_codes", nullable = true)
+    private Hand hand; // Mão de cartas do jogador, um byte por carta; nula nas linhas antigas ainda não convertidas
+
+    /**
+     * Mão em texto, em português, gravada pelas versões anteriores. Apenas leitura: preenchida somente nas linhas
+     * ainda não convertidas pelo {@code HandBackfillService} ou que ele não conseguiu converter.
+     */
+    @Column(name = "hand", insertable = false, updatable = false)
+    private String legacyHand;
 
     @ManyToOne
     @JoinColumn(name = "game_history_id", nullable = false)
     private GameHistory gameHistory; // Associacao com o jogo
 
+    /**
+     * Data e hora do jogo, copiada de {@link GameHistory#getGameTimestamp()} ao gravar: a tabela {@code players}
+     * é particionada por mês com a mesma coluna de {@code game_history}.
+     */
+    @Column(name = "game_timestamp", nullable = false)
+    private LocalDateTime gameTimestamp;
+
     public Player() {}
 
-    public Player(String identifier, int score, String hand) {
+    public Player(String identifier, int score, Hand hand) {
         this.identifier = identifier;
         this.score = score;
         this.hand = hand;
@@ -60,14 +82,18 @@ public class Player {
         this.score = score;
     }
 
-    public String getHand() {
+    public Hand getHand() {
         return hand;
     }
 
-    public void setHand(String hand) {
+    public void setHand(Hand hand) {
         this.hand = hand;
     }
 
+    public String getLegacyHand() {
+        return legacyHand;
+    }
+
     public GameHistory getGameHistory() {
         return gameHistory;
     }
@@ -76,4 +102,15 @@ public class Player {
         this.gameHistory = gameHistory;
     }
 
+    public LocalDateTime getGameTimestamp() {
+        return gameTimestamp;
+    }
+
+    @PrePersist
+    void copyGameTimestamp() {
+        if (gameHistory != null) {
+            this.gameTimestamp = gameHistory.getGameTimestamp();
+        }
+    }
+
 }
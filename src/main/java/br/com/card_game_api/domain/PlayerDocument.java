@@ -0,0 +1,71 @@
+package br.com.card_game_api.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jogador gravado dentro do próprio jogo, na coluna JSONB {@code game_history.players_json}
+ * (modo {@code game.persistence.mode=document}).
+ * <p>
+ * A mão é serializada como os códigos de {@link CardCode} (um byte por carta, em Base64 no JSON).
+ */
+public class PlayerDocument {
+
+    private String identifier;
+    private int score;
+    private byte[] hand;
+
+    public PlayerDocument() {}
+
+    public PlayerDocument(String identifier, int score, byte[] hand) {
+        this.identifier = identifier;
+        this.score = score;
+        this.hand = hand;
+    }
+
+    public static List<PlayerDocument> fromPlayers(List<Player> players) {
+        List<PlayerDocument> documents = new ArrayList<>(players.size());
+        for (Player player : players) {
+            Hand hand = player.getHand();
+            documents.add(new PlayerDocument(
+                    player.getIdentifier(),
+                    player.getScore(),
+                    hand != null ? hand.codes() : null));
+        }
+        return documents;
+    }
+
+    /**
+     * Reconstrói o jogador, já associado ao jogo em que estava gravado. O jogador não é uma entidade gerenciada.
+     */
+    public Player toPlayer(GameHistory gameHistory) {
+        Player player = new Player(identifier, score, hand != null ? Hand.of(hand) : null);
+        player.setGameHistory(gameHistory);
+        return player;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public byte[] getHand() {
+        return hand;
+    }
+
+    public void setHand(byte[] hand) {
+        this.hand = hand;
+    }
+
+}
@@ -0,0 +1,73 @@
+package br.com.card_game_api.domain;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Parte das vitórias de uma posição na mesa ({@code "Jogador 1"} = 1), mantidas a cada gravação. Nos empates, cada
+ * vencedor conta uma vitória. As vitórias de cada posição ficam distribuídas em várias linhas ({@code slot}),
+ * somadas na leitura. As linhas são atualizadas por upsert em {@code GameStatsService}.
+ */
+@Entity
+@Table(name = "game_stats_wins_by_seat")
+@IdClass(SeatWinStats.Key.class)
+public class SeatWinStats {
+
+    @Id
+    private int seat;
+
+    @Id
+    private int slot;
+
+    @Column(nullable = false)
+    private long wins;
+
+    public SeatWinStats() {}
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Chave composta: posição na mesa e linha da posição.
+     */
+    public static class Key implements Serializable {
+
+        private int seat;
+        private int slot;
+
+        public Key() {}
+
+        public Key(int seat, int slot) {
+            this.seat = seat;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return seat == key.seat && slot == key.slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(seat, slot);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.card_game_api.dto;
+
+/**
+ * DTO das estatísticas dos jogos de um formato (número de jogadores e cartas por jogador).
+ */
+public class FormatStatsDTO {
+
+    private int numberOfPlayers;
+    private int cardsPerPlayer;
+    private long games;
+    private long ties;
+    private double averageHighestScore;
+    private int maxHighestScore;
+
+    public FormatStatsDTO() {
+    }
+
+    public FormatStatsDTO(int numberOfPlayers, int cardsPerPlayer, long games, long ties,
+                          double averageHighestScore, int maxHighestScore) {
+        this.numberOfPlayers = numberOfPlayers;
+        this.cardsPerPlayer = cardsPerPlayer;
+        this.games = games;
+        this.ties = ties;
+        this.averageHighestScore = averageHighestScore;
+        this.maxHighestScore = maxHighestScore;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public void setNumberOfPlayers(int numberOfPlayers) {
+        this.numberOfPlayers = numberOfPlayers;
+    }
+
+    public int getCardsPerPlayer() {
+        return cardsPerPlayer;
+    }
+
+    public void setCardsPerPlayer(int cardsPerPlayer) {
+        this.cardsPerPlayer = cardsPerPlayer;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public void setGames(long games) {
+        this.games = games;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public void setTies(long ties) {
+        this.ties = ties;
+    }
+
+    public double getAverageHighestScore() {
+        return averageHighestScore;
+    }
+
+    public void setAverageHighestScore(double averageHighestScore) {
+        this.averageHighestScore = averageHighestScore;
+    }
+
+    public int getMaxHighestScore() {
+        return maxHighestScore;
+    }
+
+    public void setMaxHighestScore(int maxHighestScore) {
+        this.maxHighestScore = maxHighestScore;
+    }
+
+}
@@ -1,6 +1,9 @@
 package br.com.card_game_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO que representa o histórico de um jogo de cartas.
@@ -15,6 +18,12 @@ public class GameHistoryDTO {
     private int highestScore;
     private LocalDateTime gameTimestamp;
 
+    /**
+     * Jogadores com as mãos traduzidas. Preenchido apenas nas respostas que incluem os jogadores.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PlayerDTO> players;
+
     public GameHistoryDTO() {
     }
 
@@ -90,4 +99,12 @@ public class GameHistoryDTO {
         this.gameTimestamp = gameTimestamp;
     }
 
+    public List<PlayerDTO> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<PlayerDTO> players) {
+        this.players = players;
+    }
+
 }
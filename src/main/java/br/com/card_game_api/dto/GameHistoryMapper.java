@@ -0,0 +1,63 @@
+package br.com.card_game_api.dto;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.HandFormatter;
+import br.com.card_game_api.domain.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Converte o histórico de jogos nos DTOs das respostas.
+ * <p>
+ * O mapeamento é escrito campo a campo, sem reflexão: cada jogo custa apenas a criação do DTO (e, com os
+ * jogadores, da lista e das mãos traduzidas).
+ */
+public final class GameHistoryMapper {
+
+    private GameHistoryMapper() {
+    }
+
+    /**
+     * Histórico do jogo sem os jogadores.
+     */
+    public static GameHistoryDTO toDTO(GameHistory gameHistory) {
+        return new GameHistoryDTO(
+                gameHistory.getId(),
+                gameHistory.getNumberOfPlayers(),
+                gameHistory.getCardsPerPlayer(),
+                gameHistory.getDeckId(),
+                gameHistory.getWinner(),
+                gameHistory.getHighestScore(),
+                gameHistory.getGameTimestamp());
+    }
+
+    /**
+     * Histórico do jogo com os jogadores, as mãos traduzidas para o idioma informado.
+     */
+    public static GameHistoryDTO toDTO(GameHistory gameHistory, Locale locale) {
+        GameHistoryDTO gameHistoryDTO = toDTO(gameHistory);
+        gameHistoryDTO.setPlayers(toPlayerDTOs(gameHistory.getPlayers(), locale));
+        return gameHistoryDTO;
+    }
+
+    public static List<PlayerDTO> toPlayerDTOs(List<Player> players, Locale locale) {
+        List<PlayerDTO> playerDTOs = new ArrayList<>(players.size());
+        for (Player player : players) {
+            playerDTOs.add(toPlayerDTO(player, locale));
+        }
+        return playerDTOs;
+    }
+
+    /**
+     * Jogadores ainda não convertidos pelo HandBackfillService têm apenas o texto em português, como na exportação.
+     */
+    public static PlayerDTO toPlayerDTO(Player player, Locale locale) {
+        return new PlayerDTO(
+                player.getIdentifier(),
+                player.getScore(),
+                player.getHand() != null ? HandFormatter.format(player.getHand(), locale) : player.getLegacyHand());
+    }
+
+}
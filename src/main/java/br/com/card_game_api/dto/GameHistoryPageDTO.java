@@ -0,0 +1,38 @@
+package br.com.card_game_api.dto;
+
+import java.util.List;
+
+/**
+ * DTO de uma página do histórico de jogos.
+ * Para buscar a página seguinte, envie {@code nextCursor} no parâmetro {@code cursor}; é nulo na última página.
+ */
+public class GameHistoryPageDTO {
+
+    private List<GameHistoryDTO> items;
+    private String nextCursor;
+
+    public GameHistoryPageDTO() {
+    }
+
+    public GameHistoryPageDTO(List<GameHistoryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<GameHistoryDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<GameHistoryDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+}
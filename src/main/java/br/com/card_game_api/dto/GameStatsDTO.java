@@ -0,0 +1,68 @@
+package br.com.card_game_api.dto;
+
+import java.util.List;
+
+/**
+ * DTO das estatísticas agregadas do histórico de jogos.
+ */
+public class GameStatsDTO {
+
+    private long gamesPlayed;
+    private long ties;
+    private double tieRate;
+    private List<SeatStatsDTO> winsBySeat;
+    private List<FormatStatsDTO> byFormat;
+
+    public GameStatsDTO() {
+    }
+
+    public GameStatsDTO(long gamesPlayed, long ties, double tieRate, List<SeatStatsDTO> winsBySeat,
+                        List<FormatStatsDTO> byFormat) {
+        this.gamesPlayed = gamesPlayed;
+        this.ties = ties;
+        this.tieRate = tieRate;
+        this.winsBySeat = winsBySeat;
+        this.byFormat = byFormat;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public void setGamesPlayed(long gamesPlayed) {
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public void setTies(long ties) {
+        this.ties = ties;
+    }
+
+    public double getTieRate() {
+        return tieRate;
+    }
+
+    public void setTieRate(double tieRate) {
+        this.tieRate = tieRate;
+    }
+
+    public List<SeatStatsDTO> getWinsBySeat() {
+        return winsBySeat;
+    }
+
+    public void setWinsBySeat(List<SeatStatsDTO> winsBySeat) {
+        this.winsBySeat = winsBySeat;
+    }
+
+    public List<FormatStatsDTO> getByFormat() {
+        return byFormat;
+    }
+
+    public void setByFormat(List<FormatStatsDTO> byFormat) {
+        this.byFormat = byFormat;
+    }
+
+}
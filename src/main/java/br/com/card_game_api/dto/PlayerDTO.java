@@ -0,0 +1,45 @@
+package br.com.card_game_api.dto;
+
+/**
+ * DTO que representa um jogador na resposta, com a mão já traduzida para o idioma da requisição.
+ */
+public class PlayerDTO {
+
+    private String identifier;
+    private int score;
+    private String hand;
+
+    public PlayerDTO() {
+    }
+
+    public PlayerDTO(String identifier, int score, String hand) {
+        this.identifier = identifier;
+        this.score = score;
+        this.hand = hand;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public String getHand() {
+        return hand;
+    }
+
+    public void setHand(String hand) {
+        this.hand = hand;
+    }
+
+}
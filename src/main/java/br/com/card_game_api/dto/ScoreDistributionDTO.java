@@ -0,0 +1,131 @@
+package br.com.card_game_api.dto;
+
+import java.util.SortedMap;
+
+/**
+ * DTO da distribuição exata da pontuação de uma mão e das probabilidades de vitória e de empate de um jogador.
+ */
+public class ScoreDistributionDTO {
+
+    private int numPlayers;
+    private int cardsPerHand;
+    private int decks;
+    private double meanScore;
+    private SortedMap<Integer, Double> scoreProbabilities;
+    private SortedMap<Integer, Double> cumulativeProbabilities;
+    private double winProbability;
+    private double tieProbability;
+    private double gameTieProbability;
+
+    public ScoreDistributionDTO() {
+    }
+
+    public ScoreDistributionDTO(int numPlayers, int cardsPerHand, int decks, double meanScore,
+                                SortedMap<Integer, Double> scoreProbabilities,
+                                SortedMap<Integer, Double> cumulativeProbabilities, double winProbability,
+                                double tieProbability, double gameTieProbability) {
+        this.numPlayers = numPlayers;
+        this.cardsPerHand = cardsPerHand;
+        this.decks = decks;
+        this.meanScore = meanScore;
+        this.scoreProbabilities = scoreProbabilities;
+        this.cumulativeProbabilities = cumulativeProbabilities;
+        this.winProbability = winProbability;
+        this.tieProbability = tieProbability;
+        this.gameTieProbability = gameTieProbability;
+    }
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public void setNumPlayers(int numPlayers) {
+        this.numPlayers = numPlayers;
+    }
+
+    public int getCardsPerHand() {
+        return cardsPerHand;
+    }
+
+    public void setCardsPerHand(int cardsPerHand) {
+        this.cardsPerHand = cardsPerHand;
+    }
+
+    /**
+     * Quantidade de baralhos do deck do jogo.
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    public void setDecks(int decks) {
+        this.decks = decks;
+    }
+
+    /**
+     * Pontuação média de uma mão.
+     */
+    public double getMeanScore() {
+        return meanScore;
+    }
+
+    public void setMeanScore(double meanScore) {
+        this.meanScore = meanScore;
+    }
+
+    /**
+     * Probabilidade de cada pontuação de uma mão (apenas as pontuações possíveis).
+     */
+    public SortedMap<Integer, Double> getScoreProbabilities() {
+        return scoreProbabilities;
+    }
+
+    public void setScoreProbabilities(SortedMap<Integer, Double> scoreProbabilities) {
+        this.scoreProbabilities = scoreProbabilities;
+    }
+
+    /**
+     * Probabilidade de uma mão somar até cada pontuação, inclusive.
+     */
+    public SortedMap<Integer, Double> getCumulativeProbabilities() {
+        return cumulativeProbabilities;
+    }
+
+    public void setCumulativeProbabilities(SortedMap<Integer, Double> cumulativeProbabilities) {
+        this.cumulativeProbabilities = cumulativeProbabilities;
+    }
+
+    /**
+     * Probabilidade de um jogador vencer sozinho.
+     */
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    public void setWinProbability(double winProbability) {
+        this.winProbability = winProbability;
+    }
+
+    /**
+     * Probabilidade de um jogador empatar com a maior pontuação do jogo.
+     */
+    public double getTieProbability() {
+        return tieProbability;
+    }
+
+    public void setTieProbability(double tieProbability) {
+        this.tieProbability = tieProbability;
+    }
+
+    /**
+     * Probabilidade de o jogo terminar empatado.
+     */
+    public double getGameTieProbability() {
+        return gameTieProbability;
+    }
+
+    public void setGameTieProbability(double gameTieProbability) {
+        this.gameTieProbability = gameTieProbability;
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.card_game_api.dto;
+
+/**
+ * DTO das vitórias de uma posição na mesa. A taxa de vitória considera apenas os jogos em que a posição existia
+ * (jogos com pelo menos {@code seat} jogadores).
+ */
+public class SeatStatsDTO {
+
+    private String identifier;
+    private long wins;
+    private double winRate;
+
+    public SeatStatsDTO() {
+    }
+
+    public SeatStatsDTO(String identifier, long wins, double winRate) {
+        this.identifier = identifier;
+        this.wins = wins;
+        this.winRate = winRate;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+
+    public void setWinRate(double winRate) {
+        this.winRate = winRate;
+    }
+
+}
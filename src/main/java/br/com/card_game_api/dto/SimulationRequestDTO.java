@@ -0,0 +1,48 @@
+package br.com.card_game_api.dto;
+
+/**
+ * DTO da requisição de simulação: formato dos jogos, quantidade de jogos e, opcionalmente, a semente do gerador.
+ */
+public class SimulationRequestDTO {
+
+    private int numPlayers;
+
+    private int cardsPerHand;
+
+    private long games;
+
+    private Long seed;
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public void setNumPlayers(int numPlayers) {
+        this.numPlayers = numPlayers;
+    }
+
+    public int getCardsPerHand() {
+        return cardsPerHand;
+    }
+
+    public void setCardsPerHand(int cardsPerHand) {
+        this.cardsPerHand = cardsPerHand;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public void setGames(long games) {
+        this.games = games;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+}
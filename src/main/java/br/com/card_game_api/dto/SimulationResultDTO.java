@@ -0,0 +1,110 @@
+package br.com.card_game_api.dto;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * DTO do resultado de uma simulação: estatísticas agregadas dos jogos simulados, sem os jogos individuais.
+ */
+public class SimulationResultDTO {
+
+    private int numPlayers;
+    private int cardsPerHand;
+    private long games;
+    private double meanScore;
+    private SortedMap<Integer, Long> scoreHistogram;
+    private List<Double> winRateBySeat;
+    private double tieRate;
+    private long elapsedMillis;
+
+    public SimulationResultDTO() {
+    }
+
+    public SimulationResultDTO(int numPlayers, int cardsPerHand, long games, double meanScore,
+                               SortedMap<Integer, Long> scoreHistogram, List<Double> winRateBySeat, double tieRate,
+                               long elapsedMillis) {
+        this.numPlayers = numPlayers;
+        this.cardsPerHand = cardsPerHand;
+        this.games = games;
+        this.meanScore = meanScore;
+        this.scoreHistogram = scoreHistogram;
+        this.winRateBySeat = winRateBySeat;
+        this.tieRate = tieRate;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public void setNumPlayers(int numPlayers) {
+        this.numPlayers = numPlayers;
+    }
+
+    public int getCardsPerHand() {
+        return cardsPerHand;
+    }
+
+    public void setCardsPerHand(int cardsPerHand) {
+        this.cardsPerHand = cardsPerHand;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public void setGames(long games) {
+        this.games = games;
+    }
+
+    /**
+     * Pontuação média de uma mão.
+     */
+    public double getMeanScore() {
+        return meanScore;
+    }
+
+    public void setMeanScore(double meanScore) {
+        this.meanScore = meanScore;
+    }
+
+    /**
+     * Quantidade de mãos por pontuação (apenas as pontuações que ocorreram).
+     */
+    public SortedMap<Integer, Long> getScoreHistogram() {
+        return scoreHistogram;
+    }
+
+    public void setScoreHistogram(SortedMap<Integer, Long> scoreHistogram) {
+        this.scoreHistogram = scoreHistogram;
+    }
+
+    /**
+     * Fração dos jogos vencidos por cada posição ("Jogador 1" na posição 0). Nos empates, todos os vencedores
+     * contam a vitória.
+     */
+    public List<Double> getWinRateBySeat() {
+        return winRateBySeat;
+    }
+
+    public void setWinRateBySeat(List<Double> winRateBySeat) {
+        this.winRateBySeat = winRateBySeat;
+    }
+
+    public double getTieRate() {
+        return tieRate;
+    }
+
+    public void setTieRate(double tieRate) {
+        this.tieRate = tieRate;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+}
@@ -0,0 +1,14 @@
+package br.com.card_game_api.exception;
+
+/**
+ * A API externa de baralhos não atendeu a chamada por indisponibilidade: circuito aberto, limite de chamadas
+ * simultâneas atingido ou tempo esgotado. Diferente das demais falhas de {@link DeckCreationException}, o jogo pode
+ * ser refeito com um baralho local.
+ */
+public class DeckUnavailableException extends DeckCreationException {
+
+    public DeckUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
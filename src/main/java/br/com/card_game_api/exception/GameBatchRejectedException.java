@@ -0,0 +1,17 @@
+package br.com.card_game_api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * O pool de lotes de jogos está com a fila cheia e não aceitou os jogos da requisição. Nenhum jogo do lote é
+ * gravado; a requisição pode ser repetida mais tarde.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class GameBatchRejectedException extends RuntimeException {
+
+    public GameBatchRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
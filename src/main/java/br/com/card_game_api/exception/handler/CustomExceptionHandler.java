@@ -1,7 +1,10 @@
 package br.com.card_game_api.exception.handler;
 
 import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.GameBatchRejectedException;
 import br.com.card_game_api.exception.GameNotFoundException;
+import br.com.card_game_api.exception.InvalidCursorException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +16,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class CustomExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /**
      * Tratamento para exceções relacionadas à criação de decks.
      */
@@ -29,4 +34,22 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Tratamento para cursores de paginação inválidos.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(InvalidCursorException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Tratamento para lotes de jogos recusados por falta de espaço na fila, com o tempo sugerido para repetir.
+     */
+    @ExceptionHandler(GameBatchRejectedException.class)
+    public ResponseEntity<Object> handleGameBatchRejectedException(GameBatchRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(ex.getMessage());
+    }
+
 }
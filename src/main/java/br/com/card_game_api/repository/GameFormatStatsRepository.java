@@ -0,0 +1,12 @@
+package br.com.card_game_api.repository;
+
+import br.com.card_game_api.domain.GameFormatStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório para leitura das estatísticas por formato de jogo.
+ */
+@Repository
+public interface GameFormatStatsRepository extends JpaRepository<GameFormatStats, GameFormatStats.Key> {
+}
@@ -2,12 +2,37 @@ package br.com.card_game_api.repository;
 
 
 import br.com.card_game_api.domain.GameHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repositório para acesso à entidade GameHistory no banco de dados.
+ * As buscas com filtros recebem critérios ({@link org.springframework.data.jpa.domain.Specification}) do serviço;
+ * a listagem do histórico é lida sem entidades por {@link GameHistoryRepositoryCustom#findSummaries}.
+ * <p>
+ * A tabela é particionada por mês de {@code game_timestamp}: as buscas apenas pelo id (como {@code findById} e os
+ * métodos abaixo) consultam o índice da chave primária de cada partição.
  */
 @Repository
-public interface GameHistoryRepository extends JpaRepository<GameHistory, Long> {
+public interface GameHistoryRepository extends JpaRepository<GameHistory, Long>, JpaSpecificationExecutor<GameHistory>,
+        GameHistoryRepositoryCustom {
+
+    /**
+     * Jogo com os jogadores, carregados na mesma consulta (LEFT JOIN com {@code players}).
+     */
+    @EntityGraph(attributePaths = "players")
+    Optional<GameHistory> findWithPlayersById(Long id);
+
+    /**
+     * Jogos com os jogadores, todos em uma única consulta, independentemente da quantidade de jogos e de jogadores.
+     * A ordem do resultado não é garantida.
+     */
+    @EntityGraph(attributePaths = "players")
+    List<GameHistory> findWithPlayersByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,28 @@
+package br.com.card_game_api.repository;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas do histórico que não passam pelas entidades.
+ */
+public interface GameHistoryRepositoryCustom {
+
+    /**
+     * Busca os jogos que atendem ao critério já no formato da resposta, sem os jogadores.
+     * <p>
+     * Apenas as colunas do DTO são lidas e cada linha vira um {@link GameHistoryDTO} pelo construtor: nenhuma
+     * entidade é criada, então não há coleção de jogadores, cópia para a verificação de alterações nem registro
+     * no contexto de persistência.
+     *
+     * @param specification Critério da busca
+     * @param sort          Ordenação
+     * @param limit         Quantidade máxima de jogos
+     */
+    List<GameHistoryDTO> findSummaries(Specification<GameHistory> specification, Sort sort, int limit);
+
+}
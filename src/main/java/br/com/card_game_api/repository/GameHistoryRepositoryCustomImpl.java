@@ -0,0 +1,59 @@
+package br.com.card_game_api.repository;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementação de {@link GameHistoryRepositoryCustom} com a Criteria API e uma expressão de construtor.
+ */
+class GameHistoryRepositoryCustomImpl implements GameHistoryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Executa em transação somente leitura e com flush manual: a consulta não dispara a verificação de alterações
+     * das entidades já carregadas na sessão.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GameHistoryDTO> findSummaries(Specification<GameHistory> specification, Sort sort, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GameHistoryDTO> query = builder.createQuery(GameHistoryDTO.class);
+        Root<GameHistory> root = query.from(GameHistory.class);
+
+        query.select(builder.construct(GameHistoryDTO.class,
+                root.get("id"),
+                root.get("numberOfPlayers"),
+                root.get("cardsPerPlayer"),
+                root.get("deckId"),
+                root.get("winner"),
+                root.get("highestScore"),
+                root.get("gameTimestamp")));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultList();
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.card_game_api.repository;
+
+import br.com.card_game_api.domain.SeatWinStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório para leitura das vitórias por posição na mesa.
+ */
+@Repository
+public interface SeatWinStatsRepository extends JpaRepository<SeatWinStats, SeatWinStats.Key> {
+}
@@ -1,15 +1,15 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.adapter.outbound.DeckOfCardsClient;
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.Hand;
 import br.com.card_game_api.domain.Player;
-import br.com.card_game_api.domain.TranslatedCardSuit;
-import br.com.card_game_api.domain.TranslatedCardValue;
-import br.com.card_game_api.dto.CardDTO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Serviço responsável por distribuir cartas para os jogadores e calcular suas pontuações.
@@ -17,11 +17,24 @@ import java.util.stream.Collectors;
 @Service
 public class CardDistributorService {
 
-    private final DeckOfCardsClient deckOfCardsClient;
+    private final DeckProvider deckProvider;
     private final ScoreCalculatorService scoreCalculatorService;
 
-    public CardDistributorService(DeckOfCardsClient deckOfCardsClient, ScoreCalculatorService scoreCalculatorService) {
-        this.deckOfCardsClient = deckOfCardsClient;
+    /**
+     * Quando habilitado, todas as cartas do jogo são compradas de uma vez e fatiadas localmente.
+     * Quando desabilitado, mantém a distribuição original com uma compra por jogador.
+     */
+    @Value("${game.distribution.batch-draw:true}")
+    private boolean batchDraw;
+
+    /**
+     * Quantidade máxima de cartas solicitadas em uma única compra no provedor de baralhos.
+     */
+    @Value("${game.distribution.max-cards-per-draw:1000}")
+    private int maxCardsPerDraw;
+
+    public CardDistributorService(DeckProvider deckProvider, ScoreCalculatorService scoreCalculatorService) {
+        this.deckProvider = deckProvider;
         this.scoreCalculatorService = scoreCalculatorService;
     }
 
@@ -34,43 +47,70 @@ public class CardDistributorService {
      * @return Lista de jogadores com suas cartas distribuídas
      */
     public List<Player> distributeCards(int numPlayers, int cardsPerHand, String deckId) {
-        List<Player> players = new ArrayList<>();
-        for (int i = 1; i <= numPlayers; i++) {
-            List<CardDTO> cardDTOs = deckOfCardsClient.dealCards(deckId, cardsPerHand);
-            int score = scoreCalculatorService.calculateScore(cardDTOs);
-            String handString = buildHandString(cardDTOs);
-            players.add(new Player("Jogador " + i, score, handString));
+        if (batchDraw) {
+            return distributeCardsInBatch(numPlayers, cardsPerHand, deckId);
+        }
+        return distributeCardsPerPlayer(numPlayers, cardsPerHand, deckId);
+    }
+
+    /**
+     * Compra todas as cartas do jogo no menor número possível de chamadas e as fatia em mãos.
+     * A ordem de distribuição é a mesma da distribuição por jogador: o Jogador 1 recebe as
+     * primeiras cartas compradas, o Jogador 2 as seguintes, e assim por diante.
+     */
+    private List<Player> distributeCardsInBatch(int numPlayers, int cardsPerHand, String deckId) {
+        byte[] drawnCards = drawCards(deckId, numPlayers * cardsPerHand);
+
+        List<Player> players = new ArrayList<>(numPlayers);
+        for (int i = 0; i < numPlayers; i++) {
+            int from = Math.min(i * cardsPerHand, drawnCards.length);
+            int to = Math.min(from + cardsPerHand, drawnCards.length);
+            players.add(buildPlayer(i + 1, drawnCards, from, to));
         }
         return players;
     }
 
     /**
-     * Constrói a string representando a mão do jogador com cartas traduzidas.
-     *
-     * @param cardDTOs Lista de cartas do jogador
-     * @return String formatada com as cartas traduzidas.
+     * Distribuição original, com uma compra no provedor de baralhos para cada jogador.
      */
-    private String buildHandString(List<CardDTO> cardDTOs) {
-        return cardDTOs.stream()
-                .map(card -> getTranslatedCardValue(card.getValue()) + " de " +
-                        TranslatedCardSuit.fromString(card.getSuit()).getTranslatedSuit())
-                .collect(Collectors.joining(", "));
+    private List<Player> distributeCardsPerPlayer(int numPlayers, int cardsPerHand, String deckId) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= numPlayers; i++) {
+            byte[] cards = deckProvider.dealCards(deckId, cardsPerHand, (numPlayers - i + 1) * cardsPerHand);
+            players.add(buildPlayer(i, cards, 0, cards.length));
+        }
+        return players;
     }
 
     /**
-     * Obtém o valor traduzido da carta.
-     * Se for um valor numérico, retorna o número como string.
+     * Compra a quantidade total de cartas, dividindo em chamadas de no máximo {@code maxCardsPerDraw} cartas.
      *
-     * @param cardValue Valor da carta
-     * @return Valor traduzido da carta
+     * @param deckId Identificador do baralho
+     * @param totalCards Quantidade total de cartas a serem compradas
+     * @return Cartas compradas no formato de {@link CardCode}, na ordem em que foram retiradas do baralho
      */
-    private String getTranslatedCardValue(String cardValue) {
-        try {
-            TranslatedCardValue value = TranslatedCardValue.fromString(cardValue);
-            return value.getTranslatedValue();
-        } catch (IllegalArgumentException e) {
-            return cardValue;
+    private byte[] drawCards(String deckId, int totalCards) {
+        int drawLimit = maxCardsPerDraw > 0 ? maxCardsPerDraw : totalCards;
+        if (totalCards <= drawLimit) {
+            return deckProvider.dealCards(deckId, totalCards, totalCards);
+        }
+
+        byte[] drawnCards = new byte[totalCards];
+        int drawn = 0;
+        int remaining = totalCards;
+        while (remaining > 0) {
+            int count = Math.min(remaining, drawLimit);
+            byte[] chunk = deckProvider.dealCards(deckId, count, remaining);
+            System.arraycopy(chunk, 0, drawnCards, drawn, chunk.length);
+            drawn += chunk.length;
+            remaining -= count;
         }
+        return drawn == totalCards ? drawnCards : Arrays.copyOf(drawnCards, drawn);
+    }
+
+    private Player buildPlayer(int position, byte[] cards, int from, int to) {
+        int score = scoreCalculatorService.calculateScore(cards, from, to);
+        return new Player("Jogador " + position, score, Hand.of(cards, from, to));
     }
 
 }
@@ -1,10 +1,14 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.adapter.outbound.DeckOfCardsClient;
+import br.com.card_game_api.adapter.outbound.LocalDeckProvider;
 import br.com.card_game_api.domain.GameHistory;
 import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.exception.DeckUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -15,7 +19,9 @@ import java.util.List;
 @Service
 public class CardGameService {
 
-    private final DeckOfCardsClient deckOfCardsClient;
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardGameService.class);
+
+    private final DeckRecyclingService deckRecyclingService;
 
     private final InputValidator inputValidator;
 
@@ -25,42 +31,99 @@ public class CardGameService {
 
     private final GameResultService gameResultService;
 
-    private final GamePersistenceService gamePersistenceService;
+    private final GameWriteBehindService gameWriteBehindService;
+
+    private final LocalDeckProvider localDeckProvider;
 
-    public CardGameService(DeckOfCardsClient deckOfCardsClient,
+    private final Counter localDeckFallbacks;
+
+    public CardGameService(DeckRecyclingService deckRecyclingService,
                            InputValidator inputValidator,
                            DeckCalculatorService deckCalculatorService,
                            CardDistributorService cardDistributorService,
                            GameResultService gameResultService,
-                           GamePersistenceService gamePersistenceService) {
-        this.deckOfCardsClient = deckOfCardsClient;
+                           GameWriteBehindService gameWriteBehindService,
+                           LocalDeckProvider localDeckProvider,
+                           MeterRegistry meterRegistry) {
+        this.deckRecyclingService = deckRecyclingService;
         this.inputValidator = inputValidator;
         this.deckCalculatorService = deckCalculatorService;
         this.cardDistributorService = cardDistributorService;
         this.gameResultService = gameResultService;
-        this.gamePersistenceService = gamePersistenceService;
+        this.gameWriteBehindService = gameWriteBehindService;
+        this.localDeckProvider = localDeckProvider;
+        this.localDeckFallbacks = Counter.builder("deck.resilience.fallback")
+                .description("Operações atendidas pelo baralho local no lugar da API externa")
+                .tag("operation", "game")
+                .register(meterRegistry);
     }
 
     /**
      * Executa a lógica do jogo, distribuindo cartas para os jogadores, calculando pontuações
      * e determinando o(s) vencedor(es).
+     * <p>
+     * Este método não é transacional: a obtenção do deck, a distribuição das cartas e o cálculo do resultado
+     * acontecem sem conexão com o banco. Apenas a gravação final, feita pelo {@link GameWriteBehindService},
+     * usa o banco: em uma transação curta por jogo ou, com o write-behind habilitado, no lote da fila de gravação.
+     * <p>
+     * O deck é devolvido ao {@link DeckRecyclingService} assim que as cartas são distribuídas,
+     * para ser reembaralhado e reaproveitado por outro jogo.
+     * <p>
+     * Se a API externa ficar indisponível durante a distribuição ({@link DeckUnavailableException}), o jogo é
+     * refeito do início com um único deck local, e é esse deck que fica registrado no histórico: as mãos nunca
+     * misturam cartas de decks diferentes.
      *
      * @param numPlayers   Número de jogadores
      * @param cardsPerHand Número de cartas por jogador
      * @return Histórico do jogo registrado
      */
-    @Transactional
     public GameHistory playGame(int numPlayers, int cardsPerHand) {
+        DealtGame game = dealGame(numPlayers, cardsPerHand);
+
+        return gameWriteBehindService.save(numPlayers, cardsPerHand, game.deckId, game.winner, game.players);
+    }
+
+    /**
+     * Distribui as cartas e determina o(s) vencedor(es), sem gravar o jogo.
+     */
+    DealtGame dealGame(int numPlayers, int cardsPerHand) {
         inputValidator.validateInputs(numPlayers, cardsPerHand);
 
         int requiredDecks = deckCalculatorService.calculateDecks(numPlayers, cardsPerHand);
-        String deckId = deckOfCardsClient.createDeck(requiredDecks);
-
-        List<Player> players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
+        String leasedDeckId = deckRecyclingService.acquireDeck(requiredDecks);
+
+        String deckId = leasedDeckId;
+        List<Player> players;
+        try {
+            players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
+        } catch (DeckUnavailableException e) {
+            LOGGER.warn("Refazendo o jogo com um deck local no lugar do deck {}: {}", deckId, e.getMessage());
+            localDeckFallbacks.increment();
+            deckId = localDeckProvider.createDeck(requiredDecks);
+            players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
+        } finally {
+            deckRecyclingService.releaseDeck(leasedDeckId);
+        }
 
         String winner = gameResultService.determineWinner(players);
 
-        return gamePersistenceService.saveGameHistory(numPlayers, cardsPerHand, deckId, winner, players);
+        return new DealtGame(deckId, winner, players);
+    }
+
+    /**
+     * Jogo com as cartas distribuídas e o resultado, ainda não gravado.
+     */
+    static final class DealtGame {
+
+        final String deckId;
+        final String winner;
+        final List<Player> players;
+
+        DealtGame(String deckId, String winner, List<Player> players) {
+            this.deckId = deckId;
+            this.winner = winner;
+            this.players = players;
+        }
     }
 
 }
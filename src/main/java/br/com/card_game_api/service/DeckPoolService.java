@@ -0,0 +1,251 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de decks já criados e embaralhados, mantido em segundo plano para tirar a criação do deck
+ * do caminho da requisição.
+ * <p>
+ * Para cada quantidade de baralhos (1 até {@code deck.pool.max-deck-count}) é mantida uma fila de deckIds prontos.
+ * Quando a fila fica abaixo da marca inferior ({@code low-watermark}), uma reposição assíncrona cria decks até
+ * atingir a marca superior ({@code high-watermark}). Se a fila estiver vazia, o deck é criado na hora.
+ * <p>
+ * Depois de uma reposição com falha, a fila só tenta de novo após {@code refill-backoff}, que dobra a cada falha
+ * seguida até {@code refill-max-backoff}: durante uma indisponibilidade da API, as requisições não disparam uma
+ * reposição cada.
+ * <p>
+ * Métricas expostas: {@code deck.pool.requests} (result=hit|miss), {@code deck.pool.refill} (latência de criação
+ * de cada deck de reposição), {@code deck.pool.refill.failures} (reposições interrompidas por falha) e
+ * {@code deck.pool.size} (decks disponíveis), todas com a tag {@code deckCount}.
+ */
+@Service
+public class DeckPoolService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckPoolService.class);
+
+    private final DeckProvider deckProvider;
+    private final boolean enabled;
+    private final int maxDeckCount;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final long refillBackoffNanos;
+    private final long refillMaxBackoffNanos;
+    private final DeckBucket[] buckets;
+    private final ExecutorService refillExecutor;
+
+    public DeckPoolService(DeckProvider deckProvider,
+                           MeterRegistry meterRegistry,
+                           @Value("${deck.pool.enabled:false}") boolean enabled,
+                           @Value("${deck.pool.max-deck-count:4}") int maxDeckCount,
+                           @Value("${deck.pool.low-watermark:5}") int lowWatermark,
+                           @Value("${deck.pool.high-watermark:20}") int highWatermark,
+                           @Value("${deck.pool.refill-threads:2}") int refillThreads,
+                           @Value("${deck.pool.refill-backoff:1s}") Duration refillBackoff,
+                           @Value("${deck.pool.refill-max-backoff:1m}") Duration refillMaxBackoff) {
+        if (enabled && (lowWatermark < 0 || highWatermark < lowWatermark || highWatermark < 1)) {
+            throw new IllegalArgumentException("Configuração inválida do pool de decks: é necessário "
+                    + "0 <= low-watermark <= high-watermark e high-watermark >= 1.");
+        }
+
+        this.deckProvider = deckProvider;
+        this.enabled = enabled;
+        this.maxDeckCount = enabled ? Math.max(maxDeckCount, 0) : 0;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.refillBackoffNanos = refillBackoff.toNanos();
+        this.refillMaxBackoffNanos = Math.max(refillMaxBackoff.toNanos(), refillBackoffNanos);
+        this.buckets = new DeckBucket[this.maxDeckCount + 1];
+        for (int deckCount = 1; deckCount <= this.maxDeckCount; deckCount++) {
+            buckets[deckCount] = new DeckBucket(deckCount, meterRegistry);
+        }
+        this.refillExecutor = enabled
+                ? Executors.newFixedThreadPool(Math.max(refillThreads, 1), daemonThreadFactory())
+                : null;
+    }
+
+    /**
+     * Abastece todas as filas do pool assim que a aplicação sobe.
+     */
+    @PostConstruct
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        LOGGER.info("Pool de decks habilitado para 1 a {} baralho(s), marcas {}/{}.",
+                maxDeckCount, lowWatermark, highWatermark);
+        for (int deckCount = 1; deckCount <= maxDeckCount; deckCount++) {
+            scheduleRefill(buckets[deckCount]);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Obtém um deck pronto para uso com a quantidade de baralhos informada.
+     * Retorna imediatamente um deck do pool quando disponível; caso contrário, cria um novo deck.
+     *
+     * @param numberOfDecks Número de baralhos que compõem o deck
+     * @return O deckId de um deck embaralhado e ainda não utilizado
+     */
+    public String acquireDeck(int numberOfDecks) {
+        if (numberOfDecks < 1 || numberOfDecks > maxDeckCount) {
+            return deckProvider.createDeck(numberOfDecks);
+        }
+
+        DeckBucket bucket = buckets[numberOfDecks];
+        String deckId = bucket.poll();
+        scheduleRefillIfNeeded(bucket);
+
+        if (deckId != null) {
+            bucket.hits.increment();
+            return deckId;
+        }
+
+        bucket.misses.increment();
+        return deckProvider.createDeck(numberOfDecks);
+    }
+
+    /**
+     * Quantidade de decks disponíveis no pool para a quantidade de baralhos informada.
+     */
+    public int availableDecks(int numberOfDecks) {
+        if (numberOfDecks < 1 || numberOfDecks > maxDeckCount) {
+            return 0;
+        }
+        return buckets[numberOfDecks].size.get();
+    }
+
+    private void scheduleRefillIfNeeded(DeckBucket bucket) {
+        if (bucket.size.get() < lowWatermark) {
+            scheduleRefill(bucket);
+        }
+    }
+
+    private void scheduleRefill(DeckBucket bucket) {
+        if (bucket.consecutiveFailures > 0 && System.nanoTime() - bucket.nextRefillNanos < 0) {
+            return;
+        }
+        if (!bucket.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> refill(bucket));
+        } catch (RejectedExecutionException e) {
+            bucket.refilling.set(false);
+        }
+    }
+
+    private void refill(DeckBucket bucket) {
+        try {
+            while (bucket.size.get() < highWatermark && !Thread.currentThread().isInterrupted()) {
+                String deckId = bucket.refillTimer.record(() -> deckProvider.createDeck(bucket.deckCount));
+                bucket.offer(deckId);
+                bucket.consecutiveFailures = 0;
+            }
+        } catch (RuntimeException e) {
+            bucket.refillFailures.increment();
+            long backoff = backoffNanos(++bucket.consecutiveFailures);
+            bucket.nextRefillNanos = System.nanoTime() + backoff;
+            LOGGER.warn("Falha ao repor o pool de decks com {} baralho(s), nova tentativa em {} ms: {}",
+                    bucket.deckCount, backoff / 1_000_000, e.getMessage());
+        } finally {
+            bucket.refilling.set(false);
+        }
+    }
+
+    private long backoffNanos(int consecutiveFailures) {
+        long backoff = refillBackoffNanos;
+        for (int i = 1; i < consecutiveFailures && backoff < refillMaxBackoffNanos; i++) {
+            backoff *= 2;
+        }
+        return Math.min(backoff, refillMaxBackoffNanos);
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("deck-pool-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * Fila de decks prontos para uma determinada quantidade de baralhos.
+     */
+    private static final class DeckBucket {
+
+        private final int deckCount;
+        private final Queue<String> decks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        // Alterados apenas pela reposição em andamento (uma por fila) e lidos antes de agendar a próxima
+        private volatile int consecutiveFailures;
+        private volatile long nextRefillNanos;
+        private final Counter hits;
+        private final Counter misses;
+        private final Timer refillTimer;
+        private final Counter refillFailures;
+
+        private DeckBucket(int deckCount, MeterRegistry meterRegistry) {
+            String tag = String.valueOf(deckCount);
+            this.deckCount = deckCount;
+            this.hits = Counter.builder("deck.pool.requests")
+                    .description("Decks solicitados ao pool")
+                    .tags("deckCount", tag, "result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("deck.pool.requests")
+                    .description("Decks solicitados ao pool")
+                    .tags("deckCount", tag, "result", "miss")
+                    .register(meterRegistry);
+            this.refillTimer = Timer.builder("deck.pool.refill")
+                    .description("Tempo de criação de um deck durante a reposição do pool")
+                    .tag("deckCount", tag)
+                    .register(meterRegistry);
+            this.refillFailures = Counter.builder("deck.pool.refill.failures")
+                    .description("Reposições do pool interrompidas por falha na criação do deck")
+                    .tag("deckCount", tag)
+                    .register(meterRegistry);
+            Gauge.builder("deck.pool.size", size, AtomicInteger::get)
+                    .description("Decks prontos disponíveis no pool")
+                    .tag("deckCount", tag)
+                    .register(meterRegistry);
+        }
+
+        private String poll() {
+            String deckId = decks.poll();
+            if (deckId != null) {
+                size.decrementAndGet();
+            }
+            return deckId;
+        }
+
+        private void offer(String deckId) {
+            decks.offer(deckId);
+            size.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concede decks aos jogos.
+ * <p>
+ * Com {@code deck.recycling.enabled=true}, mantém um conjunto de decks de longa duração por quantidade de baralhos.
+ * Cada deck é emprestado com exclusividade a um único jogo e, ao ser devolvido, é reembaralhado em segundo plano
+ * (todas as cartas voltam ao deck) antes de ficar disponível para o próximo jogo. Assim, o caminho da requisição
+ * não cria decks novos depois que o conjunto está formado. O reembaralhamento só começa depois que o provedor
+ * termina todas as compras do deck ({@link DeckProvider#drawsSettled}), inclusive a compra perdedora de um hedge,
+ * que de outra forma retiraria cartas do deck já emprestado ao próximo jogo.
+ * <p>
+ * Com a reciclagem, o mesmo deckId é usado por vários jogos: {@code game_history.deck_id} deixa de identificar um
+ * único jogo, e o filtro por {@code deckId} do histórico retorna todos os jogos que usaram o deck reciclado.
+ * <p>
+ * Com a reciclagem desabilitada, os decks vêm do {@link DeckPoolService} e a devolução não tem efeito.
+ */
+@Service
+public class DeckRecyclingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckRecyclingService.class);
+
+    private final DeckProvider deckProvider;
+    private final DeckPoolService deckPoolService;
+    private final boolean enabled;
+    private final int maxDecksPerCount;
+    private final Map<Integer, Queue<String>> availableDecks = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> availableCounts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> leasedDecks = new ConcurrentHashMap<>();
+    private final ExecutorService reshuffleExecutor;
+    private final Counter reusedLeases;
+    private final Counter createdLeases;
+    private final Counter reshuffleFailures;
+
+    public DeckRecyclingService(DeckProvider deckProvider,
+                                DeckPoolService deckPoolService,
+                                MeterRegistry meterRegistry,
+                                @Value("${deck.recycling.enabled:false}") boolean enabled,
+                                @Value("${deck.recycling.max-decks-per-count:50}") int maxDecksPerCount,
+                                @Value("${deck.recycling.reshuffle-threads:2}") int reshuffleThreads) {
+        this.deckProvider = deckProvider;
+        this.deckPoolService = deckPoolService;
+        this.enabled = enabled;
+        this.maxDecksPerCount = maxDecksPerCount;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("deck-recycling-");
+        threadFactory.setDaemon(true);
+        this.reshuffleExecutor = enabled
+                ? Executors.newFixedThreadPool(Math.max(reshuffleThreads, 1), threadFactory)
+                : null;
+
+        this.reusedLeases = Counter.builder("deck.recycling.leases")
+                .description("Decks emprestados aos jogos")
+                .tag("result", "reused")
+                .register(meterRegistry);
+        this.createdLeases = Counter.builder("deck.recycling.leases")
+                .description("Decks emprestados aos jogos")
+                .tag("result", "created")
+                .register(meterRegistry);
+        this.reshuffleFailures = Counter.builder("deck.recycling.reshuffle.failures")
+                .description("Decks descartados por falha ao reembaralhar")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reshuffleExecutor != null) {
+            reshuffleExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Empresta um deck embaralhado com a quantidade de baralhos informada, para uso exclusivo de um jogo.
+     *
+     * @param numberOfDecks Número de baralhos que compõem o deck
+     * @return O deckId emprestado
+     */
+    public String acquireDeck(int numberOfDecks) {
+        if (!enabled) {
+            return deckPoolService.acquireDeck(numberOfDecks);
+        }
+
+        String deckId = queueFor(numberOfDecks).poll();
+        if (deckId != null) {
+            countFor(numberOfDecks).decrementAndGet();
+            reusedLeases.increment();
+        } else {
+            deckId = deckPoolService.acquireDeck(numberOfDecks);
+            createdLeases.increment();
+        }
+
+        leasedDecks.put(deckId, numberOfDecks);
+        return deckId;
+    }
+
+    /**
+     * Devolve um deck emprestado. Quando não houver mais compras em andamento no deck, ele é reembaralhado em
+     * segundo plano e volta a ficar disponível; se o conjunto daquela quantidade de baralhos já estiver cheio,
+     * o deck é apenas descartado.
+     *
+     * @param deckId O deckId devolvido pelo jogo
+     */
+    public void releaseDeck(String deckId) {
+        if (!enabled || deckId == null) {
+            return;
+        }
+
+        Integer numberOfDecks = leasedDecks.remove(deckId);
+        if (numberOfDecks == null || countFor(numberOfDecks).get() >= maxDecksPerCount) {
+            return;
+        }
+
+        deckProvider.drawsSettled(deckId)
+                .whenComplete((ignored, throwable) -> scheduleReshuffle(deckId, numberOfDecks));
+    }
+
+    /**
+     * Quantidade de decks reembaralhados aguardando um novo jogo.
+     */
+    public int availableDecks(int numberOfDecks) {
+        return countFor(numberOfDecks).get();
+    }
+
+    private void scheduleReshuffle(String deckId, int numberOfDecks) {
+        try {
+            reshuffleExecutor.execute(() -> reshuffleAndReturn(deckId, numberOfDecks));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Deck {} descartado: reembaralhamento não pôde ser agendado.", deckId);
+        }
+    }
+
+    private void reshuffleAndReturn(String deckId, int numberOfDecks) {
+        try {
+            deckProvider.shuffleDeck(deckId);
+        } catch (RuntimeException e) {
+            reshuffleFailures.increment();
+            LOGGER.warn("Deck {} descartado após falha ao reembaralhar: {}", deckId, e.getMessage());
+            return;
+        }
+
+        AtomicInteger count = countFor(numberOfDecks);
+        if (count.incrementAndGet() > maxDecksPerCount) {
+            count.decrementAndGet();
+            return;
+        }
+        queueFor(numberOfDecks).offer(deckId);
+    }
+
+    private Queue<String> queueFor(int numberOfDecks) {
+        return availableDecks.computeIfAbsent(numberOfDecks, count -> new ConcurrentLinkedQueue<>());
+    }
+
+    private AtomicInteger countFor(int numberOfDecks) {
+        return availableCounts.computeIfAbsent(numberOfDecks, count -> new AtomicInteger());
+    }
+
+}
@@ -0,0 +1,120 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.dto.GameRequestDTO;
+import br.com.card_game_api.exception.GameBatchRejectedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa vários jogos em uma única requisição.
+ * <p>
+ * Os parâmetros de todos os jogos são validados antes de qualquer deck ser obtido. Em seguida, os jogos são
+ * distribuídos em um pool limitado ({@code game.batch.threads}), compartilhado entre as requisições: as chamadas
+ * à Deck of Cards API de jogos diferentes acontecem em paralelo, sem criar um thread por jogo. A fila do pool
+ * também é limitada ({@code game.batch.queue-capacity}): com ela cheia, o lote é recusado com
+ * {@link GameBatchRejectedException} em vez de acumular jogos na memória.
+ * <p>
+ * Os decks vêm do {@link DeckRecyclingService}, como em {@link CardGameService#playGame}. Sem o pool e sem a
+ * reciclagem de decks (o padrão), cada jogo do lote ainda faz duas chamadas à API externa, uma para criar o deck e
+ * outra para distribuir as cartas: o lote apenas as executa em paralelo e grava os jogos juntos. Para reduzir as
+ * chamadas, habilite {@code deck.pool.enabled} ou {@code deck.recycling.enabled}.
+ * <p>
+ * Todos os jogos do lote são gravados em uma única transação ({@link GamePersistenceService#saveGameHistories}),
+ * com os INSERTs agrupados em lotes JDBC e um único commit, sem passar pela fila do write-behind. Se algum jogo
+ * falhar, nenhum jogo do lote é gravado.
+ */
+@Service
+public class GameBatchService {
+
+    private final CardGameService cardGameService;
+    private final InputValidator inputValidator;
+    private final GamePersistenceService gamePersistenceService;
+    private final int maxGames;
+    private final ThreadPoolExecutor executor;
+
+    public GameBatchService(CardGameService cardGameService,
+                            InputValidator inputValidator,
+                            GamePersistenceService gamePersistenceService,
+                            @Value("${game.batch.threads:16}") int threads,
+                            @Value("${game.batch.max-games:1000}") int maxGames,
+                            @Value("${game.batch.queue-capacity:1000}") int queueCapacity) {
+        this.cardGameService = cardGameService;
+        this.inputValidator = inputValidator;
+        this.gamePersistenceService = gamePersistenceService;
+        this.maxGames = maxGames;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("game-batch-");
+        threadFactory.setDaemon(true);
+        int poolSize = Math.max(threads, 1);
+        // Com a fila cheia, o envio de um jogo lança RejectedExecutionException (AbortPolicy, a política padrão)
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Executa os jogos e grava todos juntos.
+     *
+     * @param gameRequests Número de jogadores e cartas por jogador de cada jogo, até {@code game.batch.max-games}
+     * @return Históricos dos jogos gravados, na ordem da requisição
+     * @throws IllegalArgumentException    Se a quantidade de jogos ou os parâmetros de algum jogo forem inválidos
+     * @throws GameBatchRejectedException Se a fila do pool não tiver espaço para os jogos do lote
+     */
+    public List<GameHistory> playGames(List<GameRequestDTO> gameRequests) {
+        if (gameRequests == null || gameRequests.isEmpty() || gameRequests.size() > maxGames) {
+            throw new IllegalArgumentException("Quantidade de jogos inválida: "
+                    + (gameRequests == null ? 0 : gameRequests.size()) + ". Valores aceitos: 1 a " + maxGames);
+        }
+        for (GameRequestDTO gameRequest : gameRequests) {
+            inputValidator.validateInputs(gameRequest.getNumPlayers(), gameRequest.getCardsPerHand());
+        }
+
+        List<CompletableFuture<GameHistory>> games = new ArrayList<>(gameRequests.size());
+        try {
+            for (GameRequestDTO gameRequest : gameRequests) {
+                int numPlayers = gameRequest.getNumPlayers();
+                int cardsPerHand = gameRequest.getCardsPerHand();
+                games.add(CompletableFuture.supplyAsync(() -> {
+                    CardGameService.DealtGame game = cardGameService.dealGame(numPlayers, cardsPerHand);
+                    return gamePersistenceService.buildGameHistory(numPlayers, cardsPerHand, game.deckId,
+                            game.winner, game.players);
+                }, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            games.forEach(game -> game.cancel(false));
+            throw new GameBatchRejectedException("Muitos jogos em andamento. Tente novamente mais tarde.", e);
+        }
+
+        List<GameHistory> gameHistories = new ArrayList<>(games.size());
+        try {
+            for (CompletableFuture<GameHistory> game : games) {
+                gameHistories.add(game.join());
+            }
+        } catch (CompletionException e) {
+            // Os jogos que ainda não começaram não chegam a obter um deck
+            games.forEach(game -> game.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return gamePersistenceService.saveGameHistories(gameHistories);
+    }
+
+}
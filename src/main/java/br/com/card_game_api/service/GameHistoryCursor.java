@@ -0,0 +1,65 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição na listagem do histórico: o {@code gameTimestamp} e o id do último jogo de uma página.
+ * <p>
+ * É enviada ao cliente como um token opaco (Base64 URL-safe), devolvido para buscar a página seguinte.
+ */
+public final class GameHistoryCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime gameTimestamp;
+    private final long id;
+
+    public GameHistoryCursor(LocalDateTime gameTimestamp, long id) {
+        this.gameTimestamp = gameTimestamp;
+        this.id = id;
+    }
+
+    public static GameHistoryCursor of(GameHistoryDTO gameHistory) {
+        return new GameHistoryCursor(gameHistory.getGameTimestamp(), gameHistory.getId());
+    }
+
+    /**
+     * Lê o token recebido do cliente.
+     *
+     * @throws InvalidCursorException Se o token não tiver sido gerado por {@link #encode()}.
+     */
+    public static GameHistoryCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Cursor inválido: " + token);
+            }
+            return new GameHistoryCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor inválido: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = gameTimestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getGameTimestamp() {
+        return gameTimestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,174 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.HandFormatter;
+import br.com.card_game_api.domain.PlayerDocument;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.PlayerDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Exporta o histórico completo de jogos em NDJSON (um jogo por linha), para análises externas.
+ * <p>
+ * A leitura é feita por JDBC, sem entidades: as linhas chegam do banco em blocos de {@code game.export.fetch-size}
+ * por um cursor no servidor (no PostgreSQL, o cursor exige a transação aberta durante toda a exportação) e cada
+ * jogo é escrito na saída assim que sua última linha é lida. Apenas o jogo corrente fica em memória, qualquer que
+ * seja o tamanho da tabela.
+ */
+@Service
+public class GameHistoryExportService {
+
+    private static final String SELECT_GAMES = """
+            SELECT g.id, g.number_of_players, g.cards_per_player, g.deck_id, g.winner, g.highest_score,
+                   g.game_timestamp
+            FROM game_history g
+            ORDER BY g.id""";
+
+    // Jogadores na mesma consulta, em ordem: as linhas de cada jogo chegam juntas
+    private static final String SELECT_GAMES_WITH_PLAYERS = """
+            SELECT g.id, g.number_of_players, g.cards_per_player, g.deck_id, g.winner, g.highest_score,
+                   g.game_timestamp, g.players_json, p.identifier, p.score, p.hand_codes, p.hand
+            FROM game_history g
+            LEFT JOIN players p ON p.game_history_id = g.id
+            ORDER BY g.id, p.id""";
+
+    private static final TypeReference<List<PlayerDocument>> PLAYER_DOCUMENTS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter gameWriter;
+
+    public GameHistoryExportService(DataSource dataSource,
+                                    ObjectMapper objectMapper,
+                                    @Value("${game.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.gameWriter = objectMapper.writerFor(GameHistoryDTO.class);
+    }
+
+    /**
+     * Escreve todos os jogos, do mais antigo para o mais recente, na saída informada.
+     *
+     * @param output         Saída da exportação; não é fechada
+     * @param includePlayers Inclui os jogadores de cada jogo, com as mãos no idioma informado
+     * @param locale         Idioma das mãos
+     * @return Número de jogos exportados
+     */
+    @Transactional(readOnly = true)
+    public long export(OutputStream output, boolean includePlayers, Locale locale) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            GameWriter writer = new GameWriter(generator, locale);
+            RowCallbackHandler rowHandler = resultSet -> writer.accept(resultSet, includePlayers);
+            jdbcTemplate.query(includePlayers ? SELECT_GAMES_WITH_PLAYERS : SELECT_GAMES, rowHandler);
+            writer.finish();
+            return writer.exported;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Agrupa as linhas de cada jogo e escreve o jogo quando a linha seguinte pertence a outro.
+     */
+    private final class GameWriter {
+
+        private final JsonGenerator generator;
+        private final Locale locale;
+        private GameHistoryDTO current;
+        private long exported;
+
+        private GameWriter(JsonGenerator generator, Locale locale) {
+            this.generator = generator;
+            this.locale = locale;
+        }
+
+        private void accept(ResultSet resultSet, boolean includePlayers) throws SQLException {
+            long id = resultSet.getLong("id");
+            if (current == null || current.getId() != id) {
+                write();
+                current = readGame(resultSet, id);
+                if (includePlayers) {
+                    current.setPlayers(readEmbeddedPlayers(resultSet.getString("players_json")));
+                }
+            }
+            if (includePlayers && resultSet.getString("identifier") != null) {
+                current.getPlayers().add(new PlayerDTO(
+                        resultSet.getString("identifier"),
+                        resultSet.getInt("score"),
+                        handOf(resultSet.getBytes("hand_codes"), resultSet.getString("hand"))));
+            }
+        }
+
+        private void finish() {
+            write();
+        }
+
+        private void write() {
+            if (current == null) {
+                return;
+            }
+            try {
+                gameWriter.writeValue(generator, current);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported++;
+            current = null;
+        }
+
+        private GameHistoryDTO readGame(ResultSet resultSet, long id) throws SQLException {
+            return new GameHistoryDTO(
+                    id,
+                    resultSet.getInt("number_of_players"),
+                    resultSet.getInt("cards_per_player"),
+                    resultSet.getString("deck_id"),
+                    resultSet.getString("winner"),
+                    resultSet.getInt("highest_score"),
+                    resultSet.getTimestamp("game_timestamp").toLocalDateTime());
+        }
+
+        private List<PlayerDTO> readEmbeddedPlayers(String playersJson) {
+            List<PlayerDTO> players = new ArrayList<>();
+            if (playersJson == null) {
+                return players;
+            }
+            try {
+                for (PlayerDocument document : objectMapper.readValue(playersJson, PLAYER_DOCUMENTS)) {
+                    players.add(new PlayerDTO(document.getIdentifier(), document.getScore(),
+                            handOf(document.getHand(), null)));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return players;
+        }
+
+        // Jogadores ainda não convertidos pelo HandBackfillService têm apenas o texto em português
+        private String handOf(byte[] codes, String legacyText) {
+            return codes != null ? HandFormatter.format(Hand.of(codes), locale) : legacyText;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.com.card_game_api.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros opcionais da listagem do histórico. Campos nulos não restringem a busca.
+ * <p>
+ * Cada filtro é atendido por um índice de {@code game_history}: o período pelo índice {@code (game_timestamp, id)}
+ * da paginação, o vencedor pelo GIN de {@code winners}, a pontuação por {@code highest_score} e o deck por
+ * {@code deck_id}.
+ * <p>
+ * Como {@code game_history} é particionada por mês de {@code game_timestamp}, um período também limita a busca às
+ * partições dos meses do período.
+ */
+public class GameHistoryFilter {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String winner;
+    private final Integer minScore;
+    private final String deckId;
+
+    public GameHistoryFilter(LocalDateTime from, LocalDateTime to) {
+        this(from, to, null, null, null);
+    }
+
+    public GameHistoryFilter(LocalDateTime from, LocalDateTime to, String winner, Integer minScore, String deckId) {
+        this.from = from;
+        this.to = to;
+        this.winner = winner;
+        this.minScore = minScore;
+        this.deckId = deckId;
+    }
+
+    public static GameHistoryFilter none() {
+        return new GameHistoryFilter(null, null);
+    }
+
+    /**
+     * Início do período (inclusivo).
+     */
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * Fim do período (exclusivo).
+     */
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    /**
+     * Identificador de um jogador vencedor (ex.: {@code "Jogador 1"}), inclusive em jogos empatados.
+     */
+    public String getWinner() {
+        return winner;
+    }
+
+    /**
+     * Pontuação mínima do vencedor (inclusiva).
+     */
+    public Integer getMinScore() {
+        return minScore;
+    }
+
+    public String getDeckId() {
+        return deckId;
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.dto.GameHistoryDTO;
+
+import java.util.List;
+
+/**
+ * Página do histórico de jogos, do mais recente para o mais antigo.
+ */
+public class GameHistoryPage {
+
+    private final List<GameHistoryDTO> items;
+    private final String nextCursor;
+
+    public GameHistoryPage(List<GameHistoryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<GameHistoryDTO> getItems() {
+        return items;
+    }
+
+    /**
+     * Token da página seguinte, ou {@code null} na última página.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
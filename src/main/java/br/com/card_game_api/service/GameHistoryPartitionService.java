@@ -0,0 +1,176 @@
+package br.com.card_game_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantém as partições mensais de {@code game_history} e {@code players} (PostgreSQL).
+ * <p>
+ * Na inicialização e diariamente ({@code game.partitions.cron}), cria as partições do mês corrente e dos
+ * {@code game.partitions.months-ahead} meses seguintes, para que nenhum jogo fique sem partição. Com
+ * {@code game.partitions.retention-months} maior que zero, os meses anteriores ao período de retenção saem do
+ * histórico por partição inteira, sem DELETEs:
+ * <ul>
+ *     <li>{@code detach} (padrão): as partições do mês são desanexadas e ficam como tabelas avulsas
+ *     ({@code game_history_p2025_01}, {@code players_p2025_01}), para arquivamento;</li>
+ *     <li>{@code drop}: as partições do mês são apagadas.</li>
+ * </ul>
+ * Cada mês expira em uma única transação, os jogadores antes dos jogos, para respeitar a chave estrangeira.
+ * Em outros bancos (como o H2 dos testes) a manutenção não tem efeito.
+ */
+@Service
+public class GameHistoryPartitionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameHistoryPartitionService.class);
+
+    static final String DETACH_ACTION = "detach";
+    static final String DROP_ACTION = "drop";
+
+    private static final String GAME_HISTORY = "game_history";
+    private static final String PLAYERS = "players";
+    private static final String FOREIGN_KEY = "fk_game_history";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern GAME_HISTORY_PARTITION = Pattern.compile("game_history_p(\\d{4})_(\\d{2})");
+
+    private static final String CREATE_PARTITION =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String SELECT_GAME_HISTORY_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'game_history'::regclass
+            ORDER BY c.relname""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+    private Boolean postgres;
+
+    public GameHistoryPartitionService(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${game.partitions.maintenance.enabled:true}") boolean enabled,
+                                       @Value("${game.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${game.partitions.retention-months:0}") int retentionMonths,
+                                       @Value("${game.partitions.retention-action:detach}") String retentionAction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(monthsAhead, 1);
+        this.retentionMonths = Math.max(retentionMonths, 0);
+        this.dropExpired = switch (retentionAction) {
+            case DETACH_ACTION -> false;
+            case DROP_ACTION -> true;
+            default -> throw new IllegalStateException("Ação de retenção inválida: " + retentionAction
+                    + ". Valores aceitos: " + DETACH_ACTION + ", " + DROP_ACTION);
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${game.partitions.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        try {
+            YearMonth currentMonth = YearMonth.now();
+            createPartitions(currentMonth, currentMonth.plusMonths(monthsAhead));
+            purgeExpiredPartitions(currentMonth);
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha na manutenção das partições do histórico", e);
+        }
+    }
+
+    /**
+     * Cria as partições de {@code game_history} e {@code players} de cada mês do intervalo, se ainda não existirem.
+     *
+     * @param from Primeiro mês (inclusivo)
+     * @param to   Último mês (inclusivo)
+     */
+    public void createPartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            jdbcTemplate.execute(createPartition(GAME_HISTORY, month));
+            jdbcTemplate.execute(createPartition(PLAYERS, month));
+        }
+    }
+
+    /**
+     * Desanexa ou apaga as partições dos meses anteriores ao período de retenção.
+     *
+     * @param currentMonth Mês corrente; são mantidos ele e os {@code retention-months} meses anteriores
+     * @return Meses expirados, do mais antigo para o mais recente
+     */
+    public List<YearMonth> purgeExpiredPartitions(YearMonth currentMonth) {
+        List<YearMonth> expired = new ArrayList<>();
+        if (retentionMonths == 0) {
+            return expired;
+        }
+
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        for (String partition : jdbcTemplate.queryForList(SELECT_GAME_HISTORY_PARTITIONS, String.class)) {
+            Matcher matcher = GAME_HISTORY_PARTITION.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(oldestKept)) {
+                transactionTemplate.executeWithoutResult(status -> expire(month));
+                expired.add(month);
+                LOGGER.info("Partições de {} {}", month, dropExpired ? "apagadas" : "desanexadas");
+            }
+        }
+        return expired;
+    }
+
+    // A partição de players desanexada leva uma cópia da chave estrangeira, que impediria desanexar a de game_history
+    private void expire(YearMonth month) {
+        String players = partitionName(PLAYERS, month);
+        String games = partitionName(GAME_HISTORY, month);
+
+        jdbcTemplate.execute("ALTER TABLE " + PLAYERS + " DETACH PARTITION " + players);
+        jdbcTemplate.execute("ALTER TABLE " + players + " DROP CONSTRAINT IF EXISTS " + FOREIGN_KEY);
+        jdbcTemplate.execute("ALTER TABLE " + GAME_HISTORY + " DETACH PARTITION " + games);
+        if (dropExpired) {
+            jdbcTemplate.execute("DROP TABLE " + players);
+            jdbcTemplate.execute("DROP TABLE " + games);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equals(product);
+        }
+        return postgres;
+    }
+
+    private static String createPartition(String table, YearMonth month) {
+        return CREATE_PARTITION.formatted(partitionName(table, month), table,
+                month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache das respostas de {@code GET /game/history/{gameId}}, já serializadas em JSON.
+ * <p>
+ * Um jogo encerrado não muda, então a resposta de cada jogo é montada uma única vez: na gravação (após o commit,
+ * por {@link GameHistorySavedEvent}) ou na primeira leitura. As leituras seguintes devolvem os mesmos bytes, sem
+ * acesso ao banco, sem mapeamento para o DTO e sem serialização.
+ * <p>
+ * O cache é limitado pelo total de bytes guardados ({@code game.history-cache.max-size}), com a política de
+ * remoção W-TinyLFU do Caffeine: jogos consultados com frequência permanecem, mesmo com muitos jogos novos
+ * entrando pela gravação. As métricas {@code cache.gets}, {@code cache.evictions} e {@code cache.size} (com
+ * {@code cache=game.history}) e {@code game.history.cache.hit-ratio} ficam em {@code /actuator/metrics}.
+ */
+@Service
+public class GameHistoryResponseCache {
+
+    static final String CACHE_NAME = "game.history";
+
+    private final GamePersistenceService gamePersistenceService;
+    private final ObjectWriter gameWriter;
+    private final Cache<Long, byte[]> responses;
+
+    public GameHistoryResponseCache(GamePersistenceService gamePersistenceService,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${game.history-cache.enabled:true}") boolean enabled,
+                                    @Value("${game.history-cache.max-size:64MB}") DataSize maxSize) {
+        this.gamePersistenceService = gamePersistenceService;
+        this.gameWriter = objectMapper.writerFor(GameHistoryDTO.class);
+        this.responses = enabled ? Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long gameId, byte[] json) -> json.length)
+                // A manutenção (remoções) é curta e roda na própria thread, sem depender do pool comum
+                .executor(Runnable::run)
+                .recordStats()
+                .build() : null;
+
+        if (responses != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+            Gauge.builder("game.history.cache.hit-ratio", responses, cache -> cache.stats().hitRate())
+                    .description("Fração das consultas atendidas pelo cache")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * JSON do histórico do jogo, do cache ou, na primeira consulta, do banco.
+     *
+     * @param gameId O ID do jogo
+     * @return Resposta serializada, compartilhada entre as requisições: não deve ser alterada
+     * @throws br.com.card_game_api.exception.GameNotFoundException Se o jogo não for encontrado
+     */
+    public byte[] getGameHistoryJson(Long gameId) {
+        if (responses == null) {
+            return toJson(gamePersistenceService.getGameHistoryById(gameId));
+        }
+        return responses.get(gameId, id -> toJson(gamePersistenceService.getGameHistoryById(id)));
+    }
+
+    /**
+     * Guarda a resposta dos jogos recém-gravados, que costumam ser consultados logo em seguida.
+     * Jogos sem id (ainda na fila do write-behind) são ignorados.
+     */
+    @TransactionalEventListener
+    public void onGameHistorySaved(GameHistorySavedEvent event) {
+        if (responses == null) {
+            return;
+        }
+        for (GameHistory gameHistory : event.getGameHistories()) {
+            if (gameHistory.getId() != null) {
+                responses.put(gameHistory.getId(), toJson(gameHistory));
+            }
+        }
+    }
+
+    private byte[] toJson(GameHistory gameHistory) {
+        try {
+            return gameWriter.writeValueAsBytes(GameHistoryMapper.toDTO(gameHistory));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o jogo " + gameHistory.getId(), e);
+        }
+    }
+
+}
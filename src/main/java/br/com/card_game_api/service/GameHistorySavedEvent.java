@@ -0,0 +1,23 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+
+import java.util.List;
+
+/**
+ * Jogos gravados por {@link GamePersistenceService}. Publicado dentro da transação da gravação; ouvintes
+ * interessados apenas em jogos confirmados devem usar {@code @TransactionalEventListener}.
+ */
+public class GameHistorySavedEvent {
+
+    private final List<GameHistory> gameHistories;
+
+    public GameHistorySavedEvent(List<GameHistory> gameHistories) {
+        this.gameHistories = gameHistories;
+    }
+
+    public List<GameHistory> getGameHistories() {
+        return gameHistories;
+    }
+
+}
@@ -0,0 +1,69 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Critérios de busca do histórico de jogos.
+ */
+final class GameHistorySpecifications {
+
+    /**
+     * Ordem da listagem, atendida pelo índice {@code idx_game_history_timestamp_id}.
+     */
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("gameTimestamp"), Sort.Order.desc("id"));
+
+    private GameHistorySpecifications() {
+    }
+
+    /**
+     * Jogos que atendem aos filtros e que vêm depois do cursor na ordem {@link #NEWEST_FIRST}.
+     * <p>
+     * A posição do cursor é aplicada como {@code game_timestamp <= :ts AND (game_timestamp < :ts OR id < :id)}:
+     * a primeira condição limita a leitura do índice a partir do cursor, sem OFFSET, e a segunda desempata os
+     * jogos gravados no mesmo instante.
+     *
+     * @param filter Filtros opcionais
+     * @param cursor Último jogo da página anterior, ou {@code null} para a primeira página
+     */
+    static Specification<GameHistory> matching(GameHistoryFilter filter, GameHistoryCursor cursor) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDateTime> gameTimestamp = root.get("gameTimestamp");
+
+            if (filter.getFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(gameTimestamp, filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(builder.lessThan(gameTimestamp, filter.getTo()));
+            }
+            if (filter.getWinner() != null) {
+                // winners @> array[:winner] no PostgreSQL
+                predicates.add(((HibernateCriteriaBuilder) builder).arrayContains(
+                        root.<String[]>get("winners"), filter.getWinner()));
+            }
+            if (filter.getMinScore() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("highestScore"), filter.getMinScore()));
+            }
+            if (filter.getDeckId() != null) {
+                predicates.add(builder.equal(root.get("deckId"), filter.getDeckId()));
+            }
+            if (cursor != null) {
+                predicates.add(builder.lessThanOrEqualTo(gameTimestamp, cursor.getGameTimestamp()));
+                predicates.add(builder.or(
+                        builder.lessThan(gameTimestamp, cursor.getGameTimestamp()),
+                        builder.lessThan(root.get("id"), cursor.getId())));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+}
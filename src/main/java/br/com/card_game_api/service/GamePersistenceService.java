@@ -2,31 +2,67 @@ package br.com.card_game_api.service;
 
 import br.com.card_game_api.domain.GameHistory;
 import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.GameHistoryDTO;
 import br.com.card_game_api.exception.GameNotFoundException;
 import br.com.card_game_api.repository.GameHistoryRepository;
 import br.com.card_game_api.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Serviço responsável pela persistência de dados relacionados ao jogo.
  * Gerencia o salvamento do histórico de jogos e jogadores no banco de dados.
+ * <p>
+ * O modo de gravação é definido por {@code game.persistence.mode}:
+ * <ul>
+ *     <li>{@code normalized} (padrão): uma linha em {@code game_history} e uma linha por jogador em {@code players}</li>
+ *     <li>{@code document}: uma única linha em {@code game_history}, com os jogadores na coluna JSONB {@code players_json}</li>
+ * </ul>
+ * A leitura atende os dois formatos, então a troca de modo não exige migração dos jogos já gravados.
  */
 @Service
 public class GamePersistenceService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    static final String NORMALIZED_MODE = "normalized";
+    static final String DOCUMENT_MODE = "document";
+
     private final GameHistoryRepository gameHistoryRepository;
     private final PlayerRepository playerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean documentMode;
 
-    public GamePersistenceService(GameHistoryRepository gameHistoryRepository, PlayerRepository playerRepository) {
+    public GamePersistenceService(GameHistoryRepository gameHistoryRepository,
+                                  PlayerRepository playerRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${game.persistence.mode:normalized}") String mode) {
         this.gameHistoryRepository = gameHistoryRepository;
         this.playerRepository = playerRepository;
+        this.eventPublisher = eventPublisher;
+        this.documentMode = switch (mode.toLowerCase()) {
+            case NORMALIZED_MODE -> false;
+            case DOCUMENT_MODE -> true;
+            default -> throw new IllegalStateException("Modo de persistência inválido: " + mode
+                    + ". Valores aceitos: normalized, document.");
+        };
     }
 
     /**
      * Salva o histórico do jogo no banco de dados, incluindo jogadores associados.
+     * O histórico e os jogadores são gravados na mesma transação, que é a única etapa do jogo a usar
+     * uma conexão do pool. No modo {@code document}, a gravação é um único INSERT.
+     * Após o commit, o jogo é anunciado em um {@link GameHistorySavedEvent}.
      *
      * @param numPlayers   Número de jogadores
      * @param cardsPerHand Número de cartas por jogador
@@ -35,7 +71,30 @@ public class GamePersistenceService {
      * @param players      Lista de jogadores com suas pontuações
      * @return Histórico do jogo registrado
      */
+    @Transactional
     public GameHistory saveGameHistory(int numPlayers, int cardsPerHand, String deckId, String winner, List<Player> players) {
+        GameHistory gameHistory = buildGameHistory(numPlayers, cardsPerHand, deckId, winner, players);
+        gameHistory = gameHistoryRepository.save(gameHistory);
+
+        if (!documentMode) {
+            playerRepository.saveAll(players);
+        }
+
+        eventPublisher.publishEvent(new GameHistorySavedEvent(List.of(gameHistory)));
+        return gameHistory;
+    }
+
+    /**
+     * Monta o histórico do jogo, ainda não gravado, com os jogadores associados conforme o modo de persistência.
+     *
+     * @param numPlayers   Número de jogadores
+     * @param cardsPerHand Número de cartas por jogador
+     * @param deckId       Identificador do baralho utilizado
+     * @param winner       Nome do vencedor
+     * @param players      Lista de jogadores com suas pontuações
+     * @return Histórico do jogo pronto para ser gravado
+     */
+    public GameHistory buildGameHistory(int numPlayers, int cardsPerHand, String deckId, String winner, List<Player> players) {
         int highestScore = players.stream()
                 .mapToInt(Player::getScore)
                 .max()
@@ -47,24 +106,31 @@ public class GamePersistenceService {
                 deckId,
                 winner,
                 highestScore,
-                LocalDateTime.now()
+                // Precisão da coluna TIMESTAMP: o jogo em memória fica igual ao lido do banco
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
         );
-        gameHistory = gameHistoryRepository.save(gameHistory);
-
-        savePlayers(players, gameHistory);
 
+        if (documentMode) {
+            gameHistory.embedPlayers(players);
+        } else {
+            players.forEach(gameHistory::addPlayer);
+        }
         return gameHistory;
     }
 
     /**
-     * Salva os jogadores no banco de dados, associando-os ao histórico do jogo.
+     * Grava vários jogos montados por {@link #buildGameHistory} em uma única transação. Os jogadores são gravados
+     * em cascata, e os INSERTs de todos os jogos são agrupados nos lotes JDBC. Após o commit, os jogos são
+     * anunciados em um único {@link GameHistorySavedEvent}.
      *
-     * @param players     Lista de jogadores
-     * @param gameHistory Histórico do jogo associado aos jogadores
+     * @param gameHistories Jogos a gravar
+     * @return Os jogos gravados, com os ids preenchidos
      */
-    private void savePlayers(List<Player> players, GameHistory gameHistory) {
-        players.forEach(player -> player.setGameHistory(gameHistory));
-        playerRepository.saveAll(players);
+    @Transactional
+    public List<GameHistory> saveGameHistories(List<GameHistory> gameHistories) {
+        List<GameHistory> saved = gameHistoryRepository.saveAll(gameHistories);
+        eventPublisher.publishEvent(new GameHistorySavedEvent(saved));
+        return saved;
     }
 
     /**
@@ -80,12 +146,75 @@ public class GamePersistenceService {
     }
 
     /**
-     * Recupera todos os históricos de jogos registrados no banco de dados.
+     * Recupera o histórico de um jogo com os jogadores, as pontuações e as mãos, em uma única consulta.
+     *
+     * @param gameId O ID do jogo
+     * @return O histórico do jogo, com os jogadores já carregados
+     * @throws GameNotFoundException Se o jogo não for encontrado
+     */
+    @Transactional(readOnly = true)
+    public GameHistory getGameHistoryWithPlayers(Long gameId) {
+        return gameHistoryRepository.findWithPlayersById(gameId)
+                .orElseThrow(() -> new GameNotFoundException("Jogo com ID " + gameId + " não encontrado."));
+    }
+
+    /**
+     * Recupera o histórico de vários jogos com os jogadores, em uma única consulta para todos os jogos.
+     * Os IDs sem jogo correspondente são ignorados.
      *
-     * @return Lista de todos os históricos de jogos
+     * @param gameIds Os IDs dos jogos
+     * @return Os históricos, na ordem dos IDs informados
      */
-    public List<GameHistory> getAllGameHistories() {
-        return gameHistoryRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<GameHistory> getGameHistoriesWithPlayers(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, GameHistory> gameHistoriesById = new HashMap<>();
+        for (GameHistory gameHistory : gameHistoryRepository.findWithPlayersByIdIn(gameIds)) {
+            gameHistoriesById.put(gameHistory.getId(), gameHistory);
+        }
+
+        List<GameHistory> gameHistories = new ArrayList<>(gameHistoriesById.size());
+        for (Long gameId : gameIds) {
+            GameHistory gameHistory = gameHistoriesById.get(gameId);
+            if (gameHistory != null) {
+                gameHistories.add(gameHistory);
+            }
+        }
+        return gameHistories;
+    }
+
+    /**
+     * Recupera uma página do histórico de jogos, do mais recente para o mais antigo.
+     * <p>
+     * A paginação é por cursor (keyset): cada página continua a partir do último jogo da anterior, usando o índice
+     * {@code (game_timestamp, id)}, sem OFFSET e sem contar o total de jogos. É lido um jogo além do limite apenas
+     * para saber se existe uma próxima página.
+     * <p>
+     * Os jogos são lidos direto como {@link GameHistoryDTO}, em transação somente leitura, sem criar entidades
+     * ({@link GameHistoryRepository#findSummaries}). O período do filtro e a posição do cursor restringem
+     * {@code game_timestamp}, então o PostgreSQL lê apenas as partições mensais que podem conter jogos da página.
+     *
+     * @param filter Filtros opcionais
+     * @param cursor Token da página anterior ({@link GameHistoryPage#getNextCursor()}), ou {@code null} para a primeira
+     * @param limit  Tamanho da página, limitado entre 1 e {@value #MAX_PAGE_SIZE}
+     * @return A página e o cursor da seguinte
+     * @throws br.com.card_game_api.exception.InvalidCursorException Se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public GameHistoryPage getGameHistoryPage(GameHistoryFilter filter, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        GameHistoryCursor after = cursor == null || cursor.isBlank() ? null : GameHistoryCursor.decode(cursor);
+
+        List<GameHistoryDTO> gameHistories = gameHistoryRepository.findSummaries(
+                GameHistorySpecifications.matching(filter, after), GameHistorySpecifications.NEWEST_FIRST, pageSize + 1);
+
+        if (gameHistories.size() <= pageSize) {
+            return new GameHistoryPage(gameHistories, null);
+        }
+        List<GameHistoryDTO> items = gameHistories.subList(0, pageSize);
+        return new GameHistoryPage(items, GameHistoryCursor.of(items.get(pageSize - 1)).encode());
     }
 
 }
@@ -1,5 +1,6 @@
 package br.com.card_game_api.service;
 
+import br.com.card_game_api.domain.GameHistory;
 import br.com.card_game_api.domain.Player;
 import org.springframework.stereotype.Service;
 
@@ -28,7 +29,31 @@ public class GameResultService {
         return players.stream()
                 .filter(player -> player.getScore() == highestScore)
                 .map(Player::getIdentifier)
-                .collect(Collectors.joining(", "));
+                .collect(Collectors.joining(GameHistory.WINNER_SEPARATOR));
+    }
+
+    /**
+     * Mesma regra de {@link #determineWinner}, sobre as pontuações por posição na mesa, sem criar objetos:
+     * todas as posições com a maior pontuação são vencedoras.
+     *
+     * @param scores       Pontuação de cada posição
+     * @param numPlayers   Quantidade de posições consideradas em {@code scores}
+     * @param winningSeats Recebe as posições vencedoras (a partir de 0), em ordem crescente
+     * @return Quantidade de vencedores (mais de um em caso de empate)
+     */
+    public int determineWinners(int[] scores, int numPlayers, int[] winningSeats) {
+        int highestScore = Integer.MIN_VALUE;
+        int winners = 0;
+        for (int seat = 0; seat < numPlayers; seat++) {
+            if (scores[seat] > highestScore) {
+                highestScore = scores[seat];
+                winners = 0;
+            }
+            if (scores[seat] == highestScore) {
+                winningSeats[winners++] = seat;
+            }
+        }
+        return winners;
     }
 
 }
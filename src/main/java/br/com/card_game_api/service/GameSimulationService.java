@@ -0,0 +1,221 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.dto.SimulationResultDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulação Monte Carlo de muitos jogos, inteiramente em memória: sem deck remoto, sem gravação e sem criar
+ * jogadores.
+ * <p>
+ * Cada jogo embaralha localmente apenas as cartas distribuídas (Fisher-Yates parcial sobre um deck com os baralhos
+ * calculados por {@link DeckCalculatorService}), pontua as mãos com o {@link ScoreCalculatorService} e aplica a regra
+ * de vencedores do {@link GameResultService}, empates incluídos. Os jogos são divididos em tarefas de fork/join,
+ * executadas em um pool próprio ({@code game.simulation.parallelism}, padrão: um thread por núcleo). Cada tarefa
+ * tem o seu gerador ({@link SplittableRandom#split()}) e os seus totais, somados ao final, então os threads não
+ * compartilham estado e a vazão cresce com os núcleos.
+ * <p>
+ * Com a mesma semente, o resultado é o mesmo, qualquer que seja o paralelismo: a divisão das tarefas e dos
+ * geradores não depende de qual thread executa cada parte.
+ */
+@Service
+public class GameSimulationService {
+
+    static final long GAMES_PER_TASK = 4096;
+
+    private final InputValidator inputValidator;
+    private final DeckCalculatorService deckCalculatorService;
+    private final ScoreCalculatorService scoreCalculatorService;
+    private final GameResultService gameResultService;
+    private final long maxGames;
+    private final int maxCardsPerGame;
+    private final ForkJoinPool pool;
+
+    public GameSimulationService(InputValidator inputValidator,
+                                 DeckCalculatorService deckCalculatorService,
+                                 ScoreCalculatorService scoreCalculatorService,
+                                 GameResultService gameResultService,
+                                 @Value("${game.simulation.parallelism:0}") int parallelism,
+                                 @Value("${game.simulation.max-games:10000000}") long maxGames,
+                                 @Value("${game.simulation.max-cards-per-game:10000}") int maxCardsPerGame) {
+        this.inputValidator = inputValidator;
+        this.deckCalculatorService = deckCalculatorService;
+        this.scoreCalculatorService = scoreCalculatorService;
+        this.gameResultService = gameResultService;
+        this.maxGames = maxGames;
+        this.maxCardsPerGame = maxCardsPerGame;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("game-simulation-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Simula os jogos e retorna as estatísticas agregadas.
+     *
+     * @param numPlayers   Número de jogadores
+     * @param cardsPerHand Número de cartas por jogador
+     * @param games        Quantidade de jogos, até {@code game.simulation.max-games}
+     * @param seed         Semente do gerador, para repetir uma simulação; {@code null} para uma semente aleatória
+     * @return Histograma das pontuações das mãos, taxa de vitória por posição e frequência de empates
+     * @throws IllegalArgumentException Se os parâmetros forem inválidos ou excederem os limites
+     */
+    public SimulationResultDTO simulate(int numPlayers, int cardsPerHand, long games, Long seed) {
+        inputValidator.validateInputs(numPlayers, cardsPerHand);
+        if (games < 1 || games > maxGames) {
+            throw new IllegalArgumentException("Quantidade de jogos inválida: " + games
+                    + ". Valores aceitos: 1 a " + maxGames);
+        }
+        if ((long) numPlayers * cardsPerHand > maxCardsPerGame) {
+            throw new IllegalArgumentException("Cartas por jogo acima do limite da simulação: " + maxCardsPerGame);
+        }
+
+        int deckSize = deckCalculatorService.calculateDecks(numPlayers, cardsPerHand) * CardCode.CARDS_PER_DECK;
+        SplittableRandom random = new SplittableRandom(seed != null ? seed : ThreadLocalRandom.current().nextLong());
+
+        long start = System.nanoTime();
+        SimulationTotals totals = pool.invoke(
+                new SimulationTask(numPlayers, cardsPerHand, deckSize, games, random));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        return toResult(numPlayers, cardsPerHand, games, totals, elapsedMillis);
+    }
+
+    private SimulationResultDTO toResult(int numPlayers, int cardsPerHand, long games, SimulationTotals totals,
+                                         long elapsedMillis) {
+        SortedMap<Integer, Long> scoreHistogram = new TreeMap<>();
+        long hands = 0;
+        long scoreSum = 0;
+        for (int score = 0; score < totals.scoreCounts.length; score++) {
+            long count = totals.scoreCounts[score];
+            if (count > 0) {
+                scoreHistogram.put(score, count);
+                hands += count;
+                scoreSum += count * score;
+            }
+        }
+
+        List<Double> winRateBySeat = new ArrayList<>(numPlayers);
+        for (long wins : totals.winsBySeat) {
+            winRateBySeat.add((double) wins / games);
+        }
+        return new SimulationResultDTO(numPlayers, cardsPerHand, games, (double) scoreSum / hands, scoreHistogram,
+                winRateBySeat, (double) totals.ties / games, elapsedMillis);
+    }
+
+    /**
+     * Simula um intervalo de jogos, dividindo-o ao meio enquanto for maior que {@value #GAMES_PER_TASK} jogos.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationTotals> {
+
+        private final int numPlayers;
+        private final int cardsPerHand;
+        private final int deckSize;
+        private final long games;
+        private final SplittableRandom random;
+
+        private SimulationTask(int numPlayers, int cardsPerHand, int deckSize, long games, SplittableRandom random) {
+            this.numPlayers = numPlayers;
+            this.cardsPerHand = cardsPerHand;
+            this.deckSize = deckSize;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationTotals compute() {
+            if (games <= GAMES_PER_TASK) {
+                return play();
+            }
+            long half = games / 2;
+            SimulationTask left = new SimulationTask(numPlayers, cardsPerHand, deckSize, half, random.split());
+            left.fork();
+            SimulationTotals totals = new SimulationTask(numPlayers, cardsPerHand, deckSize, games - half, random)
+                    .compute();
+            totals.add(left.join());
+            return totals;
+        }
+
+        private SimulationTotals play() {
+            SimulationTotals totals = new SimulationTotals(numPlayers, cardsPerHand);
+            byte[] deck = new byte[deckSize];
+            for (int i = 0; i < deckSize; i++) {
+                deck[i] = (byte) (i % CardCode.CARDS_PER_DECK);
+            }
+            int dealtCards = numPlayers * cardsPerHand;
+            int[] scores = new int[numPlayers];
+            int[] winningSeats = new int[numPlayers];
+
+            for (long game = 0; game < games; game++) {
+                // O deck continua sendo uma permutação dos baralhos: basta sortear as posições distribuídas
+                for (int i = 0; i < dealtCards; i++) {
+                    int j = i + random.nextInt(deckSize - i);
+                    byte card = deck[i];
+                    deck[i] = deck[j];
+                    deck[j] = card;
+                }
+                for (int seat = 0; seat < numPlayers; seat++) {
+                    int from = seat * cardsPerHand;
+                    scores[seat] = scoreCalculatorService.calculateScore(deck, from, from + cardsPerHand);
+                    totals.scoreCounts[scores[seat]]++;
+                }
+                int winners = gameResultService.determineWinners(scores, numPlayers, winningSeats);
+                for (int i = 0; i < winners; i++) {
+                    totals.winsBySeat[winningSeats[i]]++;
+                }
+                if (winners > 1) {
+                    totals.ties++;
+                }
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * Totais de uma tarefa: quantidade de mãos por pontuação, vitórias por posição (cada vencedor de um empate
+     * conta uma vitória) e jogos empatados.
+     */
+    private static final class SimulationTotals {
+
+        private final long[] scoreCounts;
+        private final long[] winsBySeat;
+        private long ties;
+
+        private SimulationTotals(int numPlayers, int cardsPerHand) {
+            this.scoreCounts = new long[cardsPerHand * CardCode.MAX_SCORE + 1];
+            this.winsBySeat = new long[numPlayers];
+        }
+
+        private void add(SimulationTotals other) {
+            for (int i = 0; i < scoreCounts.length; i++) {
+                scoreCounts[i] += other.scoreCounts[i];
+            }
+            for (int i = 0; i < winsBySeat.length; i++) {
+                winsBySeat[i] += other.winsBySeat[i];
+            }
+            ties += other.ties;
+        }
+    }
+
+}
@@ -0,0 +1,287 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameFormatStats;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.SeatWinStats;
+import br.com.card_game_api.dto.FormatStatsDTO;
+import br.com.card_game_api.dto.GameStatsDTO;
+import br.com.card_game_api.dto.SeatStatsDTO;
+import br.com.card_game_api.repository.GameFormatStatsRepository;
+import br.com.card_game_api.repository.SeatWinStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estatísticas agregadas do histórico: jogos disputados, taxa de empates, vitórias por posição na mesa e
+ * média/máximo da maior pontuação por formato de jogo.
+ * <p>
+ * Os totais ficam nas tabelas {@code game_stats_by_format} e {@code game_stats_wins_by_seat} e são atualizados
+ * por upsert na mesma transação que grava os jogos ({@link GameHistorySavedEvent}): um comando por formato e por
+ * posição vencedora de cada gravação, com os totais do lote já somados em memória. A consulta lê apenas essas
+ * tabelas, cujo tamanho depende dos formatos jogados e não da quantidade de jogos.
+ * <p>
+ * Os totais de cada formato e de cada posição ficam distribuídos em {@code game.stats.slots} linhas, somadas na
+ * consulta. Cada gravação atualiza as linhas de um slot sorteado e as mantém bloqueadas até o commit: com várias
+ * linhas, as gravações concorrentes do mesmo formato (ou com o mesmo vencedor) raramente aguardam umas às outras.
+ * <p>
+ * {@link #rebuildStats()} recalcula os totais a partir do histórico, por exemplo após apagar partições antigas.
+ */
+@Service
+public class GameStatsService {
+
+    // As linhas são atualizadas sempre na ordem das chaves, para que lotes concorrentes não entrem em deadlock
+    private static final String UPSERT_FORMAT_POSTGRES = """
+            INSERT INTO game_stats_by_format AS s (number_of_players, cards_per_player, slot, games, ties,
+                                                   highest_score_sum, highest_score_max)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (number_of_players, cards_per_player, slot) DO UPDATE
+            SET games = s.games + EXCLUDED.games,
+                ties = s.ties + EXCLUDED.ties,
+                highest_score_sum = s.highest_score_sum + EXCLUDED.highest_score_sum,
+                highest_score_max = GREATEST(s.highest_score_max, EXCLUDED.highest_score_max)""";
+    private static final String UPSERT_SEAT_POSTGRES = """
+            INSERT INTO game_stats_wins_by_seat AS s (seat, slot, wins)
+            VALUES (?, ?, ?)
+            ON CONFLICT (seat, slot) DO UPDATE
+            SET wins = s.wins + EXCLUDED.wins""";
+
+    // MERGE do SQL padrão, para os demais bancos (como o H2 dos testes)
+    private static final String UPSERT_FORMAT_STANDARD = """
+            MERGE INTO game_stats_by_format s
+            USING (VALUES (CAST(? AS INT), CAST(? AS INT), CAST(? AS INT), CAST(? AS BIGINT), CAST(? AS BIGINT),
+                           CAST(? AS BIGINT), CAST(? AS INT)))
+                  AS d (number_of_players, cards_per_player, slot, games, ties, highest_score_sum, highest_score_max)
+            ON s.number_of_players = d.number_of_players AND s.cards_per_player = d.cards_per_player
+               AND s.slot = d.slot
+            WHEN MATCHED THEN UPDATE
+            SET games = s.games + d.games,
+                ties = s.ties + d.ties,
+                highest_score_sum = s.highest_score_sum + d.highest_score_sum,
+                highest_score_max = GREATEST(s.highest_score_max, d.highest_score_max)
+            WHEN NOT MATCHED THEN INSERT (number_of_players, cards_per_player, slot, games, ties, highest_score_sum,
+                                          highest_score_max)
+            VALUES (d.number_of_players, d.cards_per_player, d.slot, d.games, d.ties, d.highest_score_sum,
+                    d.highest_score_max)""";
+    private static final String UPSERT_SEAT_STANDARD = """
+            MERGE INTO game_stats_wins_by_seat s
+            USING (VALUES (CAST(? AS INT), CAST(? AS INT), CAST(? AS BIGINT))) AS d (seat, slot, wins)
+            ON s.seat = d.seat AND s.slot = d.slot
+            WHEN MATCHED THEN UPDATE SET wins = s.wins + d.wins
+            WHEN NOT MATCHED THEN INSERT (seat, slot, wins) VALUES (d.seat, d.slot, d.wins)""";
+
+    // Impede upserts concorrentes até o fim da reconstrução, sem bloquear a leitura das estatísticas
+    private static final String LOCK_STATS_TABLES =
+            "LOCK TABLE game_stats_by_format, game_stats_wins_by_seat IN SHARE ROW EXCLUSIVE MODE";
+    private static final String SELECT_HISTORY_TOTALS = """
+            SELECT number_of_players, cards_per_player, winner, count(*) AS games,
+                   sum(highest_score) AS highest_score_sum, max(highest_score) AS highest_score_max
+            FROM game_history
+            GROUP BY number_of_players, cards_per_player, winner""";
+
+    private static final String SEAT_PREFIX = "Jogador ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameFormatStatsRepository gameFormatStatsRepository;
+    private final SeatWinStatsRepository seatWinStatsRepository;
+    private final int slots;
+    private Boolean postgres;
+
+    public GameStatsService(JdbcTemplate jdbcTemplate,
+                            GameFormatStatsRepository gameFormatStatsRepository,
+                            SeatWinStatsRepository seatWinStatsRepository,
+                            @Value("${game.stats.slots:16}") int slots) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameFormatStatsRepository = gameFormatStatsRepository;
+        this.seatWinStatsRepository = seatWinStatsRepository;
+        this.slots = Math.max(slots, 1);
+    }
+
+    /**
+     * Soma os jogos gravados às estatísticas, dentro da transação da gravação: se a gravação for desfeita, os
+     * totais também são.
+     */
+    @EventListener
+    public void onGameHistorySaved(GameHistorySavedEvent event) {
+        StatsDelta delta = new StatsDelta();
+        for (GameHistory gameHistory : event.getGameHistories()) {
+            delta.add(gameHistory.getNumberOfPlayers(), gameHistory.getCardsPerPlayer(), gameHistory.getWinner(),
+                    1, gameHistory.getHighestScore(), gameHistory.getHighestScore());
+        }
+        write(delta, ThreadLocalRandom.current().nextInt(slots));
+    }
+
+    /**
+     * Estatísticas atuais, lidas das tabelas de totais e somadas por formato e por posição.
+     */
+    @Transactional(readOnly = true)
+    public GameStatsDTO getStats() {
+        StatsDelta totals = new StatsDelta();
+        for (GameFormatStats format : gameFormatStatsRepository.findAll()) {
+            totals.addFormat(format.getNumberOfPlayers(), format.getCardsPerPlayer(), format.getGames(),
+                    format.getTies(), format.getHighestScoreSum(), format.getHighestScoreMax());
+        }
+        for (SeatWinStats seat : seatWinStatsRepository.findAll()) {
+            totals.winsBySeat.merge(seat.getSeat(), seat.getWins(), Long::sum);
+        }
+
+        long gamesPlayed = 0;
+        long ties = 0;
+        List<FormatStatsDTO> byFormat = new ArrayList<>(totals.formats.size());
+        for (Map.Entry<Long, long[]> format : totals.formats.entrySet()) {
+            long[] formatTotals = format.getValue();
+            long games = formatTotals[StatsDelta.GAMES];
+            gamesPlayed += games;
+            ties += formatTotals[StatsDelta.TIES];
+            byFormat.add(new FormatStatsDTO(StatsDelta.numberOfPlayers(format.getKey()),
+                    StatsDelta.cardsPerPlayer(format.getKey()), games, formatTotals[StatsDelta.TIES],
+                    ratio(formatTotals[StatsDelta.SCORE_SUM], games), (int) formatTotals[StatsDelta.SCORE_MAX]));
+        }
+
+        List<SeatStatsDTO> winsBySeat = new ArrayList<>(totals.winsBySeat.size());
+        for (Map.Entry<Integer, Long> seat : totals.winsBySeat.entrySet()) {
+            // A posição só existe nos jogos com pelo menos esse número de jogadores
+            long gamesWithSeat = 0;
+            for (Map.Entry<Long, long[]> format : totals.formats.entrySet()) {
+                if (StatsDelta.numberOfPlayers(format.getKey()) >= seat.getKey()) {
+                    gamesWithSeat += format.getValue()[StatsDelta.GAMES];
+                }
+            }
+            winsBySeat.add(new SeatStatsDTO(SEAT_PREFIX + seat.getKey(), seat.getValue(),
+                    ratio(seat.getValue(), gamesWithSeat)));
+        }
+        return new GameStatsDTO(gamesPlayed, ties, ratio(ties, gamesPlayed), winsBySeat, byFormat);
+    }
+
+    /**
+     * Recalcula as estatísticas a partir do histórico de jogos, agregado no banco por formato e vencedor.
+     * No PostgreSQL, as gravações concorrentes aguardam o fim da reconstrução para somar seus jogos aos novos
+     * totais.
+     *
+     * @return As estatísticas recalculadas
+     */
+    @Transactional
+    public GameStatsDTO rebuildStats() {
+        if (isPostgres()) {
+            jdbcTemplate.execute(LOCK_STATS_TABLES);
+        }
+        jdbcTemplate.update("DELETE FROM game_stats_wins_by_seat");
+        jdbcTemplate.update("DELETE FROM game_stats_by_format");
+
+        StatsDelta totals = new StatsDelta();
+        jdbcTemplate.query(SELECT_HISTORY_TOTALS, resultSet -> {
+            totals.add(resultSet.getInt("number_of_players"), resultSet.getInt("cards_per_player"),
+                    resultSet.getString("winner"), resultSet.getLong("games"),
+                    resultSet.getLong("highest_score_sum"), resultSet.getInt("highest_score_max"));
+        });
+        write(totals, 0);
+        return getStats();
+    }
+
+    private void write(StatsDelta delta, int slot) {
+        if (delta.formats.isEmpty()) {
+            return;
+        }
+        boolean useOnConflict = isPostgres();
+
+        List<Object[]> formatRows = new ArrayList<>(delta.formats.size());
+        for (Map.Entry<Long, long[]> format : delta.formats.entrySet()) {
+            long[] totals = format.getValue();
+            formatRows.add(new Object[]{StatsDelta.numberOfPlayers(format.getKey()),
+                    StatsDelta.cardsPerPlayer(format.getKey()), slot, totals[StatsDelta.GAMES],
+                    totals[StatsDelta.TIES], totals[StatsDelta.SCORE_SUM], (int) totals[StatsDelta.SCORE_MAX]});
+        }
+        jdbcTemplate.batchUpdate(useOnConflict ? UPSERT_FORMAT_POSTGRES : UPSERT_FORMAT_STANDARD, formatRows);
+
+        List<Object[]> seatRows = new ArrayList<>(delta.winsBySeat.size());
+        for (Map.Entry<Integer, Long> seat : delta.winsBySeat.entrySet()) {
+            seatRows.add(new Object[]{seat.getKey(), slot, seat.getValue()});
+        }
+        if (!seatRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(useOnConflict ? UPSERT_SEAT_POSTGRES : UPSERT_SEAT_STANDARD, seatRows);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equals(product);
+        }
+        return postgres;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+
+    /**
+     * Posição na mesa do identificador {@code "Jogador N"}, ou -1 para identificadores fora desse formato.
+     */
+    static int seatOf(String identifier) {
+        if (!identifier.startsWith(SEAT_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(identifier.substring(SEAT_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Totais a somar às tabelas ou lidos delas, agrupados e ordenados por formato e por posição.
+     */
+    private static final class StatsDelta {
+
+        private static final int GAMES = 0;
+        private static final int TIES = 1;
+        private static final int SCORE_SUM = 2;
+        private static final int SCORE_MAX = 3;
+
+        // Chave: número de jogadores nos 32 bits altos, cartas por jogador nos baixos
+        private final Map<Long, long[]> formats = new TreeMap<>();
+        private final Map<Integer, Long> winsBySeat = new TreeMap<>();
+
+        private void add(int numberOfPlayers, int cardsPerPlayer, String winner, long games, long scoreSum,
+                         int scoreMax) {
+            String[] winners = winner.split(GameHistory.WINNER_SEPARATOR);
+            addFormat(numberOfPlayers, cardsPerPlayer, games, winners.length > 1 ? games : 0, scoreSum, scoreMax);
+
+            for (String identifier : winners) {
+                int seat = seatOf(identifier);
+                if (seat > 0) {
+                    winsBySeat.merge(seat, games, Long::sum);
+                }
+            }
+        }
+
+        private void addFormat(int numberOfPlayers, int cardsPerPlayer, long games, long ties, long scoreSum,
+                               int scoreMax) {
+            long[] totals = formats.computeIfAbsent(((long) numberOfPlayers << 32) | cardsPerPlayer,
+                    key -> new long[]{0, 0, 0, Long.MIN_VALUE});
+            totals[GAMES] += games;
+            totals[TIES] += ties;
+            totals[SCORE_SUM] += scoreSum;
+            totals[SCORE_MAX] = Math.max(totals[SCORE_MAX], scoreMax);
+        }
+
+        private static int numberOfPlayers(long formatKey) {
+            return (int) (formatKey >>> 32);
+        }
+
+        private static int cardsPerPlayer(long formatKey) {
+            return (int) formatKey;
+        }
+    }
+
+}
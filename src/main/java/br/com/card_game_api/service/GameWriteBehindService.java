@@ -0,0 +1,294 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Player;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Grava os jogos encerrados.
+ * <p>
+ * Com {@code game.persistence.write-behind.enabled=true}, os jogos entram em uma fila limitada
+ * ({@code queue-capacity}) e uma thread dedicada os grava em lotes de até {@code max-batch-size} jogos, com um
+ * único commit por lote ({@link GamePersistenceService#saveGameHistories}). Quem envia o jogo recebe um
+ * {@link CompletableFuture} concluído após o commit. Com a fila cheia, o envio aguarda espaço: nenhum jogo é
+ * descartado.
+ * <p>
+ * Com {@code wait-for-durability=true} (padrão), {@link #save} só retorna depois do commit, aguardando no máximo
+ * {@code save-timeout}. Com {@code false}, {@link #save} devolve uma cópia do jogo montada antes de colocá-lo na
+ * fila, sempre sem id: o jogo enfileirado passa a ser da thread de gravação, que preenche os ids durante a
+ * gravação, e não é lido pela requisição.
+ * <p>
+ * Quando a thread de gravação termina (encerramento ou interrupção), os jogos que ainda estiverem na fila, inclusive
+ * os enviados durante o término, têm o futuro concluído com falha: nenhum envio fica aguardando para sempre.
+ * <p>
+ * Com o write-behind desabilitado, cada jogo é gravado na própria transação por
+ * {@link GamePersistenceService#saveGameHistory}.
+ */
+@Service
+public class GameWriteBehindService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameWriteBehindService.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final GamePersistenceService gamePersistenceService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final boolean waitForDurability;
+    private final Duration saveTimeout;
+    private final BlockingQueue<PendingGame> queue;
+    private final Thread writer;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private final Counter backpressure;
+    private final Counter failures;
+    private volatile boolean running;
+    private volatile boolean writerStopped;
+
+    public GameWriteBehindService(GamePersistenceService gamePersistenceService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${game.persistence.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${game.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${game.persistence.write-behind.max-batch-size:200}") int maxBatchSize,
+                                  @Value("${game.persistence.write-behind.wait-for-durability:true}") boolean waitForDurability,
+                                  @Value("${game.persistence.write-behind.save-timeout:30s}") Duration saveTimeout) {
+        this.gamePersistenceService = gamePersistenceService;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.waitForDurability = waitForDurability;
+        this.saveTimeout = saveTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+
+        Gauge.builder("game.write-behind.queue.size", queue, BlockingQueue::size)
+                .description("Jogos aguardando gravação")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("game.write-behind.batch.size")
+                .description("Jogos gravados por commit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("game.write-behind.commit")
+                .description("Tempo de gravação e commit de cada lote")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("game.write-behind.backpressure")
+                .description("Envios que aguardaram espaço na fila")
+                .register(meterRegistry);
+        this.failures = Counter.builder("game.write-behind.failures")
+                .description("Jogos não gravados por falha no lote")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.running = true;
+            this.writer = new Thread(this::drainQueue, "game-write-behind");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        } else {
+            this.writer = null;
+            this.writerStopped = true;
+        }
+    }
+
+    /**
+     * Deixa de aceitar jogos e aguarda a gravação dos que já estão na fila.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            // A gravação não terminou a tempo: os jogos restantes são concluídos com falha ao interromper a thread
+            writer.interrupt();
+        }
+    }
+
+    /**
+     * Grava o jogo encerrado.
+     *
+     * @return Histórico do jogo; uma cópia sem id se o write-behind estiver habilitado sem aguardar a gravação
+     */
+    public GameHistory save(int numPlayers, int cardsPerHand, String deckId, String winner, List<Player> players) {
+        if (!enabled) {
+            return gamePersistenceService.saveGameHistory(numPlayers, cardsPerHand, deckId, winner, players);
+        }
+
+        GameHistory gameHistory = gamePersistenceService.buildGameHistory(numPlayers, cardsPerHand, deckId, winner, players);
+        if (!waitForDurability) {
+            GameHistory response = unsavedCopy(gameHistory);
+            submit(gameHistory);
+            return response;
+        }
+
+        CompletableFuture<GameHistory> saved = submit(gameHistory);
+        try {
+            return saved.get(saveTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha ao gravar o jogo.", e.getCause());
+        } catch (TimeoutException e) {
+            // O jogo continua na fila e ainda pode ser gravado; apenas a requisição deixa de aguardar
+            throw new IllegalStateException("Tempo esgotado aguardando a gravação do jogo.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a gravação do jogo.", e);
+        }
+    }
+
+    /**
+     * Coloca um jogo montado por {@link GamePersistenceService#buildGameHistory} na fila de gravação,
+     * aguardando espaço se a fila estiver cheia.
+     *
+     * @return Futuro concluído com o jogo gravado, ou com a falha do lote em que ele estava
+     * @throws IllegalStateException Se o write-behind estiver desabilitado ou encerrado
+     */
+    public CompletableFuture<GameHistory> submit(GameHistory gameHistory) {
+        if (!running) {
+            throw new IllegalStateException("Gravação em segundo plano indisponível.");
+        }
+
+        PendingGame pendingGame = new PendingGame(gameHistory);
+        if (!queue.offer(pendingGame)) {
+            backpressure.increment();
+            try {
+                while (!queue.offer(pendingGame, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (writerStopped) {
+                        throw new IllegalStateException("Gravação em segundo plano indisponível.");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido aguardando espaço na fila de gravação.", e);
+            }
+        }
+        // A thread de gravação pode ter terminado entre a verificação acima e a entrada na fila
+        if (writerStopped && queue.remove(pendingGame)) {
+            pendingGame.saved.completeExceptionally(
+                    new IllegalStateException("Gravação em segundo plano indisponível."));
+        }
+        return pendingGame.saved;
+    }
+
+    // Copia os campos e os jogadores antes do envio: depois dele, o original só é acessado pela thread de gravação
+    private static GameHistory unsavedCopy(GameHistory gameHistory) {
+        GameHistory copy = new GameHistory(gameHistory.getNumberOfPlayers(), gameHistory.getCardsPerPlayer(),
+                gameHistory.getDeckId(), gameHistory.getWinner(), gameHistory.getHighestScore(),
+                gameHistory.getGameTimestamp());
+        for (Player player : gameHistory.getPlayers()) {
+            copy.addPlayer(new Player(player.getIdentifier(), player.getScore(), player.getHand()));
+        }
+        return copy;
+    }
+
+    private void drainQueue() {
+        List<PendingGame> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingGame first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    writeBatch(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    // Um lote interrompido no meio da gravação não deixa futuros sem conclusão
+                    failUnfinished(batch);
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            writerStopped = true;
+            List<PendingGame> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            failUnfinished(remaining);
+        }
+    }
+
+    /**
+     * Conclui com falha os jogos ainda sem resultado quando a thread de gravação deixa de processá-los.
+     */
+    private void failUnfinished(List<PendingGame> pendingGames) {
+        IllegalStateException failure = null;
+        int unfinished = 0;
+        for (PendingGame pendingGame : pendingGames) {
+            if (!pendingGame.saved.isDone()) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Gravação em segundo plano encerrada antes de gravar o jogo.");
+                }
+                pendingGame.saved.completeExceptionally(failure);
+                unfinished++;
+            }
+        }
+        if (unfinished > 0) {
+            failures.increment(unfinished);
+            LOGGER.warn("{} jogos não foram gravados: a gravação em segundo plano foi encerrada", unfinished);
+        }
+    }
+
+    private void writeBatch(List<PendingGame> batch) {
+        List<GameHistory> gameHistories = new ArrayList<>(batch.size());
+        for (PendingGame pendingGame : batch) {
+            gameHistories.add(pendingGame.gameHistory);
+        }
+
+        batchSizes.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            gamePersistenceService.saveGameHistories(gameHistories);
+        } catch (RuntimeException e) {
+            failures.increment(batch.size());
+            LOGGER.error("Falha ao gravar um lote de {} jogos", batch.size(), e);
+            batch.forEach(pendingGame -> pendingGame.saved.completeExceptionally(e));
+            return;
+        } finally {
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        batch.forEach(pendingGame -> pendingGame.saved.complete(pendingGame.gameHistory));
+    }
+
+    /**
+     * Jogo na fila e o futuro entregue a quem o enviou.
+     */
+    private static final class PendingGame {
+
+        private final GameHistory gameHistory;
+        private final CompletableFuture<GameHistory> saved = new CompletableFuture<>();
+
+        private PendingGame(GameHistory gameHistory) {
+            this.gameHistory = gameHistory;
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.HandFormatter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte as mãos gravadas como texto pelas versões anteriores ({@code players.hand}) para a coluna
+ * binária {@code players.hand_codes}.
+ * <p>
+ * A conversão roda em segundo plano após a inicialização, em lotes de {@code game.hand-backfill.batch-size}
+ * jogadores, cada lote em sua própria transação. Os lotes avançam pelo id (sem OFFSET) e só selecionam
+ * jogadores ainda sem {@code hand_codes}, então a conversão pode ser interrompida e retomada a qualquer momento.
+ * Linhas com cartas não reconhecidas são registradas no log, mantêm o texto original e são marcadas em
+ * {@code players.hand_backfill_failed}, para não serem relidas a cada inicialização.
+ */
+@Service
+public class HandBackfillService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HandBackfillService.class);
+
+    private static final String SELECT_PENDING =
+            "SELECT id, hand FROM players WHERE hand_codes IS NULL AND NOT hand_backfill_failed AND id > ? "
+                    + "ORDER BY id LIMIT ?";
+    private static final String UPDATE_HAND =
+            "UPDATE players SET hand_codes = ?, hand = NULL WHERE id = ?";
+    private static final String MARK_FAILED =
+            "UPDATE players SET hand_backfill_failed = TRUE WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public HandBackfillService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${game.hand-backfill.enabled:true}") boolean enabled,
+                               @Value("${game.hand-backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::runBackfillSafely, "hand-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Converte todas as mãos pendentes.
+     *
+     * @return Número de jogadores convertidos
+     */
+    public long runBackfill() {
+        long converted = 0;
+        long failed = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            Batch batch = transactionTemplate.execute(status -> convertBatch(afterId));
+            if (batch == null || batch.size == 0) {
+                break;
+            }
+            converted += batch.converted;
+            failed += batch.size - batch.converted;
+            lastId = batch.lastId;
+        }
+        if (converted > 0 || failed > 0) {
+            LOGGER.info("Conversão das mãos concluída: {} jogadores convertidos, {} não convertidos",
+                    converted, failed);
+        }
+        return converted;
+    }
+
+    private void runBackfillSafely() {
+        try {
+            runBackfill();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Conversão das mãos interrompida; será retomada na próxima inicialização", e);
+        }
+    }
+
+    private Batch convertBatch(long afterId) {
+        List<Object[]> updates = new ArrayList<>(batchSize);
+        List<Object[]> failures = new ArrayList<>();
+        long[] lastId = {afterId};
+        int[] size = {0};
+
+        jdbcTemplate.query(SELECT_PENDING, rs -> {
+            long id = rs.getLong("id");
+            String text = rs.getString("hand");
+            lastId[0] = id;
+            size[0]++;
+            try {
+                Hand hand = HandFormatter.parse(text);
+                updates.add(new Object[]{hand.toBytes(), id});
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Mão do jogador {} não convertida: {}", id, e.getMessage());
+                failures.add(new Object[]{id});
+            }
+        }, afterId, batchSize);
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_HAND, updates);
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_FAILED, failures);
+        }
+        return new Batch(size[0], updates.size(), lastId[0]);
+    }
+
+    /**
+     * Resultado de um lote: jogadores lidos, jogadores convertidos e o último id lido.
+     */
+    private static final class Batch {
+
+        private final int size;
+        private final int converted;
+        private final long lastId;
+
+        private Batch(int size, int converted, long lastId) {
+            this.size = size;
+            this.converted = converted;
+            this.lastId = lastId;
+        }
+    }
+
+}
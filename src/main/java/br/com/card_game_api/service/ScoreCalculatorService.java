@@ -1,11 +1,8 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.dto.CardDTO;
-import br.com.card_game_api.domain.CardValue;
+import br.com.card_game_api.domain.CardCode;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /**
  * Serviço responsável pelo cálculo de pontuações no jogo de cartas.
  */
@@ -17,13 +14,27 @@ public class ScoreCalculatorService {
      * Cartas com valor A (Ás) são tratadas como 1, K (Rei) como 13, Q (Dama) como 12, J (Valete) como 11,
      * e outros valores numéricos são convertidos diretamente.
      *
-     * @param cardDTOs Lista de cartas do jogador
+     * @param cards Cartas do jogador, no formato de {@link CardCode}
      * @return A pontuação do jogador
      */
-    public int calculateScore(List<CardDTO> cardDTOs) {
-        return cardDTOs.stream()
-                .mapToInt(CardValue::getScoreFromCardDTO)
-                .sum();
+    public int calculateScore(byte[] cards) {
+        return calculateScore(cards, 0, cards.length);
+    }
+
+    /**
+     * Calcula a pontuação de um trecho das cartas compradas, sem copiar o vetor.
+     *
+     * @param cards Cartas compradas, no formato de {@link CardCode}
+     * @param from  Posição inicial (inclusiva)
+     * @param to    Posição final (exclusiva)
+     * @return A pontuação das cartas do trecho
+     */
+    public int calculateScore(byte[] cards, int from, int to) {
+        int score = 0;
+        for (int i = from; i < to; i++) {
+            score += CardCode.score(cards[i]);
+        }
+        return score;
     }
 
 }
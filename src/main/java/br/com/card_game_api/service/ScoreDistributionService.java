@@ -0,0 +1,221 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.dto.ScoreDistributionDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Distribuição exata da pontuação de uma mão, calculada sem simulação.
+ * <p>
+ * Uma mão de {@code k} cartas é uma amostra sem reposição do deck do jogo ({@link DeckCalculatorService} baralhos,
+ * cada valor com {@code 4 × baralhos} cópias), então a quantidade de cartas de cada valor segue a distribuição
+ * hipergeométrica multivariada. A programação dinâmica percorre os 13 valores, um de cada vez, com o estado
+ * (cartas já escolhidas, pontuação acumulada): a cada valor, a quantidade de cópias na mão é hipergeométrica sobre
+ * as cartas dos valores ainda não percorridos. O custo cresce com {@code k³} e não depende do número de jogadores.
+ * <p>
+ * A probabilidade de vitória de um jogador considera as mãos dos adversários independentes e com a mesma
+ * distribuição. No jogo real, as mãos saem do mesmo deck e são levemente dependentes; a diferença para a
+ * simulação ({@link GameSimulationService}) fica em milésimos enquanto as mãos não esgotam o deck. A
+ * distribuição e a média são exatas.
+ * <p>
+ * Os resultados ficam em um cache limitado ({@code game.score-distribution.cache-size}), por número de jogadores
+ * e cartas por mão. As métricas {@code cache.gets} e {@code cache.size} (com {@code cache=game.score-distribution})
+ * ficam em {@code /actuator/metrics}.
+ */
+@Service
+public class ScoreDistributionService {
+
+    static final String CACHE_NAME = "game.score-distribution";
+
+    private static final int COPIES_PER_DECK = CardCode.CARDS_PER_DECK / CardCode.RANKS;
+
+    private final InputValidator inputValidator;
+    private final DeckCalculatorService deckCalculatorService;
+    private final int maxCardsPerHand;
+    private final int maxCardsPerGame;
+    private final Cache<Long, ScoreDistributionDTO> distributions;
+
+    public ScoreDistributionService(InputValidator inputValidator,
+                                    DeckCalculatorService deckCalculatorService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${game.score-distribution.cache-size:1000}") long cacheSize,
+                                    @Value("${game.score-distribution.max-cards-per-hand:100}") int maxCardsPerHand,
+                                    @Value("${game.score-distribution.max-cards-per-game:1000000}") int maxCardsPerGame) {
+        this.inputValidator = inputValidator;
+        this.deckCalculatorService = deckCalculatorService;
+        this.maxCardsPerHand = maxCardsPerHand;
+        this.maxCardsPerGame = maxCardsPerGame;
+        this.distributions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, distributions, CACHE_NAME);
+    }
+
+    /**
+     * Distribuição da pontuação de uma mão e probabilidades de vitória e de empate de um jogador.
+     *
+     * @param numPlayers   Número de jogadores
+     * @param cardsPerHand Número de cartas por jogador, até {@code game.score-distribution.max-cards-per-hand}
+     * @return Distribuição calculada, compartilhada entre as requisições: não deve ser alterada
+     * @throws IllegalArgumentException Se os parâmetros forem inválidos ou excederem os limites
+     */
+    public ScoreDistributionDTO getDistribution(int numPlayers, int cardsPerHand) {
+        inputValidator.validateInputs(numPlayers, cardsPerHand);
+        if (cardsPerHand > maxCardsPerHand) {
+            throw new IllegalArgumentException("Cartas por mão acima do limite da distribuição: " + maxCardsPerHand);
+        }
+        if ((long) numPlayers * cardsPerHand > maxCardsPerGame) {
+            throw new IllegalArgumentException("Cartas por jogo acima do limite da distribuição: " + maxCardsPerGame);
+        }
+        return distributions.get(((long) numPlayers << 32) | cardsPerHand,
+                key -> calculate(numPlayers, cardsPerHand));
+    }
+
+    private ScoreDistributionDTO calculate(int numPlayers, int cardsPerHand) {
+        int decks = deckCalculatorService.calculateDecks(numPlayers, cardsPerHand);
+        double[] probabilities = handScoreProbabilities(decks, cardsPerHand);
+
+        SortedMap<Integer, Double> scoreProbabilities = new TreeMap<>();
+        SortedMap<Integer, Double> cumulativeProbabilities = new TreeMap<>();
+        double meanScore = 0;
+        double winProbability = 0;
+        double topProbability = 0;
+        double below = 0;
+        for (int score = 0; score < probabilities.length; score++) {
+            double probability = probabilities[score];
+            if (probability == 0) {
+                continue;
+            }
+            meanScore += score * probability;
+            // Vence sozinho se os adversários ficarem abaixo; divide a vitória se nenhum ficar acima
+            winProbability += probability * Math.pow(below, numPlayers - 1);
+            topProbability += probability * Math.pow(below + probability, numPlayers - 1);
+            below += probability;
+
+            scoreProbabilities.put(score, probability);
+            cumulativeProbabilities.put(score, Math.min(below, 1.0));
+        }
+        // Sem empate, exatamente um jogador fica sozinho no topo
+        double gameTieProbability = Math.max(0.0, 1.0 - numPlayers * winProbability);
+
+        return new ScoreDistributionDTO(numPlayers, cardsPerHand, decks, meanScore, scoreProbabilities,
+                cumulativeProbabilities, winProbability, topProbability - winProbability, gameTieProbability);
+    }
+
+    /**
+     * Probabilidade de cada pontuação de uma mão de {@code cardsPerHand} cartas, tiradas sem reposição de
+     * {@code decks} baralhos.
+     *
+     * @return Vetor indexado pela pontuação, de 0 a {@code cardsPerHand × CardCode.MAX_SCORE}
+     */
+    static double[] handScoreProbabilities(int decks, int cardsPerHand) {
+        int copies = decks * COPIES_PER_DECK;
+        int maxScore = cardsPerHand * CardCode.MAX_SCORE;
+
+        // current[j][s]: probabilidade de, após os valores já percorridos, a mão ter j cartas somando s pontos
+        double[][] current = new double[cardsPerHand + 1][maxScore + 1];
+        double[][] next = new double[cardsPerHand + 1][maxScore + 1];
+        int[] lowest = new int[cardsPerHand + 1];
+        int[] highest = new int[cardsPerHand + 1];
+        int[] nextLowest = new int[cardsPerHand + 1];
+        int[] nextHighest = new int[cardsPerHand + 1];
+        resetBounds(lowest, highest);
+        current[0][0] = 1.0;
+        lowest[0] = 0;
+        highest[0] = 0;
+
+        double[] copiesProbabilities = new double[Math.min(copies, cardsPerHand) + 1];
+        long remainingCards = (long) copies * CardCode.RANKS;
+        for (int rank = 0; rank < CardCode.RANKS; rank++) {
+            int rankScore = CardCode.score((byte) rank);
+            resetBounds(nextLowest, nextHighest);
+
+            for (int cards = 0; cards <= cardsPerHand; cards++) {
+                if (lowest[cards] > highest[cards]) {
+                    continue;
+                }
+                int needed = cardsPerHand - cards;
+                int minCopies = (int) Math.max(0, needed - (remainingCards - copies));
+                int maxCopies = Math.min(copies, needed);
+                hypergeometric(remainingCards, copies, needed, minCopies, maxCopies, copiesProbabilities);
+
+                double[] row = current[cards];
+                for (int taken = minCopies; taken <= maxCopies; taken++) {
+                    double copiesProbability = copiesProbabilities[taken];
+                    if (copiesProbability == 0) {
+                        continue;
+                    }
+                    int nextCards = cards + taken;
+                    int shift = taken * rankScore;
+                    double[] nextRow = next[nextCards];
+                    for (int score = lowest[cards]; score <= highest[cards]; score++) {
+                        nextRow[score + shift] += row[score] * copiesProbability;
+                    }
+                    nextLowest[nextCards] = Math.min(nextLowest[nextCards], lowest[cards] + shift);
+                    nextHighest[nextCards] = Math.max(nextHighest[nextCards], highest[cards] + shift);
+                }
+                Arrays.fill(row, lowest[cards], highest[cards] + 1, 0.0);
+            }
+
+            double[][] rows = current;
+            current = next;
+            next = rows;
+            int[] bounds = lowest;
+            lowest = nextLowest;
+            nextLowest = bounds;
+            bounds = highest;
+            highest = nextHighest;
+            nextHighest = bounds;
+            remainingCards -= copies;
+        }
+        return current[cardsPerHand];
+    }
+
+    /**
+     * Preenche {@code probabilities[c]}, para {@code c} de {@code minCopies} a {@code maxCopies}, com a
+     * probabilidade de {@code c} cópias de um valor entre {@code needed} cartas tiradas de {@code remainingCards},
+     * das quais {@code copies} são desse valor.
+     * <p>
+     * Os termos são calculados em logaritmo, pela razão entre termos consecutivos, e normalizados pela soma: os
+     * coeficientes binomiais de decks grandes não cabem em um {@code double}.
+     */
+    private static void hypergeometric(long remainingCards, int copies, int needed, int minCopies, int maxCopies,
+                                       double[] probabilities) {
+        long otherCards = remainingCards - copies;
+        double logTerm = 0;
+        double maxLogTerm = 0;
+        probabilities[minCopies] = 0;
+        for (int taken = minCopies; taken < maxCopies; taken++) {
+            // C(copies, c + 1) C(others, n - c - 1) / (C(copies, c) C(others, n - c))
+            logTerm += Math.log((double) (copies - taken) * (needed - taken))
+                    - Math.log((double) (taken + 1) * (otherCards - needed + taken + 1));
+            probabilities[taken + 1] = logTerm;
+            maxLogTerm = Math.max(maxLogTerm, logTerm);
+        }
+        double sum = 0;
+        for (int taken = minCopies; taken <= maxCopies; taken++) {
+            probabilities[taken] = Math.exp(probabilities[taken] - maxLogTerm);
+            sum += probabilities[taken];
+        }
+        for (int taken = minCopies; taken <= maxCopies; taken++) {
+            probabilities[taken] /= sum;
+        }
+    }
+
+    private static void resetBounds(int[] lowest, int[] highest) {
+        Arrays.fill(lowest, Integer.MAX_VALUE);
+        Arrays.fill(highest, Integer.MIN_VALUE);
+    }
+
+}
@@ -0,0 +1,16 @@
+-- Troca os ids gerados por BIGSERIAL (IDENTITY) por sequences com incremento em blocos.
+-- O Hibernate reserva um bloco de ids por chamada a sequence (otimizador pooled-lo), o que permite
+-- agrupar os INSERTs em lote. O incremento de cada sequence deve ser igual ao allocationSize da entidade.
+
+CREATE SEQUENCE game_history_seq INCREMENT BY 50;
+SELECT setval('game_history_seq', COALESCE((SELECT MAX(id) FROM game_history), 0) + 1, false);
+
+CREATE SEQUENCE players_seq INCREMENT BY 100;
+SELECT setval('players_seq', COALESCE((SELECT MAX(id) FROM players), 0) + 1, false);
+
+-- Remove o valor padrao e as sequences criadas pelo BIGSERIAL
+ALTER TABLE game_history ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS game_history_id_seq;
+
+ALTER TABLE players ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS players_id_seq;
@@ -0,0 +1,11 @@
+-- Guarda a mao de cada jogador como codigos de carta (um byte por carta, 0 a 51) em vez do texto traduzido.
+-- A coluna de texto passa a ser opcional: as linhas antigas sao convertidas em lotes pelo HandBackfillService,
+-- que preenche hand_codes e limpa o texto de cada linha convertida.
+ALTER TABLE players
+ADD COLUMN hand_codes BYTEA;
+
+ALTER TABLE players
+ALTER COLUMN hand DROP NOT NULL;
+
+-- Acelera a busca das linhas que ainda precisam ser convertidas
+CREATE INDEX idx_players_hand_pending ON players (id) WHERE hand_codes IS NULL;
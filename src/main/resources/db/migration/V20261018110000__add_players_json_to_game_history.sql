@@ -0,0 +1,4 @@
+-- Jogadores gravados na propria linha do jogo (game.persistence.mode=document).
+-- Nulo para os jogos gravados com os jogadores na tabela players.
+ALTER TABLE game_history
+ADD COLUMN players_json JSONB;
@@ -0,0 +1,2 @@
+-- Atende a listagem paginada por cursor (ORDER BY game_timestamp DESC, id DESC) sem OFFSET
+CREATE INDEX idx_game_history_timestamp_id ON game_history (game_timestamp DESC, id DESC);
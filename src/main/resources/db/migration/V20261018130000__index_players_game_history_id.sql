@@ -0,0 +1,2 @@
+-- Busca dos jogadores de um jogo (e junção com game_history na exportação), sem varrer a tabela players
+CREATE INDEX idx_players_game_history_id ON players (game_history_id);
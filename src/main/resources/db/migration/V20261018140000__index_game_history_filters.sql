@@ -0,0 +1,15 @@
+-- Indices dos filtros da listagem do historico (vencedor, pontuacao e deck).
+-- O filtro por periodo usa o indice (game_timestamp, id) da paginacao.
+
+-- Vencedores em lista, para encontrar tambem os jogos empatados ("Jogador 1, Jogador 3")
+ALTER TABLE game_history
+ADD COLUMN winners VARCHAR(20)[];
+
+UPDATE game_history
+SET winners = string_to_array(winner, ', ');
+
+CREATE INDEX idx_game_history_winners ON game_history USING GIN (winners);
+
+CREATE INDEX idx_game_history_highest_score ON game_history (highest_score);
+
+CREATE INDEX idx_game_history_deck_id ON game_history (deck_id);
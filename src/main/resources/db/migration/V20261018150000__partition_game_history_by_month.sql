@@ -0,0 +1,84 @@
+-- Particiona game_history e players por mes de game_timestamp (particionamento declarativo por faixa).
+-- Os jogos expirados passam a ser removidos por particao inteira (GameHistoryPartitionService), sem DELETEs
+-- em cascata linha a linha, e as consultas com periodo leem apenas as particoes do periodo.
+--
+-- Em tabelas particionadas, a chave primaria precisa conter a coluna de particionamento: a chave passa a ser
+-- (id, game_timestamp) e players recebe o game_timestamp do jogo, usado tambem na chave estrangeira.
+-- As tabelas sao recriadas e os dados copiados; em bases grandes, aplicar em janela de manutencao.
+
+ALTER TABLE players RENAME TO players_unpartitioned;
+ALTER TABLE players_unpartitioned RENAME CONSTRAINT players_pkey TO players_unpartitioned_pkey;
+ALTER TABLE game_history RENAME TO game_history_unpartitioned;
+ALTER TABLE game_history_unpartitioned RENAME CONSTRAINT game_history_pkey TO game_history_unpartitioned_pkey;
+
+CREATE TABLE game_history (
+    id BIGINT NOT NULL,
+    number_of_players INT NOT NULL,
+    cards_per_player INT NOT NULL,
+    deck_id VARCHAR(50) NOT NULL,
+    winner VARCHAR(50) NOT NULL,
+    highest_score INT NOT NULL,
+    game_timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    players_json JSONB,
+    winners VARCHAR(20)[],
+    CONSTRAINT game_history_pkey PRIMARY KEY (id, game_timestamp)
+) PARTITION BY RANGE (game_timestamp);
+
+CREATE TABLE players (
+    id BIGINT NOT NULL,
+    identifier VARCHAR(20) NOT NULL,
+    score INT NOT NULL,
+    hand TEXT,
+    hand_codes BYTEA,
+    game_history_id BIGINT NOT NULL,
+    game_timestamp TIMESTAMP NOT NULL,
+    CONSTRAINT players_pkey PRIMARY KEY (id, game_timestamp)
+) PARTITION BY RANGE (game_timestamp);
+
+-- Uma particao por mes, do jogo mais antigo ate tres meses a frente; as seguintes sao criadas pelo
+-- GameHistoryPartitionService (game.partitions.months-ahead)
+DO $$
+DECLARE
+    partition_month DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(game_timestamp) FROM game_history_unpartitioned), CURRENT_TIMESTAMP));
+    last_month DATE := date_trunc('month', GREATEST(
+            (SELECT MAX(game_timestamp) FROM game_history_unpartitioned), CURRENT_TIMESTAMP + INTERVAL '3 months'));
+BEGIN
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF game_history FOR VALUES FROM (%L) TO (%L)',
+                       'game_history_p' || to_char(partition_month, 'YYYY_MM'),
+                       partition_month, (partition_month + INTERVAL '1 month')::date);
+        EXECUTE format('CREATE TABLE %I PARTITION OF players FOR VALUES FROM (%L) TO (%L)',
+                       'players_p' || to_char(partition_month, 'YYYY_MM'),
+                       partition_month, (partition_month + INTERVAL '1 month')::date);
+        partition_month := (partition_month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO game_history (id, number_of_players, cards_per_player, deck_id, winner, highest_score,
+                          game_timestamp, players_json, winners)
+SELECT id, number_of_players, cards_per_player, deck_id, winner, highest_score,
+       COALESCE(game_timestamp, CURRENT_TIMESTAMP), players_json, winners
+FROM game_history_unpartitioned;
+
+INSERT INTO players (id, identifier, score, hand, hand_codes, game_history_id, game_timestamp)
+SELECT p.id, p.identifier, p.score, p.hand, p.hand_codes, p.game_history_id, g.game_timestamp
+FROM players_unpartitioned p
+JOIN game_history g ON g.id = p.game_history_id;
+
+DROP TABLE players_unpartitioned;
+DROP TABLE game_history_unpartitioned;
+
+-- Os indices criados nas tabelas particionadas valem para todas as particoes, inclusive as futuras
+CREATE INDEX idx_game_history_timestamp_id ON game_history (game_timestamp DESC, id DESC);
+CREATE INDEX idx_game_history_winners ON game_history USING GIN (winners);
+CREATE INDEX idx_game_history_highest_score ON game_history (highest_score);
+CREATE INDEX idx_game_history_deck_id ON game_history (deck_id);
+
+CREATE INDEX idx_players_game_history_id ON players (game_history_id);
+CREATE INDEX idx_players_hand_pending ON players (id) WHERE hand_codes IS NULL;
+
+ALTER TABLE players
+ADD CONSTRAINT fk_game_history
+FOREIGN KEY (game_history_id, game_timestamp) REFERENCES game_history (id, game_timestamp)
+ON DELETE CASCADE;
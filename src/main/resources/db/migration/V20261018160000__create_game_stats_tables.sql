@@ -0,0 +1,33 @@
+-- Estatisticas agregadas do historico, atualizadas (upsert) na mesma transacao da gravacao de cada jogo
+
+-- Por formato de jogo: quantidade de jogos, empates e soma/maximo da maior pontuacao
+CREATE TABLE game_stats_by_format (
+    number_of_players INT NOT NULL,
+    cards_per_player INT NOT NULL,
+    games BIGINT NOT NULL,
+    ties BIGINT NOT NULL,
+    highest_score_sum BIGINT NOT NULL,
+    highest_score_max INT NOT NULL,
+    CONSTRAINT game_stats_by_format_pkey PRIMARY KEY (number_of_players, cards_per_player)
+);
+
+-- Vitorias por posicao na mesa ("Jogador 1" = 1), contando cada vencedor dos empates
+CREATE TABLE game_stats_wins_by_seat (
+    seat INT NOT NULL,
+    wins BIGINT NOT NULL,
+    CONSTRAINT game_stats_wins_by_seat_pkey PRIMARY KEY (seat)
+);
+
+-- Carga inicial a partir do historico existente
+INSERT INTO game_stats_by_format (number_of_players, cards_per_player, games, ties, highest_score_sum,
+                                  highest_score_max)
+SELECT number_of_players, cards_per_player, count(*), count(*) FILTER (WHERE cardinality(winners) > 1),
+       sum(highest_score), max(highest_score)
+FROM game_history
+GROUP BY number_of_players, cards_per_player;
+
+INSERT INTO game_stats_wins_by_seat (seat, wins)
+SELECT substring(w FROM '[0-9]+$')::INT, count(*)
+FROM game_history, unnest(winners) AS w
+WHERE w ~ '[0-9]+$'
+GROUP BY 1;
@@ -0,0 +1,8 @@
+-- Marca as maos antigas que o HandBackfillService nao conseguiu converter, para que nao sejam relidas a cada
+-- inicializacao. As linhas marcadas continuam sem hand_codes e mantem o texto original em players.hand.
+ALTER TABLE players
+ADD COLUMN hand_backfill_failed BOOLEAN NOT NULL DEFAULT FALSE;
+
+DROP INDEX idx_players_hand_pending;
+
+CREATE INDEX idx_players_hand_pending ON players (id) WHERE hand_codes IS NULL AND NOT hand_backfill_failed;
@@ -0,0 +1,19 @@
+-- Distribui os totais de cada formato e de cada posicao em varias linhas (slot), somadas na leitura.
+-- Cada gravacao atualiza as linhas de um slot sorteado (game.stats.slots): gravacoes concorrentes do mesmo
+-- formato deixam de aguardar o bloqueio de uma unica linha ate o commit da outra.
+-- Os totais existentes ficam no slot 0.
+ALTER TABLE game_stats_by_format
+ADD COLUMN slot INT NOT NULL DEFAULT 0;
+
+ALTER TABLE game_stats_by_format DROP CONSTRAINT game_stats_by_format_pkey;
+
+ALTER TABLE game_stats_by_format
+ADD CONSTRAINT game_stats_by_format_pkey PRIMARY KEY (number_of_players, cards_per_player, slot);
+
+ALTER TABLE game_stats_wins_by_seat
+ADD COLUMN slot INT NOT NULL DEFAULT 0;
+
+ALTER TABLE game_stats_wins_by_seat DROP CONSTRAINT game_stats_wins_by_seat_pkey;
+
+ALTER TABLE game_stats_wins_by_seat
+ADD CONSTRAINT game_stats_wins_by_seat_pkey PRIMARY KEY (seat, slot);
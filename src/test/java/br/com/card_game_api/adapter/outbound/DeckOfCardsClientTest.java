@@ -1,24 +1,38 @@
 package br.com.card_game_api.adapter.outbound;
 
+import br.com.card_game_api.adapter.outbound.dto.CardDTO;
 import br.com.card_game_api.adapter.outbound.dto.DeckDTO;
-import br.com.card_game_api.dto.CardDTO;
+import br.com.card_game_api.domain.CardCode;
 import br.com.card_game_api.exception.DeckCreationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class DeckOfCardsClientTest {
@@ -26,13 +40,20 @@ class DeckOfCardsClientTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @Autowired
-    @InjectMocks
+    @Mock
+    private HttpClient httpClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private DeckOfCardsClient deckOfCardsClient;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        deckOfCardsClient = new DeckOfCardsClient(restTemplate, httpClient, objectMapper, meterRegistry, 2);
+        ReflectionTestUtils.setField(deckOfCardsClient, "apiBaseUrl", "https://api.deckofcards.com/");
     }
 
     @Test
@@ -50,7 +71,7 @@ class DeckOfCardsClientTest {
                 new CardDTO("8", "SPADES")));
 
         // Configura o mock para o RestTemplate
-        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate);
+        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate, httpClient, objectMapper, meterRegistry, 2);
         ReflectionTestUtils.setField(deckOfCardsClient, "apiBaseUrl", apiBaseUrl); // Mock do valor da URL base
 
         // Cria a URL de maneira similar ao método real
@@ -77,7 +98,7 @@ class DeckOfCardsClientTest {
         String url = apiBaseUrl + "new/shuffle/";
 
         // Configura o mock para o RestTemplate
-        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate);
+        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate, httpClient, objectMapper, meterRegistry, 2);
         // Simula o valor da URL no @Value (mocking da variável da URL)
         ReflectionTestUtils.setField(deckOfCardsClient, "apiBaseUrl", apiBaseUrl);
 
@@ -125,7 +146,7 @@ class DeckOfCardsClientTest {
 
         // Configura o mock para o RestTemplate
         String apiBaseUrl = "https://api.deckofcards.com/";
-        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate);
+        DeckOfCardsClient deckOfCardsClient = new DeckOfCardsClient(restTemplate, httpClient, objectMapper, meterRegistry, 2);
         ReflectionTestUtils.setField(deckOfCardsClient, "apiBaseUrl", apiBaseUrl); // Mock do valor da URL base
 
         // Cria a URL de maneira similar ao método real
@@ -138,11 +159,11 @@ class DeckOfCardsClientTest {
         when(restTemplate.getForObject(eq(url), eq(DeckDTO.class))).thenReturn(deckDTO);
 
         // Act
-        List<CardDTO> result = deckOfCardsClient.dealCards(deckId, numberOfCards);
+        byte[] result = deckOfCardsClient.dealCards(deckId, numberOfCards);
 
         // Assert
-        assertEquals(3, result.size()); // Verifica se o número de cartas distribuídas é o esperado
-        assertEquals("ACE", result.get(0).getValue()); // Verifica se a primeira carta é "ACE"
+        assertEquals(3, result.length); // Verifica se o número de cartas distribuídas é o esperado
+        assertEquals(CardCode.of("ACE", "HEARTS"), result[0]); // Verifica se a primeira carta é o Ás de Copas
         verify(restTemplate).getForObject(eq(url), eq(DeckDTO.class)); // Verifica se o RestTemplate foi chamado com a URL correta
     }
 
@@ -172,4 +193,220 @@ class DeckOfCardsClientTest {
         assertEquals("O número de cartas deve ser maior que zero.", exception.getMessage());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createDeckAsync_ShouldReturnDeckIdWithoutBlocking() {
+        // Arrange
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn("{\"success\": true, \"deck_id\": \"abc123\", \"remaining\": 52}".getBytes());
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        String deckId = deckOfCardsClient.createDeckAsync(1).join();
+
+        // Assert
+        assertEquals("abc123", deckId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCardsAsync_ShouldReturnCardsWhenDealIsSuccessful() {
+        // Arrange
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(("{\"deck_id\": \"abc123\", \"remaining\": 50, \"cards\": ["
+                + "{\"value\": \"ACE\", \"suit\": \"HEARTS\"}, {\"value\": \"10\", \"suit\": \"CLUBS\"}]}").getBytes());
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        byte[] cards = deckOfCardsClient.dealCardsAsync("abc123", 2).join();
+
+        // Assert
+        assertEquals(2, cards.length);
+        assertEquals(CardCode.of("ACE", "HEARTS"), cards[0]);
+        assertEquals(CardCode.of("10", "CLUBS"), cards[1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCardsAsync_ShouldCompleteExceptionallyWithDeckCreationExceptionOnServerError() {
+        // Arrange
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(503);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> deckOfCardsClient.dealCardsAsync("abc123", 2).join());
+
+        // Assert
+        assertInstanceOf(DeckCreationException.class, exception.getCause());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCardsAsync_ShouldRejectCallsAboveTheConcurrencyLimit() {
+        // Arrange
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(new CompletableFuture<>());
+        deckOfCardsClient.dealCardsAsync("abc123", 1);
+        deckOfCardsClient.dealCardsAsync("abc123", 1);
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> deckOfCardsClient.dealCardsAsync("abc123", 1).join());
+
+        // Assert
+        assertEquals("Limite de chamadas simultâneas à API externa atingido.", exception.getCause().getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCards_ShouldFireHedgeAndUseFirstResponseWhenPrimaryIsSlow() {
+        // Arrange
+        enableHedging();
+        trackNewDeck("abc123", 52);
+        HttpResponse<byte[]> response = drawResponse("abc123", 42, 5);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(new CompletableFuture<>())
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        byte[] cards = deckOfCardsClient.dealCards("abc123", 5);
+
+        // Assert
+        assertEquals(5, cards.length);
+        assertEquals(1.0, meterRegistry.get("deckofcards.hedge.fired").counter().count());
+        assertEquals(1.0, meterRegistry.get("deckofcards.hedge.won").counter().count());
+        verify(httpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drawsSettled_ShouldWaitForTheLosingDrawOfAHedge() {
+        // Arrange
+        enableHedging();
+        trackNewDeck("abc123", 52);
+        CompletableFuture<HttpResponse<byte[]>> slowPrimary = new CompletableFuture<>();
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(slowPrimary)
+                .thenReturn(CompletableFuture.completedFuture(drawResponse("abc123", 42, 5)));
+        deckOfCardsClient.dealCards("abc123", 5);
+
+        // Act
+        CompletableFuture<Void> settled = deckOfCardsClient.drawsSettled("abc123");
+
+        // Assert
+        // A thread do hedge encerra o registro da compra vencedora logo depois de entregar as cartas; a perdedora
+        // continua pendente
+        assertThrows(TimeoutException.class, () -> settled.get(100, TimeUnit.MILLISECONDS));
+        slowPrimary.complete(drawResponse("abc123", 37, 5));
+        assertDoesNotThrow(() -> settled.get(5, TimeUnit.SECONDS));
+        assertTrue(deckOfCardsClient.drawsSettled("abc123").isDone());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCards_ShouldNotHedgeWhenDeckCannotAffordADuplicateDraw() {
+        // Arrange
+        enableHedging();
+        trackNewDeck("abc123", 52);
+        HttpResponse<byte[]> response = drawResponse("abc123", 22, 30);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.supplyAsync(() -> response,
+                        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+
+        // Act
+        deckOfCardsClient.dealCards("abc123", 30);
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("deckofcards.hedge.fired").counter().count());
+        verify(httpClient, times(1)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealCards_ShouldNotHedgeWhenTheDuplicateDrawWouldLeaveTheGameShortOfCards() {
+        // Arrange
+        // 52 cartas comportam duas compras de 5, mas não a compra duplicada e as 50 cartas que faltam ao jogo
+        enableHedging();
+        trackNewDeck("abc123", 52);
+        HttpResponse<byte[]> response = drawResponse("abc123", 47, 5);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.supplyAsync(() -> response,
+                        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+
+        // Act
+        byte[] cards = deckOfCardsClient.dealCards("abc123", 5, 50);
+
+        // Assert
+        assertEquals(5, cards.length);
+        assertEquals(0.0, meterRegistry.get("deckofcards.hedge.fired").counter().count());
+        verify(httpClient, times(1)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void dealCards_ShouldThrowDeckCreationExceptionWhenApiReturnsUnknownCard() {
+        // Arrange
+        DeckDTO deckDTO = new DeckDTO();
+        deckDTO.setCards(List.of(new CardDTO("JOKER", "HEARTS")));
+        when(restTemplate.getForObject(anyString(), eq(DeckDTO.class))).thenReturn(deckDTO);
+
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> deckOfCardsClient.dealCards("abc123", 1));
+    }
+
+    @Test
+    void shuffleDeck_ShouldReturnAllCardsToTheSameDeck() {
+        // Arrange
+        DeckDTO deckDTO = new DeckDTO();
+        deckDTO.setDeckId("abc123");
+        deckDTO.setRemaining(52);
+        when(restTemplate.getForObject("https://api.deckofcards.com/abc123/shuffle/", DeckDTO.class))
+                .thenReturn(deckDTO);
+
+        // Act
+        deckOfCardsClient.shuffleDeck("abc123");
+
+        // Assert
+        verify(restTemplate).getForObject("https://api.deckofcards.com/abc123/shuffle/", DeckDTO.class);
+    }
+
+    @Test
+    void shuffleDeck_ShouldThrowDeckCreationExceptionWhenHttpServerErrorExceptionOccurs() {
+        // Arrange
+        when(restTemplate.getForObject(anyString(), eq(DeckDTO.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> deckOfCardsClient.shuffleDeck("abc123"));
+    }
+
+    private void enableHedging() {
+        ReflectionTestUtils.setField(deckOfCardsClient, "hedgingEnabled", true);
+        ReflectionTestUtils.setField(deckOfCardsClient, "hedgingInitialDelay", java.time.Duration.ofMillis(10));
+    }
+
+    private void trackNewDeck(String deckId, int remaining) {
+        DeckDTO deckDTO = new DeckDTO();
+        deckDTO.setDeckId(deckId);
+        deckDTO.setRemaining(remaining);
+        when(restTemplate.getForObject(anyString(), eq(DeckDTO.class))).thenReturn(deckDTO);
+        deckOfCardsClient.createDeck(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<byte[]> drawResponse(String deckId, int remaining, int numberOfCards) {
+        String card = "{\"value\": \"KING\", \"suit\": \"SPADES\"}";
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(("{\"deck_id\": \"" + deckId + "\", \"remaining\": " + remaining
+                + ", \"cards\": [" + String.join(", ", Collections.nCopies(numberOfCards, card)) + "]}").getBytes());
+        return response;
+    }
+
 }
@@ -0,0 +1,120 @@
+package br.com.card_game_api.adapter.outbound;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.exception.DeckCreationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalDeckProviderTest {
+
+    private LocalDeckProvider localDeckProvider;
+
+    @BeforeEach
+    void setUp() {
+        localDeckProvider = new LocalDeckProvider();
+    }
+
+    @Test
+    void createDeck_ShouldIssueLocalDeckIds() {
+        // Act
+        String first = localDeckProvider.createDeck(1);
+        String second = localDeckProvider.createDeck(1);
+
+        // Assert
+        assertTrue(localDeckProvider.isLocalDeck(first));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void dealCards_ShouldDealEveryCardOfEachDeckExactlyOnce() {
+        // Arrange
+        int numberOfDecks = 2;
+        String deckId = localDeckProvider.createDeck(numberOfDecks);
+
+        // Act
+        byte[] first = localDeckProvider.dealCards(deckId, 100);
+        byte[] second = localDeckProvider.dealCards(deckId, 10);
+
+        // Assert
+        assertEquals(104, first.length + second.length);
+        int[] occurrences = new int[CardCode.CARDS_PER_DECK];
+        for (byte card : first) {
+            occurrences[card]++;
+        }
+        for (byte card : second) {
+            occurrences[card]++;
+        }
+        for (int count : occurrences) {
+            assertEquals(numberOfDecks, count);
+        }
+    }
+
+    @Test
+    void dealCards_ShouldThrowDeckCreationExceptionWhenDeckIsExhausted() {
+        // Arrange
+        String deckId = localDeckProvider.createDeck(1);
+        localDeckProvider.dealCards(deckId, 52);
+
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> localDeckProvider.dealCards(deckId, 1));
+    }
+
+    @Test
+    void shuffleDeck_ShouldReturnEveryCardToTheDeck() {
+        // Arrange
+        String deckId = localDeckProvider.createDeck(1);
+        localDeckProvider.dealCards(deckId, 52);
+
+        // Act
+        localDeckProvider.shuffleDeck(deckId);
+        byte[] cards = localDeckProvider.dealCards(deckId, 52);
+
+        // Assert
+        assertEquals(52, cards.length);
+        boolean[] seen = new boolean[CardCode.CARDS_PER_DECK];
+        for (byte card : cards) {
+            assertFalse(seen[card]);
+            seen[card] = true;
+        }
+    }
+
+    @Test
+    void shuffleDeck_ShouldThrowDeckCreationExceptionWhenDeckIsUnknown() {
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> localDeckProvider.shuffleDeck("local-desconhecido"));
+    }
+
+    @Test
+    void dealCards_ShouldThrowDeckCreationExceptionWhenDeckIsUnknown() {
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> localDeckProvider.dealCards("local-desconhecido", 1));
+    }
+
+    @Test
+    void createDeck_ShouldEvictOldestDecksWhenLimitIsReached() {
+        // Arrange
+        ReflectionTestUtils.setField(localDeckProvider, "maxActiveDecks", 2);
+        String oldest = localDeckProvider.createDeck(1);
+        localDeckProvider.createDeck(1);
+
+        // Act
+        localDeckProvider.createDeck(1);
+
+        // Assert
+        assertEquals(2, localDeckProvider.activeDecks());
+        assertThrows(DeckCreationException.class, () -> localDeckProvider.dealCards(oldest, 1));
+    }
+
+    @Test
+    void createDeck_ShouldThrowIllegalArgumentExceptionWhenNumberOfDeckIsZero() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> localDeckProvider.createDeck(0));
+        assertEquals("O número de decks deve ser maior que zero.", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,144 @@
+package br.com.card_game_api.adapter.outbound;
+
+import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.DeckUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResilientDeckProviderTest {
+
+    private DeckProvider remoteDeckProvider;
+    private LocalDeckProvider localDeckProvider;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private MeterRegistry meterRegistry;
+    private ResilientDeckProvider resilientDeckProvider;
+
+    @BeforeEach
+    void setUp() {
+        remoteDeckProvider = mock(DeckProvider.class);
+        localDeckProvider = new LocalDeckProvider();
+        circuitBreaker = CircuitBreaker.of("deckOfCards", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        bulkhead = Bulkhead.of("deckOfCards", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        resilientDeckProvider = new ResilientDeckProvider(
+                remoteDeckProvider, localDeckProvider, circuitBreaker, bulkhead, meterRegistry);
+    }
+
+    @Test
+    void createDeck_ShouldUseRemoteProviderWhenItIsHealthy() {
+        // Arrange
+        when(remoteDeckProvider.createDeck(1)).thenReturn("remote123");
+
+        // Act
+        String deckId = resilientDeckProvider.createDeck(1);
+
+        // Assert
+        assertEquals("remote123", deckId);
+    }
+
+    @Test
+    void createDeck_ShouldFallbackToLocalDeckWhenRemoteTimesOut() {
+        // Arrange
+        when(remoteDeckProvider.createDeck(1)).thenThrow(timeout());
+
+        // Act
+        String deckId = resilientDeckProvider.createDeck(1);
+
+        // Assert
+        assertTrue(localDeckProvider.isLocalDeck(deckId));
+        assertEquals(52, resilientDeckProvider.dealCards(deckId, 52).length);
+        assertEquals(1.0, meterRegistry.get("deck.resilience.fallback").tag("operation", "createDeck").counter().count());
+    }
+
+    @Test
+    void createDeck_ShouldStopCallingRemoteProviderWhenCircuitIsOpen() {
+        // Arrange
+        when(remoteDeckProvider.createDeck(1)).thenThrow(timeout());
+        resilientDeckProvider.createDeck(1);
+        resilientDeckProvider.createDeck(1);
+
+        // Act
+        String deckId = resilientDeckProvider.createDeck(1);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(localDeckProvider.isLocalDeck(deckId));
+        verify(remoteDeckProvider, times(2)).createDeck(1);
+        assertEquals(1.0, meterRegistry.get("deck.resilience.rejected").tag("reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void createDeck_ShouldPropagateFailuresOtherThanUnavailability() {
+        // Arrange
+        when(remoteDeckProvider.createDeck(1)).thenThrow(new DeckCreationException("Resposta inválida da API"));
+
+        // Act & Assert
+        assertThrows(DeckCreationException.class, () -> resilientDeckProvider.createDeck(1));
+        assertEquals(0.0, meterRegistry.get("deck.resilience.fallback").tag("operation", "createDeck").counter().count());
+    }
+
+    @Test
+    void dealCards_ShouldReportUnavailabilityWhenRemoteDealTimesOut() {
+        // Arrange
+        when(remoteDeckProvider.dealCards("remote123", 5, 5)).thenThrow(timeout());
+
+        // Act & Assert
+        // Sem cartas de outro deck: quem refaz o jogo com um deck local é o CardGameService
+        assertThrows(DeckUnavailableException.class, () -> resilientDeckProvider.dealCards("remote123", 5));
+    }
+
+    @Test
+    void dealCards_ShouldReportUnavailabilityWhenBulkheadIsFull() {
+        // Arrange
+        bulkhead.tryAcquirePermission();
+
+        // Act & Assert
+        assertThrows(DeckUnavailableException.class, () -> resilientDeckProvider.dealCards("remote123", 3));
+        verifyNoInteractions(remoteDeckProvider);
+        assertEquals(1.0, meterRegistry.get("deck.resilience.rejected").tag("reason", "bulkhead_full").counter().count());
+    }
+
+    @Test
+    void dealCards_ShouldPropagateFailuresOtherThanUnavailability() {
+        // Arrange
+        DeckCreationException notFound = new DeckCreationException("Deck não encontrado: remote123");
+        when(remoteDeckProvider.dealCards("remote123", 5, 5)).thenThrow(notFound);
+
+        // Act & Assert
+        assertSame(notFound, assertThrows(DeckCreationException.class,
+                () -> resilientDeckProvider.dealCards("remote123", 5)));
+    }
+
+    @Test
+    void createDeck_ShouldNotFallbackOnInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> resilientDeckProvider.createDeck(0));
+        verifyNoInteractions(remoteDeckProvider);
+    }
+
+    private static DeckCreationException timeout() {
+        return new DeckCreationException("Tempo esgotado", new HttpTimeoutException("request timed out"));
+    }
+
+}
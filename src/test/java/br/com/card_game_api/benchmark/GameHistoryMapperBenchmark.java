@@ -0,0 +1,84 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o mapeamento de {@link GameHistory} para {@link GameHistoryDTO} pelo {@link GameHistoryMapper} com o
+ * {@link ModelMapper} usado anteriormente (reflexão e busca do type map a cada chamada), para um jogo e para uma
+ * lista de jogos.
+ * <p>
+ * Execução (acrescente {@code -prof gc} aos argumentos para medir a alocação):
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GameHistoryMapperBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameHistoryMapperBenchmark {
+
+    @Param({"1", "10000"})
+    private int games;
+
+    private ModelMapper modelMapper;
+    private List<GameHistory> gameHistories;
+
+    @Setup
+    public void setUp() {
+        // Mesma configuração do antigo ModelMapperConfig
+        modelMapper = new ModelMapper();
+        modelMapper.typeMap(GameHistory.class, GameHistoryDTO.class)
+                .addMappings(mapper -> mapper.skip(GameHistoryDTO::setPlayers));
+
+        LocalDateTime now = LocalDateTime.now();
+        gameHistories = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            GameHistory gameHistory = new GameHistory(4, 5, "deck" + i, "Jogador " + (1 + i % 4), i % 60,
+                    now.minusSeconds(i));
+            gameHistory.setId((long) i + 1);
+            gameHistories.add(gameHistory);
+        }
+    }
+
+    @Benchmark
+    public List<GameHistoryDTO> modelMapper() {
+        List<GameHistoryDTO> gameHistoryDTOs = new ArrayList<>(gameHistories.size());
+        for (GameHistory gameHistory : gameHistories) {
+            gameHistoryDTOs.add(modelMapper.map(gameHistory, GameHistoryDTO.class));
+        }
+        return gameHistoryDTOs;
+    }
+
+    @Benchmark
+    public List<GameHistoryDTO> gameHistoryMapper() {
+        List<GameHistoryDTO> gameHistoryDTOs = new ArrayList<>(gameHistories.size());
+        for (GameHistory gameHistory : gameHistories) {
+            gameHistoryDTOs.add(GameHistoryMapper.toDTO(gameHistory));
+        }
+        return gameHistoryDTOs;
+    }
+
+}
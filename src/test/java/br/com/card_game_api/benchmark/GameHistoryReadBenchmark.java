@@ -0,0 +1,137 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.CardGameApiApplication;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryMapper;
+import br.com.card_game_api.repository.GameHistoryRepository;
+import br.com.card_game_api.service.GameHistoryFilter;
+import br.com.card_game_api.service.GameHistoryPage;
+import br.com.card_game_api.service.GamePersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura de uma página do histórico como entidades gerenciadas (com snapshot para o dirty checking,
+ * mapeadas depois para o DTO) com a projeção usada por {@link GamePersistenceService#getGameHistoryPage}, que
+ * monta os DTOs direto do resultado da consulta.
+ * <p>
+ * A base (H2 em memória por padrão, ou o banco informado como no {@link GamePersistenceBenchmark}) recebe
+ * {@value #SEEDED_GAMES} jogos de quatro jogadores. Execução (acrescente {@code -prof gc} aos argumentos para
+ * medir a alocação por página):
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GameHistoryReadBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameHistoryReadBenchmark {
+
+    private static final int SEEDED_GAMES = 10_000;
+    private static final Specification<GameHistory> ALL_GAMES = (root, query, builder) -> null;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("gameTimestamp"), Sort.Order.desc("id"));
+
+    @Param({"50", "200"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private GamePersistenceService gamePersistenceService;
+    private GameHistoryRepository gameHistoryRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:read-benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.flyway.enabled", "false",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "game.hand-backfill.enabled", "false",
+                "logging.level.root", "WARN");
+
+        context = new SpringApplicationBuilder(CardGameApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(applicationContext -> applicationContext.getEnvironment().getPropertySources()
+                        .addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME,
+                                new MapPropertySource("benchmark", properties)))
+                .run();
+        gamePersistenceService = context.getBean(GamePersistenceService.class);
+        gameHistoryRepository = context.getBean(GameHistoryRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<GameHistory> gameHistories = new ArrayList<>(SEEDED_GAMES);
+        for (int i = 0; i < SEEDED_GAMES; i++) {
+            List<Player> players = new ArrayList<>(4);
+            for (int j = 0; j < 4; j++) {
+                players.add(new Player("Jogador " + (j + 1), j * 3,
+                        Hand.of(new byte[]{(byte) j, (byte) (j + 4), (byte) (j + 8), (byte) (j + 12), (byte) (j + 16)})));
+            }
+            GameHistory gameHistory = gamePersistenceService.buildGameHistory(4, 5, "deck" + i, "Jogador 4", players);
+            gameHistory.setGameTimestamp(start.plusSeconds(i));
+            gameHistories.add(gameHistory);
+        }
+        gamePersistenceService.saveGameHistories(gameHistories);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<GameHistoryDTO> entityPage() {
+        return readOnlyTransaction.execute(status -> {
+            List<GameHistoryDTO> gameHistoryDTOs = new ArrayList<>(pageSize);
+            // Mesma consulta da listagem anterior: entidades, sem a consulta de contagem de findAll(Pageable)
+            List<GameHistory> page = gameHistoryRepository.findBy(ALL_GAMES,
+                    query -> query.sortBy(NEWEST_FIRST).limit(pageSize).all());
+            for (GameHistory gameHistory : page) {
+                gameHistoryDTOs.add(GameHistoryMapper.toDTO(gameHistory));
+            }
+            return gameHistoryDTOs;
+        });
+    }
+
+    @Benchmark
+    public GameHistoryPage projectionPage() {
+        return gamePersistenceService.getGameHistoryPage(GameHistoryFilter.none(), null, pageSize);
+    }
+
+}
@@ -0,0 +1,114 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.CardGameApiApplication;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.service.GamePersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a gravação de um jogo nos modos {@code normalized} (uma linha por jogador em {@code players}) e
+ * {@code document} (jogadores na coluna JSONB {@code players_json}), pelo {@link GamePersistenceService}.
+ * <p>
+ * Por padrão usa um H2 em memória. Para medir no PostgreSQL, com o schema criado pelo Flyway, informe a conexão
+ * nos argumentos da JVM do benchmark:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GamePersistenceBenchmark \
+ *     -jvmArgsAppend -Dspring.datasource.url=jdbc:postgresql://localhost:5432/card_game?reWriteBatchedInserts=true \
+ *     -jvmArgsAppend -Dspring.datasource.username=postgres -jvmArgsAppend -Dspring.datasource.password=123456 \
+ *     -jvmArgsAppend -Dspring.datasource.driver-class-name=org.postgresql.Driver \
+ *     -jvmArgsAppend -Dspring.flyway.enabled=true -jvmArgsAppend -Dspring.jpa.hibernate.ddl-auto=validate \
+ *     -jvmArgsAppend -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GamePersistenceBenchmark {
+
+    @Param({"normalized", "document"})
+    private String mode;
+
+    @Param({"4", "100"})
+    private int numPlayers;
+
+    private ConfigurableApplicationContext context;
+    private GamePersistenceService gamePersistenceService;
+    private byte[][] hands;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.flyway.enabled", "false",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "game.hand-backfill.enabled", "false",
+                "game.persistence.mode", mode,
+                "logging.level.root", "WARN");
+
+        // Acima do application.properties, mas abaixo das propriedades de sistema (-D) usadas para trocar o banco
+        context = new SpringApplicationBuilder(CardGameApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(applicationContext -> applicationContext.getEnvironment().getPropertySources()
+                        .addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME,
+                                new MapPropertySource("benchmark", properties)))
+                .run();
+        gamePersistenceService = context.getBean(GamePersistenceService.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        hands = new byte[numPlayers][5];
+        for (byte[] hand : hands) {
+            for (int i = 0; i < hand.length; i++) {
+                hand[i] = (byte) random.nextInt(CardCode.CARDS_PER_DECK);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GameHistory saveGameHistory() {
+        // Jogadores novos a cada gravação: instâncias já persistidas seriam tratadas como merge
+        List<Player> players = new ArrayList<>(numPlayers);
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(new Player("Jogador " + (i + 1), i, Hand.of(hands[i])));
+        }
+        return gamePersistenceService.saveGameHistory(numPlayers, 5, "deck123", "Jogador 1", players);
+    }
+
+}
@@ -0,0 +1,65 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.dto.SimulationResultDTO;
+import br.com.card_game_api.service.DeckCalculatorService;
+import br.com.card_game_api.service.GameResultService;
+import br.com.card_game_api.service.GameSimulationService;
+import br.com.card_game_api.service.InputValidator;
+import br.com.card_game_api.service.ScoreCalculatorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o tempo de uma simulação de {@value #GAMES} jogos de 4 jogadores com 5 cartas, para cada paralelismo do pool.
+ * A vazão deve crescer quase linearmente até o número de núcleos da máquina.
+ * <p>
+ * Execução:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GameSimulationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSimulationBenchmark {
+
+    private static final long GAMES = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private GameSimulationService gameSimulationService;
+
+    @Setup
+    public void setUp() {
+        gameSimulationService = new GameSimulationService(new InputValidator(), new DeckCalculatorService(),
+                new ScoreCalculatorService(), new GameResultService(), parallelism, GAMES, 10_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameSimulationService.shutdown();
+    }
+
+    @Benchmark
+    public SimulationResultDTO simulate() {
+        return gameSimulationService.simulate(4, 5, GAMES, 42L);
+    }
+
+}
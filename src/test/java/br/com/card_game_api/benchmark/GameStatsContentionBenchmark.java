@@ -0,0 +1,104 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.CardGameApiApplication;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.service.GamePersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a gravação concorrente de jogos do mesmo formato e com o mesmo vencedor, por 8 threads, com as
+ * estatísticas em uma única linha por formato e por posição ({@code slots = 1}) e distribuídas em 16 linhas.
+ * <p>
+ * O upsert das estatísticas mantém as linhas bloqueadas até o commit da gravação; a diferença só aparece em um
+ * banco com bloqueio por linha. Informe o PostgreSQL nos argumentos da JVM do benchmark:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GameStatsContentionBenchmark \
+ *     -jvmArgsAppend -Dspring.datasource.url=jdbc:postgresql://localhost:5432/card_game?reWriteBatchedInserts=true \
+ *     -jvmArgsAppend -Dspring.datasource.username=postgres -jvmArgsAppend -Dspring.datasource.password=123456 \
+ *     -jvmArgsAppend -Dspring.datasource.driver-class-name=org.postgresql.Driver \
+ *     -jvmArgsAppend -Dspring.flyway.enabled=true -jvmArgsAppend -Dspring.jpa.hibernate.ddl-auto=validate \
+ *     -jvmArgsAppend -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class GameStatsContentionBenchmark {
+
+    private static final int NUM_PLAYERS = 4;
+
+    @Param({"1", "16"})
+    private int slots;
+
+    private ConfigurableApplicationContext context;
+    private GamePersistenceService gamePersistenceService;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.flyway.enabled", "false",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "game.hand-backfill.enabled", "false",
+                "game.stats.slots", slots,
+                "logging.level.root", "WARN");
+
+        // Acima do application.properties, mas abaixo das propriedades de sistema (-D) usadas para trocar o banco
+        context = new SpringApplicationBuilder(CardGameApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(applicationContext -> applicationContext.getEnvironment().getPropertySources()
+                        .addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME,
+                                new MapPropertySource("benchmark", properties)))
+                .run();
+        gamePersistenceService = context.getBean(GamePersistenceService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GameHistory saveGameHistory() {
+        List<Player> players = new ArrayList<>(NUM_PLAYERS);
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            players.add(new Player("Jogador " + (i + 1), 40 - i, Hand.of(CardCode.of("10", "HEARTS"))));
+        }
+        return gamePersistenceService.saveGameHistory(NUM_PLAYERS, 5, "deck123", "Jogador 1", players);
+    }
+
+}
@@ -0,0 +1,82 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.adapter.outbound.dto.CardDTO;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.HandFormatter;
+import br.com.card_game_api.domain.TranslatedCardSuit;
+import br.com.card_game_api.domain.TranslatedCardValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara a formatação de mãos do {@link HandFormatter} com a implementação anterior, baseada em
+ * {@link CardDTO}, streams e exceções para as cartas numéricas.
+ * <p>
+ * Execução (acrescente {@code -prof gc} aos argumentos para medir a alocação):
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main HandFormatterBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandFormatterBenchmark {
+
+    @Param({"5", "52", "1000"})
+    private int handSize;
+
+    private byte[] cards;
+    private List<CardDTO> cardDTOs;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        cards = new byte[handSize];
+        cardDTOs = new ArrayList<>(handSize);
+        for (int i = 0; i < handSize; i++) {
+            cards[i] = (byte) random.nextInt(CardCode.CARDS_PER_DECK);
+            cardDTOs.add(new CardDTO(CardCode.valueSymbol(cards[i]), CardCode.suitSymbol(cards[i])));
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        return cardDTOs.stream()
+                .map(card -> legacyTranslatedCardValue(card.getValue()) + " de " +
+                        TranslatedCardSuit.fromString(card.getSuit()).getTranslatedSuit())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public String precomputed() {
+        return HandFormatter.format(cards, 0, cards.length);
+    }
+
+    private static String legacyTranslatedCardValue(String cardValue) {
+        try {
+            return TranslatedCardValue.fromString(cardValue).getTranslatedValue();
+        } catch (IllegalArgumentException e) {
+            return cardValue;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.card_game_api.benchmark;
+
+import br.com.card_game_api.dto.ScoreDistributionDTO;
+import br.com.card_game_api.service.DeckCalculatorService;
+import br.com.card_game_api.service.InputValidator;
+import br.com.card_game_api.service.ScoreDistributionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o cálculo da distribuição exata para 4 jogadores, sem o cache (cada chamada refaz o cálculo), para
+ * comparar com a simulação de {@link GameSimulationBenchmark}.
+ * <p>
+ * Execução:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main ScoreDistributionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreDistributionBenchmark {
+
+    @Param({"5", "26", "100"})
+    private int cardsPerHand;
+
+    private ScoreDistributionService scoreDistributionService;
+
+    @Setup
+    public void setUp() {
+        scoreDistributionService = new ScoreDistributionService(new InputValidator(), new DeckCalculatorService(),
+                new SimpleMeterRegistry(), 0, 100, 1_000_000);
+    }
+
+    @Benchmark
+    public ScoreDistributionDTO getDistribution() {
+        return scoreDistributionService.getDistribution(4, cardsPerHand);
+    }
+
+}
@@ -1,24 +1,52 @@
 package br.com.card_game_api.controller;
 
+import br.com.card_game_api.domain.CardCode;
 import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.HandFormatter;
+import br.com.card_game_api.domain.Player;
 import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryPageDTO;
 import br.com.card_game_api.dto.GameRequestDTO;
+import br.com.card_game_api.dto.GameStatsDTO;
 import br.com.card_game_api.service.CardGameService;
+import br.com.card_game_api.service.GameBatchService;
+import br.com.card_game_api.service.GameHistoryExportService;
+import br.com.card_game_api.service.GameHistoryFilter;
+import br.com.card_game_api.service.GameHistoryPage;
+import br.com.card_game_api.service.GameHistoryResponseCache;
 import br.com.card_game_api.service.GamePersistenceService;
+import br.com.card_game_api.service.GameStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class GameControllerTest {
@@ -26,11 +54,20 @@ class GameControllerTest {
     @Mock
     private CardGameService cardGameService;
 
+    @Mock
+    private GameBatchService gameBatchService;
+
     @Mock
     private GamePersistenceService gamePersistenceService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private GameHistoryExportService gameHistoryExportService;
+
+    @Mock
+    private GameHistoryResponseCache gameHistoryResponseCache;
+
+    @Mock
+    private GameStatsService gameStatsService;
 
     @InjectMocks
     private GameController gameController;
@@ -50,95 +87,242 @@ class GameControllerTest {
         gameRequestDTO.setCardsPerHand(cardsPerHand);
         gameRequestDTO.setNumPlayers(numPlayers);
 
-        GameHistory gameHistory = new GameHistory();
+        LocalDateTime gameTimestamp = LocalDateTime.of(2026, 10, 18, 10, 0);
+        GameHistory gameHistory = new GameHistory(numPlayers, cardsPerHand, "deck123", "Jogador 1", 12, gameTimestamp);
         gameHistory.setId(1L);
-        // Defina o estado do jogo conforme necessário
-
-        GameHistoryDTO gameHistoryDTO = new GameHistoryDTO();
-        gameHistoryDTO.setId(1L);
-        // Defina o estado do DTO conforme necessário
 
         // Mock para o serviço de jogar o jogo
         when(cardGameService.playGame(numPlayers, cardsPerHand)).thenReturn(gameHistory);
 
-        // Mock do ModelMapper para converter o GameHistory para GameHistoryDTO
-        when(modelMapper.map(gameHistory, GameHistoryDTO.class)).thenReturn(gameHistoryDTO);
-
         // Act
-        ResponseEntity<GameHistoryDTO> response = gameController.playGame(gameRequestDTO);
+        ResponseEntity<GameHistoryDTO> response = gameController.playGame(gameRequestDTO, HandFormatter.DEFAULT_LOCALE);
 
         // Assert
         assertEquals(HttpStatus.CREATED, response.getStatusCode()); // Verifica se o status HTTP é 201 (Criado)
         assertNotNull(response.getBody(), "O corpo da resposta não deve ser null"); // Verifica se o corpo não é null
-        assertEquals(gameHistoryDTO, response.getBody()); // Verifica se o corpo da resposta contém o GameHistoryDTO esperado
+        GameHistoryDTO gameHistoryDTO = response.getBody();
+        assertEquals(1L, gameHistoryDTO.getId()); // Verifica se o corpo da resposta contém os dados do jogo
+        assertEquals(numPlayers, gameHistoryDTO.getNumberOfPlayers());
+        assertEquals(cardsPerHand, gameHistoryDTO.getCardsPerPlayer());
+        assertEquals("deck123", gameHistoryDTO.getDeckId());
+        assertEquals("Jogador 1", gameHistoryDTO.getWinner());
+        assertEquals(12, gameHistoryDTO.getHighestScore());
+        assertEquals(gameTimestamp, gameHistoryDTO.getGameTimestamp());
+        assertEquals(List.of(), gameHistoryDTO.getPlayers());
         verify(cardGameService).playGame(numPlayers, cardsPerHand); // Verifica se o serviço foi chamado com os parâmetros corretos
-        verify(modelMapper).map(gameHistory, GameHistoryDTO.class); // Verifica se o mapeamento foi chamado
     }
 
     @Test
-    void getGameHistory_ShouldReturnGameHistoryDTO_WhenGameIdIsValid() {
+    void playGames_ShouldReturnEveryGameInTheRequestOrder() {
         // Arrange
-        Long gameId = 1L;
+        GameRequestDTO first = new GameRequestDTO();
+        first.setNumPlayers(2);
+        first.setCardsPerHand(5);
+        GameRequestDTO second = new GameRequestDTO();
+        second.setNumPlayers(3);
+        second.setCardsPerHand(1);
+        List<GameRequestDTO> gameRequestDTOs = List.of(first, second);
+
+        GameHistory firstGame = new GameHistory(2, 5, "deck1", "Jogador 2", 40, LocalDateTime.of(2026, 10, 18, 10, 0));
+        firstGame.setId(1L);
+        GameHistory secondGame = new GameHistory(3, 1, "deck2", "Jogador 1, Jogador 3", 13,
+                LocalDateTime.of(2026, 10, 18, 10, 0));
+        secondGame.setId(2L);
+        when(gameBatchService.playGames(gameRequestDTOs)).thenReturn(List.of(firstGame, secondGame));
 
-        GameHistory gameHistory = new GameHistory();
-        gameHistory.setId(gameId);
-        // Defina o estado do jogo conforme necessário
+        // Act
+        ResponseEntity<List<GameHistoryDTO>> response = gameController.playGames(gameRequestDTOs,
+                HandFormatter.DEFAULT_LOCALE);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(1L, 2L), response.getBody().stream().map(GameHistoryDTO::getId).toList());
+        assertEquals("Jogador 1, Jogador 3", response.getBody().get(1).getWinner());
+        verifyNoInteractions(cardGameService);
+    }
 
-        GameHistoryDTO gameHistoryDTO = new GameHistoryDTO();
-        gameHistoryDTO.setId(gameId);
-        // Defina o estado do DTO conforme necessário
+    @Test
+    void playGame_ShouldRenderHandsInTheRequestLocale() {
+        // Arrange
+        GameRequestDTO gameRequestDTO = new GameRequestDTO();
+        gameRequestDTO.setCardsPerHand(2);
+        gameRequestDTO.setNumPlayers(1);
 
-        // Mock para o serviço de buscar o histórico do jogo
-        when(gamePersistenceService.getGameHistoryById(gameId)).thenReturn(gameHistory);
+        GameHistory gameHistory = new GameHistory();
+        gameHistory.addPlayer(new Player("Jogador 1", 11,
+                Hand.of(CardCode.of("ACE", "HEARTS"), CardCode.of("10", "CLUBS"))));
 
-        // Mock do ModelMapper para converter o GameHistory para GameHistoryDTO
-        when(modelMapper.map(gameHistory, GameHistoryDTO.class)).thenReturn(gameHistoryDTO);
+        when(cardGameService.playGame(1, 2)).thenReturn(gameHistory);
 
         // Act
-        ResponseEntity<GameHistoryDTO> response = gameController.getGameHistory(gameId);
+        GameHistoryDTO english = gameController.playGame(gameRequestDTO, Locale.ENGLISH).getBody();
+        GameHistoryDTO portuguese = gameController.playGame(gameRequestDTO, HandFormatter.DEFAULT_LOCALE).getBody();
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getStatusCode()); // Verifica se o status HTTP é 200 (OK)
-        assertEquals(gameHistoryDTO, response.getBody()); // Verifica se o corpo da resposta contém o GameHistoryDTO esperado
-        verify(gamePersistenceService).getGameHistoryById(gameId); // Verifica se o serviço foi chamado com o gameId correto
+        assertNotNull(english);
+        assertEquals(1, english.getPlayers().size());
+        assertEquals("Jogador 1", english.getPlayers().get(0).getIdentifier());
+        assertEquals(11, english.getPlayers().get(0).getScore());
+        assertEquals("Ace of Hearts, 10 of Clubs", english.getPlayers().get(0).getHand());
+        assertNotNull(portuguese);
+        assertEquals("Ás de Copas, 10 de Paus", portuguese.getPlayers().get(0).getHand());
     }
 
     @Test
-    void getAllGameHistories_ShouldReturnListOfGameHistoryDTO_WhenHistoriesExist() {
+    void getGameHistory_ShouldReturnTheCachedJson_WhenGameIdIsValid() {
         // Arrange
-        GameHistory gameHistory1 = new GameHistory();
-        gameHistory1.setId(1L);
-        // Defina o estado do jogo conforme necessário
+        Long gameId = 1L;
+        byte[] gameHistoryJson = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // Mock do cache com a resposta já serializada
+        when(gameHistoryResponseCache.getGameHistoryJson(gameId)).thenReturn(gameHistoryJson);
 
-        GameHistory gameHistory2 = new GameHistory();
-        gameHistory2.setId(2L);
-        // Defina o estado do jogo conforme necessário
+        // Act
+        ResponseEntity<byte[]> response = gameController.getGameHistory(gameId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode()); // Verifica se o status HTTP é 200 (OK)
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(gameHistoryJson, response.getBody()); // Devolve os bytes do cache, sem nova serialização
+        verifyNoInteractions(gamePersistenceService);
+    }
 
+    @Test
+    void getGameHistories_ShouldReturnPageOfGameHistoryDTO_WhenHistoriesExist() {
+        // Arrange
         GameHistoryDTO gameHistoryDTO1 = new GameHistoryDTO();
-        gameHistoryDTO1.setId(1L);
-        // Defina o estado do DTO conforme necessário
+        gameHistoryDTO1.setId(2L);
 
         GameHistoryDTO gameHistoryDTO2 = new GameHistoryDTO();
-        gameHistoryDTO2.setId(2L);
-        // Defina o estado do DTO conforme necessário
+        gameHistoryDTO2.setId(1L);
 
-        List<GameHistory> gameHistories = List.of(gameHistory1, gameHistory2);
-        List<GameHistoryDTO> gameHistoryDTOs = List.of(gameHistoryDTO1, gameHistoryDTO2);
+        GameHistoryPage page = new GameHistoryPage(List.of(gameHistoryDTO1, gameHistoryDTO2), "cursor-2");
 
-        // Mock para o serviço de buscar todos os históricos de jogo
-        when(gamePersistenceService.getAllGameHistories()).thenReturn(gameHistories);
+        // Mock para o serviço de buscar a página do histórico
+        when(gamePersistenceService.getGameHistoryPage(any(GameHistoryFilter.class), eq("cursor-1"), eq(2)))
+                .thenReturn(page);
 
-        // Mock do ModelMapper para converter os GameHistories para GameHistoryDTOs
-        when(modelMapper.map(gameHistory1, GameHistoryDTO.class)).thenReturn(gameHistoryDTO1);
-        when(modelMapper.map(gameHistory2, GameHistoryDTO.class)).thenReturn(gameHistoryDTO2);
+        // Act
+        ResponseEntity<GameHistoryPageDTO> response = gameController.getGameHistories("cursor-1", 2, null, null, null, null, null, false, HandFormatter.DEFAULT_LOCALE);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(gameHistoryDTO1, gameHistoryDTO2), response.getBody().getItems());
+        assertEquals("cursor-2", response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getGameHistories_ShouldLoadThePlayersOfThePageAtOnce_WhenIncludePlayersIsTrue() {
+        // Arrange
+        GameHistoryDTO summary1 = new GameHistoryDTO();
+        summary1.setId(2L);
+        GameHistoryDTO summary2 = new GameHistoryDTO();
+        summary2.setId(1L);
+        when(gamePersistenceService.getGameHistoryPage(any(GameHistoryFilter.class), isNull(), eq(2)))
+                .thenReturn(new GameHistoryPage(List.of(summary1, summary2), "cursor-2"));
+        when(gamePersistenceService.getGameHistoriesWithPlayers(List.of(2L, 1L)))
+                .thenReturn(List.of(gameWithPlayer(2L), gameWithPlayer(1L)));
 
         // Act
-        ResponseEntity<List<GameHistoryDTO>> response = gameController.getAllGameHistories();
+        ResponseEntity<GameHistoryPageDTO> response = gameController.getGameHistories(null, 2, null, null, null, null,
+                null, true, Locale.ENGLISH);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getStatusCode()); // Verifica se o status HTTP é 200 (OK)
-        assertEquals(gameHistoryDTOs, response.getBody()); // Verifica se o corpo da resposta contém a lista de GameHistoryDTOs esperada
-        verify(gamePersistenceService).getAllGameHistories(); // Verifica se o serviço foi chamado para buscar todos os históricos
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<GameHistoryDTO> items = response.getBody().getItems();
+        assertEquals(List.of(2L, 1L), items.stream().map(GameHistoryDTO::getId).toList());
+        assertEquals("Ace of Hearts", items.get(0).getPlayers().get(0).getHand());
+        assertEquals("cursor-2", response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getGameHistoryDetails_ShouldReturnTheGameWithPlayers() {
+        // Arrange
+        when(gamePersistenceService.getGameHistoryWithPlayers(1L)).thenReturn(gameWithPlayer(1L));
+
+        // Act
+        ResponseEntity<GameHistoryDTO> response = gameController.getGameHistoryDetails(1L, HandFormatter.DEFAULT_LOCALE);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1L, response.getBody().getId());
+        assertEquals(1, response.getBody().getPlayers().size());
+        assertEquals("Jogador 1", response.getBody().getPlayers().get(0).getIdentifier());
+        assertEquals(11, response.getBody().getPlayers().get(0).getScore());
+        assertEquals(HandFormatter.format(Hand.of(CardCode.of("ACE", "HEARTS")), HandFormatter.DEFAULT_LOCALE),
+                response.getBody().getPlayers().get(0).getHand());
+    }
+
+    @Test
+    void getGameHistories_ShouldReturnNoContent_WhenPageIsEmpty() {
+        // Arrange
+        when(gamePersistenceService.getGameHistoryPage(any(GameHistoryFilter.class), isNull(), eq(50)))
+                .thenReturn(new GameHistoryPage(List.of(), null));
+
+        // Act
+        ResponseEntity<GameHistoryPageDTO> response = gameController.getGameHistories(null, 50, null, null, null, null, null, false, HandFormatter.DEFAULT_LOCALE);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    void getGameStats_ShouldReturnTheMaintainedTotals() {
+        // Arrange
+        GameStatsDTO stats = new GameStatsDTO(3, 1, 1.0 / 3, List.of(), List.of());
+        when(gameStatsService.getStats()).thenReturn(stats);
+
+        // Act
+        ResponseEntity<GameStatsDTO> response = gameController.getGameStats();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(stats, response.getBody());
+        verifyNoInteractions(gamePersistenceService);
+    }
+
+    @Test
+    void exportGameHistories_ShouldCompressTheStream_WhenClientAcceptsGzip() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(gameHistoryExportService).export(any(OutputStream.class), eq(true), eq(Locale.ENGLISH));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+                gameController.exportGameHistories(true, "gzip, deflate", Locale.ENGLISH);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertEquals("{\"id\":1}\n", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportGameHistories_ShouldNotCompress_WhenClientDoesNotAcceptGzip() throws Exception {
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+                gameController.exportGameHistories(false, null, HandFormatter.DEFAULT_LOCALE);
+        response.getBody().writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        verify(gameHistoryExportService).export(any(OutputStream.class), eq(false), eq(HandFormatter.DEFAULT_LOCALE));
+    }
+
+    private static GameHistory gameWithPlayer(Long id) {
+        GameHistory gameHistory = new GameHistory(1, 1, "deck123", "Jogador 1", 11, LocalDateTime.of(2026, 10, 18, 10, 0));
+        gameHistory.setId(id);
+        gameHistory.addPlayer(new Player("Jogador 1", 11, Hand.of(CardCode.of("ACE", "HEARTS"))));
+        return gameHistory;
     }
 
 }
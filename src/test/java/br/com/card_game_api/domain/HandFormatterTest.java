@@ -0,0 +1,98 @@
+package br.com.card_game_api.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandFormatterTest {
+
+    @Test
+    void format_ShouldJoinTranslatedLabelsOfTheRequestedRange() {
+        // Arrange
+        byte[] cards = {
+                CardCode.of("KING", "SPADES"),
+                CardCode.of("ACE", "HEARTS"),
+                CardCode.of("10", "CLUBS"),
+                CardCode.of("QUEEN", "DIAMONDS")
+        };
+
+        // Act
+        String hand = HandFormatter.format(cards, 1, 4);
+
+        // Assert
+        assertEquals("Ás de Copas, 10 de Paus, Rainha de Ouros", hand);
+    }
+
+    @Test
+    void format_ShouldReturnEmptyStringForEmptyRange() {
+        // Act & Assert
+        assertEquals("", HandFormatter.format(new byte[0], 0, 0));
+    }
+
+    @Test
+    void label_ShouldHaveADistinctLabelForEachOfThe52Cards() {
+        // Arrange
+        Set<String> labels = new HashSet<>();
+
+        // Act
+        for (byte code = 0; code < CardCode.CARDS_PER_DECK; code++) {
+            labels.add(HandFormatter.label(code));
+        }
+
+        // Assert
+        assertEquals(52, labels.size());
+        assertEquals("Valete de Espadas", HandFormatter.label(CardCode.of("JACK", "SPADES")));
+        assertEquals("7 de Ouros", HandFormatter.label(CardCode.of("7", "DIAMONDS")));
+    }
+
+    @Test
+    void format_ShouldHandleHandsLargerThanTheReusedBuffer() {
+        // Arrange
+        byte[] cards = new byte[5000];
+
+        // Act
+        String hand = HandFormatter.format(cards, 0, cards.length);
+
+        // Assert
+        assertEquals(5000 * "Ás de Espadas".length() + 4999 * 2, hand.length());
+    }
+
+    @Test
+    void format_ShouldUseEnglishLabels_WhenLocaleIsEnglish() {
+        // Arrange
+        Hand hand = Hand.of(CardCode.of("ACE", "HEARTS"), CardCode.of("10", "CLUBS"), CardCode.of("QUEEN", "DIAMONDS"));
+
+        // Act
+        String english = HandFormatter.format(hand, Locale.UK);
+        String fallback = HandFormatter.format(hand, Locale.JAPANESE);
+
+        // Assert
+        assertEquals("Ace of Hearts, 10 of Clubs, Queen of Diamonds", english);
+        assertEquals("Ás de Copas, 10 de Paus, Rainha de Ouros", fallback);
+    }
+
+    @Test
+    void parse_ShouldReturnTheHandThatWasFormatted() {
+        // Arrange
+        Hand hand = Hand.of(CardCode.of("KING", "SPADES"), CardCode.of("2", "HEARTS"), CardCode.of("ACE", "CLUBS"));
+
+        // Act
+        Hand parsed = HandFormatter.parse(HandFormatter.format(hand));
+
+        // Assert
+        assertEquals(hand, parsed);
+        assertEquals(0, HandFormatter.parse("").size());
+    }
+
+    @Test
+    void parse_ShouldThrowException_WhenCardIsNotRecognized() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> HandFormatter.parse("Ás de Copas, Coringa"));
+    }
+
+}
@@ -1,8 +1,10 @@
 package br.com.card_game_api.exception.handler;
 
 import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.GameBatchRejectedException;
 import br.com.card_game_api.exception.GameNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -36,4 +38,18 @@ class CustomExceptionHandlerTest {
         assertEquals("Game not found", response.getBody());
     }
 
+    @Test
+    void handleGameBatchRejectedException_ShouldReturn503WithRetryAfter() {
+        // Arrange
+        GameBatchRejectedException exception = new GameBatchRejectedException("Batch rejected", null);
+
+        // Act
+        ResponseEntity<Object> response = customExceptionHandler.handleGameBatchRejectedException(exception);
+
+        // Assert
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Batch rejected", response.getBody());
+    }
+
 }
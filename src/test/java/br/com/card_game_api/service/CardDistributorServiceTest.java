@@ -1,13 +1,15 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.adapter.outbound.DeckOfCardsClient;
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.HandFormatter;
 import br.com.card_game_api.domain.Player;
-import br.com.card_game_api.dto.CardDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 
@@ -18,7 +20,7 @@ import static org.mockito.Mockito.*;
 class CardDistributorServiceTest {
 
     @Mock
-    private DeckOfCardsClient deckOfCardsClient;
+    private DeckProvider deckProvider;
 
     @Mock
     private ScoreCalculatorService scoreCalculatorService;
@@ -32,12 +34,12 @@ class CardDistributorServiceTest {
         int numPlayers = 2;
         int cardsPerHand = 5;
         String deckId = "deck123";
-        List<CardDTO> mockCards = List.of(
-                new CardDTO("ACE", "HEARTS"),
-                new CardDTO("8", "SPADES")
-        );
-        when(deckOfCardsClient.dealCards(deckId, cardsPerHand)).thenReturn(mockCards);
-        when(scoreCalculatorService.calculateScore(mockCards)).thenReturn(9);
+        byte[] mockCards = {
+                CardCode.of("ACE", "HEARTS"),
+                CardCode.of("8", "SPADES")
+        };
+        when(deckProvider.dealCards(eq(deckId), eq(cardsPerHand), anyInt())).thenReturn(mockCards);
+        when(scoreCalculatorService.calculateScore(mockCards, 0, 2)).thenReturn(9);
 
         // Act
         List<Player> players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
@@ -48,8 +50,11 @@ class CardDistributorServiceTest {
         for (int i = 0; i < numPlayers; i++) {
             Player player = players.get(i);
             assertEquals(9, player.getScore());
-            assertTrue(player.getHand().contains("Ás de Copas") || player.getHand().contains("8 de Espadas"));
+            assertTrue(HandFormatter.format(player.getHand()).contains("Ás de Copas") || HandFormatter.format(player.getHand()).contains("8 de Espadas"));
         }
+        // Cada compra informa as cartas que o jogo ainda vai retirar do deck
+        verify(deckProvider).dealCards(deckId, cardsPerHand, 10);
+        verify(deckProvider).dealCards(deckId, cardsPerHand, 5);
     }
 
     @Test
@@ -58,8 +63,7 @@ class CardDistributorServiceTest {
         int numPlayers = 1;
         int cardsPerHand = 5;
         String deckId = "deck123";
-        when(deckOfCardsClient.dealCards(deckId, cardsPerHand)).thenReturn(List.of());
-        when(scoreCalculatorService.calculateScore(List.of())).thenReturn(0);
+        when(deckProvider.dealCards(deckId, cardsPerHand, cardsPerHand)).thenReturn(new byte[0]);
 
         // Act
         List<Player> players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
@@ -68,7 +72,64 @@ class CardDistributorServiceTest {
         assertNotNull(players);
         assertEquals(1, players.size());
         assertEquals(0, players.get(0).getScore());
-        assertEquals("", players.get(0).getHand());
+        assertEquals("", HandFormatter.format(players.get(0).getHand()));
+    }
+
+    @Test
+    void distributeCards_ShouldDrawAllCardsOnceAndSliceHandsInDealingOrder_WhenBatchDrawIsEnabled() {
+        // Arrange
+        ReflectionTestUtils.setField(cardDistributorService, "batchDraw", true);
+        ReflectionTestUtils.setField(cardDistributorService, "maxCardsPerDraw", 1000);
+        int numPlayers = 2;
+        int cardsPerHand = 2;
+        String deckId = "deck123";
+        byte[] drawnCards = {
+                CardCode.of("ACE", "HEARTS"),
+                CardCode.of("8", "SPADES"),
+                CardCode.of("KING", "DIAMONDS"),
+                CardCode.of("2", "CLUBS")
+        };
+        when(deckProvider.dealCards(deckId, 4, 4)).thenReturn(drawnCards);
+        when(scoreCalculatorService.calculateScore(drawnCards, 0, 2)).thenReturn(9);
+        when(scoreCalculatorService.calculateScore(drawnCards, 2, 4)).thenReturn(15);
+
+        // Act
+        List<Player> players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
+
+        // Assert
+        assertEquals(2, players.size());
+        assertEquals("Jogador 1", players.get(0).getIdentifier());
+        assertEquals("Ás de Copas, 8 de Espadas", HandFormatter.format(players.get(0).getHand()));
+        assertEquals(9, players.get(0).getScore());
+        assertEquals("Jogador 2", players.get(1).getIdentifier());
+        assertEquals("Rei de Ouros, 2 de Paus", HandFormatter.format(players.get(1).getHand()));
+        assertEquals(15, players.get(1).getScore());
+        verify(deckProvider, times(1)).dealCards(deckId, 4, 4);
+    }
+
+    @Test
+    void distributeCards_ShouldSplitDrawWhenTotalCardsExceedDrawLimit() {
+        // Arrange
+        ReflectionTestUtils.setField(cardDistributorService, "batchDraw", true);
+        ReflectionTestUtils.setField(cardDistributorService, "maxCardsPerDraw", 3);
+        int numPlayers = 2;
+        int cardsPerHand = 2;
+        String deckId = "deck123";
+        when(deckProvider.dealCards(deckId, 3, 4)).thenReturn(new byte[]{
+                CardCode.of("ACE", "HEARTS"),
+                CardCode.of("8", "SPADES"),
+                CardCode.of("KING", "DIAMONDS")
+        });
+        when(deckProvider.dealCards(deckId, 1, 1)).thenReturn(new byte[]{CardCode.of("2", "CLUBS")});
+
+        // Act
+        List<Player> players = cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId);
+
+        // Assert
+        assertEquals("Ás de Copas, 8 de Espadas", HandFormatter.format(players.get(0).getHand()));
+        assertEquals("Rei de Ouros, 2 de Paus", HandFormatter.format(players.get(1).getHand()));
+        verify(deckProvider).dealCards(deckId, 3, 4);
+        verify(deckProvider).dealCards(deckId, 1, 1);
     }
 
 }
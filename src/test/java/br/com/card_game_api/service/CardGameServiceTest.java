@@ -1,26 +1,44 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.adapter.outbound.DeckOfCardsClient;
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import br.com.card_game_api.adapter.outbound.LocalDeckProvider;
+import br.com.card_game_api.adapter.outbound.ResilientDeckProvider;
 import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.Hand;
 import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.DeckUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.net.http.HttpTimeoutException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CardGameServiceTest {
 
     @Mock
-    private DeckOfCardsClient deckOfCardsClient;
+    private DeckRecyclingService deckRecyclingService;
 
     @Mock
     private InputValidator inputValidator;
@@ -35,7 +53,13 @@ class CardGameServiceTest {
     private GameResultService gameResultService;
 
     @Mock
-    private GamePersistenceService gamePersistenceService;
+    private GameWriteBehindService gameWriteBehindService;
+
+    @Mock
+    private LocalDeckProvider localDeckProvider;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Autowired
     @InjectMocks
@@ -49,8 +73,8 @@ class CardGameServiceTest {
         String winner = "Player 1";
         String deckId = "deck123";
         List<Player> mockPlayers = List.of(
-                new Player("Jogador 1", 10, "10 de Copas"),
-                new Player("Jogador 2", 8, "8 de Espadas")
+                new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "HEARTS"))),
+                new Player("Jogador 2", 8, Hand.of(CardCode.of("8", "SPADES")))
         );
         GameHistory mockGameHistory = new GameHistory();
         mockGameHistory.setNumberOfPlayers(numPlayers);
@@ -61,14 +85,14 @@ class CardGameServiceTest {
         doNothing().when(inputValidator).validateInputs(numPlayers, cardsPerHand);
         when(deckCalculatorService.calculateDecks(numPlayers, cardsPerHand))
                 .thenReturn(1);
-        when(deckOfCardsClient.createDeck(anyInt()))
+        when(deckRecyclingService.acquireDeck(anyInt()))
                 .thenReturn(deckId);
         when(cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId))
                 .thenReturn(mockPlayers);
         when(gameResultService.determineWinner(anyList()))
                 .thenReturn("Player 1");
 
-        when(gamePersistenceService.saveGameHistory(numPlayers, cardsPerHand, deckId, winner, mockPlayers))
+        when(gameWriteBehindService.save(numPlayers, cardsPerHand, deckId, winner, mockPlayers))
                 .thenReturn(mockGameHistory);
 
         // Act
@@ -81,4 +105,113 @@ class CardGameServiceTest {
         verify(deckCalculatorService, times(1)).calculateDecks(numPlayers, cardsPerHand);
     }
 
+    @Test
+    void playGame_ShouldFinishDeckAndScoringWorkBeforePersisting() {
+        // Arrange
+        int numPlayers = 2;
+        int cardsPerHand = 5;
+        String deckId = "deck123";
+        List<Player> mockPlayers = List.of(
+                new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "HEARTS"))),
+                new Player("Jogador 2", 8, Hand.of(CardCode.of("8", "SPADES")))
+        );
+        when(deckCalculatorService.calculateDecks(numPlayers, cardsPerHand)).thenReturn(1);
+        when(deckRecyclingService.acquireDeck(1)).thenReturn(deckId);
+        when(cardDistributorService.distributeCards(numPlayers, cardsPerHand, deckId)).thenReturn(mockPlayers);
+        when(gameResultService.determineWinner(mockPlayers)).thenReturn("Jogador 1");
+        when(gameWriteBehindService.save(numPlayers, cardsPerHand, deckId, "Jogador 1", mockPlayers))
+                .thenReturn(new GameHistory());
+
+        // Act
+        cardGameService.playGame(numPlayers, cardsPerHand);
+
+        // Assert
+        InOrder inOrder = inOrder(deckRecyclingService, cardDistributorService, gameResultService, gameWriteBehindService);
+        inOrder.verify(deckRecyclingService).acquireDeck(1);
+        inOrder.verify(cardDistributorService).distributeCards(numPlayers, cardsPerHand, deckId);
+        inOrder.verify(deckRecyclingService).releaseDeck(deckId);
+        inOrder.verify(gameResultService).determineWinner(mockPlayers);
+        inOrder.verify(gameWriteBehindService).save(numPlayers, cardsPerHand, deckId, "Jogador 1", mockPlayers);
+    }
+
+    @Test
+    void playGame_ShouldReleaseDeckWhenDistributionFails() {
+        // Arrange
+        when(deckCalculatorService.calculateDecks(2, 5)).thenReturn(1);
+        when(deckRecyclingService.acquireDeck(1)).thenReturn("deck123");
+        when(cardDistributorService.distributeCards(2, 5, "deck123"))
+                .thenThrow(new IllegalStateException("falha"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cardGameService.playGame(2, 5));
+        verify(deckRecyclingService).releaseDeck("deck123");
+        verifyNoInteractions(gameWriteBehindService);
+    }
+
+    @Test
+    void dealGame_ShouldReplayTheWholeGameOnALocalDeck_WhenTheApiBecomesUnavailable() {
+        // Arrange
+        List<Player> localPlayers = List.of(new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "HEARTS"))));
+        when(deckCalculatorService.calculateDecks(1, 1)).thenReturn(1);
+        when(deckRecyclingService.acquireDeck(1)).thenReturn("deck123");
+        when(cardDistributorService.distributeCards(1, 1, "deck123"))
+                .thenThrow(new DeckUnavailableException("API indisponível", new HttpTimeoutException("t")));
+        when(localDeckProvider.createDeck(1)).thenReturn("local-abc");
+        when(cardDistributorService.distributeCards(1, 1, "local-abc")).thenReturn(localPlayers);
+        when(gameResultService.determineWinner(localPlayers)).thenReturn("Jogador 1");
+
+        // Act
+        CardGameService.DealtGame game = cardGameService.dealGame(1, 1);
+
+        // Assert
+        assertEquals("local-abc", game.deckId);
+        assertEquals(localPlayers, game.players);
+        verify(deckRecyclingService).releaseDeck("deck123");
+        verify(deckRecyclingService, never()).releaseDeck("local-abc");
+        assertEquals(1.0, meterRegistry.get("deck.resilience.fallback").tag("operation", "game").counter().count());
+    }
+
+    @Test
+    void dealGame_ShouldNotMixCards_WhenADrawTimesOutHalfwayThroughTheGame() {
+        // Arrange
+        // Deck "remoto" de um baralho, servido por um provedor em memória; a terceira compra esgota o tempo
+        LocalDeckProvider remoteBacking = new LocalDeckProvider();
+        String backingDeckId = remoteBacking.createDeck(1);
+        AtomicInteger remoteDraws = new AtomicInteger();
+        DeckProvider remote = mock(DeckProvider.class);
+        when(remote.dealCards(eq("remote123"), anyInt(), anyInt())).thenAnswer(invocation -> {
+            if (remoteDraws.incrementAndGet() == 3) {
+                throw new DeckCreationException("Tempo esgotado", new HttpTimeoutException("request timed out"));
+            }
+            return remoteBacking.dealCards(backingDeckId, invocation.getArgument(1));
+        });
+        LocalDeckProvider local = new LocalDeckProvider();
+        ResilientDeckProvider deckProvider = new ResilientDeckProvider(remote, local,
+                CircuitBreaker.ofDefaults("deckOfCards"), Bulkhead.ofDefaults("deckOfCards"), new SimpleMeterRegistry());
+        when(deckRecyclingService.acquireDeck(1)).thenReturn("remote123");
+        CardGameService service = new CardGameService(deckRecyclingService, new InputValidator(),
+                new DeckCalculatorService(), new CardDistributorService(deckProvider, new ScoreCalculatorService()),
+                new GameResultService(), gameWriteBehindService, local, new SimpleMeterRegistry());
+
+        // Act
+        CardGameService.DealtGame game = service.dealGame(4, 5);
+
+        // Assert
+        assertEquals(3, remoteDraws.get());
+        assertTrue(local.isLocalDeck(game.deckId));
+        Map<Byte, Integer> copies = new HashMap<>();
+        int cards = 0;
+        for (Player player : game.players) {
+            assertEquals(5, player.getHand().size());
+            for (int i = 0; i < player.getHand().size(); i++) {
+                copies.merge(player.getHand().card(i), 1, Integer::sum);
+                cards++;
+            }
+        }
+        assertEquals(20, cards);
+        // Um único baralho: nenhuma carta repetida entre as mãos
+        assertTrue(copies.values().stream().allMatch(count -> count == 1), copies.toString());
+        verify(deckRecyclingService).releaseDeck("remote123");
+    }
+
 }
@@ -0,0 +1,181 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class DeckPoolServiceTest {
+
+    private DeckProvider deckProvider;
+    private MeterRegistry meterRegistry;
+    private DeckPoolService deckPoolService;
+
+    @BeforeEach
+    void setUp() {
+        deckProvider = mock(DeckProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+        AtomicInteger sequence = new AtomicInteger();
+        when(deckProvider.createDeck(anyInt())).thenAnswer(invocation -> "deck-" + sequence.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (deckPoolService != null) {
+            deckPoolService.shutdown();
+        }
+    }
+
+    @Test
+    void acquireDeck_ShouldDelegateToProviderWhenPoolIsDisabled() {
+        // Arrange
+        deckPoolService = pool(false, 4, 5, 20, 1);
+        deckPoolService.warmUp();
+
+        // Act
+        String deckId = deckPoolService.acquireDeck(2);
+
+        // Assert
+        assertEquals("deck-1", deckId);
+        verify(deckProvider, times(1)).createDeck(2);
+    }
+
+    @Test
+    void warmUp_ShouldFillEachDeckCountUpToHighWatermark() throws InterruptedException {
+        // Arrange
+        deckPoolService = pool(true, 2, 1, 3, 1);
+
+        // Act
+        deckPoolService.warmUp();
+        awaitAvailableDecks(1, 3);
+        awaitAvailableDecks(2, 3);
+
+        // Assert
+        verify(deckProvider, times(3)).createDeck(1);
+        verify(deckProvider, times(3)).createDeck(2);
+        assertEquals(3.0, meterRegistry.get("deck.pool.size").tag("deckCount", "1").gauge().value());
+    }
+
+    @Test
+    void acquireDeck_ShouldServeFromPoolAndCountHit() throws InterruptedException {
+        // Arrange
+        deckPoolService = pool(true, 1, 1, 2, 1);
+        deckPoolService.warmUp();
+        awaitAvailableDecks(1, 2);
+
+        // Act
+        String deckId = deckPoolService.acquireDeck(1);
+
+        // Assert
+        assertTrue(deckId.startsWith("deck-"));
+        assertEquals(1.0, meterRegistry.get("deck.pool.requests")
+                .tags("deckCount", "1", "result", "hit").counter().count());
+    }
+
+    @Test
+    void acquireDeck_ShouldCreateDeckWhenDeckCountIsAboveThePoolRange() throws InterruptedException {
+        // Arrange
+        deckPoolService = pool(true, 1, 1, 1, 1);
+        deckPoolService.warmUp();
+        awaitAvailableDecks(1, 1);
+
+        // Act
+        deckPoolService.acquireDeck(3);
+
+        // Assert
+        verify(deckProvider, times(1)).createDeck(3);
+        assertEquals(0, deckPoolService.availableDecks(3));
+    }
+
+    @Test
+    void acquireDeck_ShouldCountMissAndCreateDeckWhenPoolIsEmpty() {
+        // Arrange
+        deckPoolService = pool(true, 1, 1, 1, 1);
+
+        // Act
+        String deckId = deckPoolService.acquireDeck(1);
+
+        // Assert
+        assertTrue(deckId.startsWith("deck-"));
+        assertEquals(1.0, meterRegistry.get("deck.pool.requests")
+                .tags("deckCount", "1", "result", "miss").counter().count());
+    }
+
+    @Test
+    void acquireDeck_ShouldNotRetryTheRefill_UntilTheBackoffExpires() throws InterruptedException {
+        // Arrange
+        when(deckProvider.createDeck(anyInt())).thenThrow(new IllegalStateException("API indisponível"));
+        deckPoolService = new DeckPoolService(deckProvider, meterRegistry, true, 1, 1, 2, 1,
+                Duration.ofMinutes(1), Duration.ofMinutes(5));
+        deckPoolService.warmUp();
+        awaitRefillFailures(1);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> deckPoolService.acquireDeck(1));
+        }
+        Thread.sleep(100);
+
+        // Assert
+        // Uma tentativa da reposição e uma por requisição, sem novas reposições
+        assertEquals(1.0, refillFailures());
+        verify(deckProvider, times(6)).createDeck(1);
+    }
+
+    @Test
+    void acquireDeck_ShouldRefillAgain_AfterTheBackoff() throws InterruptedException {
+        // Arrange
+        AtomicInteger sequence = new AtomicInteger();
+        when(deckProvider.createDeck(anyInt()))
+                .thenThrow(new IllegalStateException("API indisponível"))
+                .thenAnswer(invocation -> "deck-" + sequence.incrementAndGet());
+        deckPoolService = new DeckPoolService(deckProvider, meterRegistry, true, 1, 1, 2, 1,
+                Duration.ofMillis(50), Duration.ofSeconds(1));
+        deckPoolService.warmUp();
+        awaitRefillFailures(1);
+        Thread.sleep(100);
+
+        // Act
+        deckPoolService.acquireDeck(1);
+
+        // Assert
+        awaitAvailableDecks(1, 2);
+        assertEquals(1.0, refillFailures());
+    }
+
+    private DeckPoolService pool(boolean enabled, int maxDeckCount, int lowWatermark, int highWatermark,
+                                 int refillThreads) {
+        return new DeckPoolService(deckProvider, meterRegistry, enabled, maxDeckCount, lowWatermark, highWatermark,
+                refillThreads, Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    private double refillFailures() {
+        return meterRegistry.get("deck.pool.refill.failures").tag("deckCount", "1").counter().count();
+    }
+
+    private void awaitRefillFailures(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (refillFailures() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, refillFailures());
+    }
+
+    private void awaitAvailableDecks(int deckCount, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (deckPoolService.availableDecks(deckCount) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, deckPoolService.availableDecks(deckCount));
+    }
+
+}
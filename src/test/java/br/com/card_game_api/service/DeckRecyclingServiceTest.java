@@ -0,0 +1,157 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.adapter.outbound.DeckProvider;
+import br.com.card_game_api.exception.DeckCreationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class DeckRecyclingServiceTest {
+
+    private DeckProvider deckProvider;
+    private DeckPoolService deckPoolService;
+    private MeterRegistry meterRegistry;
+    private DeckRecyclingService deckRecyclingService;
+
+    @BeforeEach
+    void setUp() {
+        deckProvider = mock(DeckProvider.class);
+        deckPoolService = mock(DeckPoolService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        AtomicInteger sequence = new AtomicInteger();
+        when(deckPoolService.acquireDeck(anyInt())).thenAnswer(invocation -> "deck-" + sequence.incrementAndGet());
+        when(deckProvider.drawsSettled(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (deckRecyclingService != null) {
+            deckRecyclingService.shutdown();
+        }
+    }
+
+    @Test
+    void acquireDeck_ShouldDelegateToPoolWhenRecyclingIsDisabled() {
+        // Arrange
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, false, 10, 1);
+
+        // Act
+        String deckId = deckRecyclingService.acquireDeck(1);
+        deckRecyclingService.releaseDeck(deckId);
+
+        // Assert
+        assertEquals("deck-1", deckId);
+        verifyNoInteractions(deckProvider);
+        assertEquals(0, deckRecyclingService.availableDecks(1));
+    }
+
+    @Test
+    void acquireDeck_ShouldReuseReleasedDeckAfterReshuffle() throws InterruptedException {
+        // Arrange
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, true, 10, 1);
+        String first = deckRecyclingService.acquireDeck(2);
+
+        // Act
+        deckRecyclingService.releaseDeck(first);
+        awaitAvailableDecks(2, 1);
+        String second = deckRecyclingService.acquireDeck(2);
+
+        // Assert
+        assertEquals(first, second);
+        verify(deckProvider).shuffleDeck(first);
+        verify(deckPoolService, times(1)).acquireDeck(2);
+        assertEquals(1.0, meterRegistry.get("deck.recycling.leases").tag("result", "reused").counter().count());
+        assertEquals(1.0, meterRegistry.get("deck.recycling.leases").tag("result", "created").counter().count());
+    }
+
+    @Test
+    void acquireDeck_ShouldNeverLeaseTheSameDeckToConcurrentGames() {
+        // Arrange
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, true, 10, 1);
+
+        // Act
+        String first = deckRecyclingService.acquireDeck(1);
+        String second = deckRecyclingService.acquireDeck(1);
+
+        // Assert
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void releaseDeck_ShouldDiscardDeckWhenReshuffleFails() throws InterruptedException {
+        // Arrange
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, true, 10, 1);
+        doThrow(new DeckCreationException("falha")).when(deckProvider).shuffleDeck("deck-1");
+        String deckId = deckRecyclingService.acquireDeck(1);
+
+        // Act
+        deckRecyclingService.releaseDeck(deckId);
+        awaitReshuffleFailures(1);
+
+        // Assert
+        assertEquals(0, deckRecyclingService.availableDecks(1));
+        assertEquals("deck-2", deckRecyclingService.acquireDeck(1));
+    }
+
+    @Test
+    void releaseDeck_ShouldWaitForDrawsStillInFlightBeforeReshuffling() throws InterruptedException {
+        // Arrange
+        // Compra perdedora de um hedge ainda em andamento quando o jogo devolve o deck
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, true, 10, 1);
+        CompletableFuture<Void> drawsSettled = new CompletableFuture<>();
+        when(deckProvider.drawsSettled("deck-1")).thenReturn(drawsSettled);
+        String deckId = deckRecyclingService.acquireDeck(1);
+
+        // Act
+        deckRecyclingService.releaseDeck(deckId);
+        Thread.sleep(100);
+
+        // Assert
+        verify(deckProvider, never()).shuffleDeck(anyString());
+        assertEquals(0, deckRecyclingService.availableDecks(1));
+
+        drawsSettled.complete(null);
+        awaitAvailableDecks(1, 1);
+        verify(deckProvider).shuffleDeck("deck-1");
+    }
+
+    @Test
+    void releaseDeck_ShouldIgnoreDecksThatWereNotLeased() {
+        // Arrange
+        deckRecyclingService = new DeckRecyclingService(deckProvider, deckPoolService, meterRegistry, true, 10, 1);
+
+        // Act
+        deckRecyclingService.releaseDeck("desconhecido");
+
+        // Assert
+        verifyNoInteractions(deckProvider);
+    }
+
+    private void awaitAvailableDecks(int numberOfDecks, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (deckRecyclingService.availableDecks(numberOfDecks) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, deckRecyclingService.availableDecks(numberOfDecks));
+    }
+
+    private void awaitReshuffleFailures(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("deck.recycling.reshuffle.failures").counter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.get("deck.recycling.reshuffle.failures").counter().count());
+    }
+
+}
@@ -0,0 +1,193 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.GameRequestDTO;
+import br.com.card_game_api.exception.DeckCreationException;
+import br.com.card_game_api.exception.GameBatchRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameBatchServiceTest {
+
+    private CardGameService cardGameService;
+    private GamePersistenceService gamePersistenceService;
+    private GameBatchService gameBatchService;
+
+    @BeforeEach
+    void setUp() {
+        cardGameService = mock(CardGameService.class);
+        gamePersistenceService = mock(GamePersistenceService.class);
+        gameBatchService = new GameBatchService(cardGameService, new InputValidator(), gamePersistenceService, 4, 10, 10);
+
+        when(gamePersistenceService.buildGameHistory(anyInt(), anyInt(), anyString(), anyString(), anyList()))
+                .thenAnswer(invocation -> new GameHistory(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3), 10, null));
+        when(gamePersistenceService.saveGameHistories(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameBatchService.shutdown();
+    }
+
+    @Test
+    void playGames_ShouldPlayTheGamesConcurrentlyAndSaveThemTogether() {
+        // Arrange
+        // Os quatro primeiros jogos só terminam quando os quatro estiverem em andamento
+        CountDownLatch running = new CountDownLatch(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(cardGameService.dealGame(anyInt(), anyInt())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            running.countDown();
+            assertTrue(running.await(5, TimeUnit.SECONDS), "os jogos devem rodar em paralelo");
+            int numPlayers = invocation.getArgument(0);
+            return new CardGameService.DealtGame("deck" + numPlayers, "Jogador 1", players(numPlayers));
+        });
+        List<GameRequestDTO> requests = new ArrayList<>();
+        for (int numPlayers = 1; numPlayers <= 8; numPlayers++) {
+            requests.add(request(numPlayers, 5));
+        }
+
+        // Act
+        List<GameHistory> gameHistories = gameBatchService.playGames(requests);
+
+        // Assert
+        assertEquals(8, gameHistories.size());
+        for (int i = 0; i < gameHistories.size(); i++) {
+            assertEquals(i + 1, gameHistories.get(i).getNumberOfPlayers());
+            assertEquals("deck" + (i + 1), gameHistories.get(i).getDeckId());
+        }
+        assertEquals(4, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("game-batch-")));
+        verify(gamePersistenceService, times(1)).saveGameHistories(anyList());
+        verify(gamePersistenceService, never()).saveGameHistory(anyInt(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void playGames_ShouldRejectTheWholeBatchBeforeDealing_WhenAGameIsInvalid() {
+        // Arrange
+        List<GameRequestDTO> requests = List.of(request(2, 5), request(0, 5));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> gameBatchService.playGames(requests));
+        verifyNoInteractions(cardGameService);
+    }
+
+    @Test
+    void playGames_ShouldRejectBatchesAboveTheLimit() {
+        // Arrange
+        List<GameRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(request(2, 5));
+        }
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> gameBatchService.playGames(requests));
+        assertEquals("Quantidade de jogos inválida: 11. Valores aceitos: 1 a 10", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> gameBatchService.playGames(List.of()));
+        verifyNoInteractions(cardGameService);
+    }
+
+    @Test
+    void playGames_ShouldSaveNothing_WhenAGameFails() {
+        // Arrange
+        when(cardGameService.dealGame(anyInt(), anyInt())).thenAnswer(invocation -> {
+            if (invocation.<Integer>getArgument(0) == 3) {
+                throw new DeckCreationException("Falha ao criar o deck");
+            }
+            return new CardGameService.DealtGame("deck", "Jogador 1", players(invocation.getArgument(0)));
+        });
+
+        // Act & Assert
+        assertThrows(DeckCreationException.class,
+                () -> gameBatchService.playGames(List.of(request(2, 5), request(3, 5), request(4, 5))));
+        verify(gamePersistenceService, never()).saveGameHistories(anyList());
+    }
+
+    @Test
+    void playGames_ShouldSaveTheGamesInTheRequestOrder() {
+        // Arrange
+        when(cardGameService.dealGame(anyInt(), anyInt())).thenAnswer(invocation -> new CardGameService.DealtGame(
+                "deck", "Jogador 1", players(invocation.getArgument(0))));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameHistory>> saved = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        gameBatchService.playGames(List.of(request(3, 2), request(1, 7)));
+
+        // Assert
+        verify(gamePersistenceService).saveGameHistories(saved.capture());
+        assertEquals(List.of(3, 1), saved.getValue().stream().map(GameHistory::getNumberOfPlayers).toList());
+        assertEquals(List.of(2, 7), saved.getValue().stream().map(GameHistory::getCardsPerPlayer).toList());
+    }
+
+    @Test
+    void playGames_ShouldRejectTheBatchWithoutDealing_WhenTheQueueIsFull() throws Exception {
+        // Arrange
+        // Um thread e espaço para dois jogos na fila; o primeiro lote ocupa o thread até ser liberado
+        GameBatchService smallPool = new GameBatchService(cardGameService, new InputValidator(),
+                gamePersistenceService, 1, 10, 2);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cardGameService.dealGame(anyInt(), anyInt())).thenAnswer(invocation -> {
+            running.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new CardGameService.DealtGame("deck", "Jogador 1", players(invocation.getArgument(0)));
+        });
+
+        try {
+            CompletableFuture<List<GameHistory>> firstBatch = CompletableFuture.supplyAsync(
+                    () -> smallPool.playGames(List.of(request(2, 5))));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            // Act
+            GameBatchRejectedException exception = assertThrows(GameBatchRejectedException.class,
+                    () -> smallPool.playGames(List.of(request(3, 5), request(4, 5), request(5, 5))));
+            release.countDown();
+
+            // Assert
+            assertEquals("Muitos jogos em andamento. Tente novamente mais tarde.", exception.getMessage());
+            assertEquals(1, firstBatch.get(5, TimeUnit.SECONDS).size());
+            // Os jogos do lote recusado que chegaram à fila são cancelados antes de obter um deck
+            verify(cardGameService, times(1)).dealGame(anyInt(), anyInt());
+            verify(gamePersistenceService, times(1)).saveGameHistories(anyList());
+        } finally {
+            release.countDown();
+            smallPool.shutdown();
+        }
+    }
+
+    private static GameRequestDTO request(int numPlayers, int cardsPerHand) {
+        GameRequestDTO request = new GameRequestDTO();
+        request.setNumPlayers(numPlayers);
+        request.setCardsPerHand(cardsPerHand);
+        return request;
+    }
+
+    private static List<Player> players(int numPlayers) {
+        List<Player> players = new ArrayList<>(numPlayers);
+        for (int i = 1; i <= numPlayers; i++) {
+            players.add(new Player("Jogador " + i, 10, Hand.of(CardCode.of("10", "HEARTS"))));
+        }
+        return players;
+    }
+
+}
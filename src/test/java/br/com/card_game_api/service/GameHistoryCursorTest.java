@@ -0,0 +1,33 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameHistoryCursorTest {
+
+    @Test
+    void decode_ShouldReturnThePositionThatWasEncoded() {
+        // Arrange
+        GameHistoryCursor cursor = new GameHistoryCursor(LocalDateTime.of(2026, 10, 18, 10, 30, 15, 123456000), 42L);
+
+        // Act
+        GameHistoryCursor decoded = GameHistoryCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor.getGameTimestamp(), decoded.getGameTimestamp());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void decode_ShouldThrowException_WhenTokenIsInvalid() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> GameHistoryCursor.decode("não é um cursor"));
+        assertThrows(InvalidCursorException.class, () -> GameHistoryCursor.decode("MjAyNi0xMC0xOA"));
+    }
+
+}
@@ -0,0 +1,123 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.repository.GameHistoryRepository;
+import br.com.card_game_api.repository.PlayerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Exporta, em um banco H2 em memória, jogos gravados nos dois modos de persistência.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class GameHistoryExportServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @Autowired
+    private GameHistoryRepository gameHistoryRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private GameHistoryExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        // Coluna de texto das versões anteriores, mantida pelas migrações do Flyway
+        new JdbcTemplate(dataSource).execute("ALTER TABLE players ADD COLUMN IF NOT EXISTS hand VARCHAR(1000)");
+        exportService = new GameHistoryExportService(dataSource, OBJECT_MAPPER, 2);
+
+        save(GamePersistenceService.NORMALIZED_MODE, "deck-1", List.of(
+                new Player("Jogador 1", 1, Hand.of(CardCode.of("ACE", "HEARTS"))),
+                new Player("Jogador 2", 13, Hand.of(CardCode.of("KING", "SPADES")))));
+        save(GamePersistenceService.DOCUMENT_MODE, "deck-2", List.of(
+                new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "CLUBS")))));
+        save(GamePersistenceService.NORMALIZED_MODE, "deck-3", List.of(
+                new Player("Jogador 1", 2, Hand.of(CardCode.of("2", "DIAMONDS")))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void export_ShouldWriteOneLinePerGame() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportService.export(output, false, Locale.ENGLISH);
+
+        // Assert
+        List<JsonNode> lines = lines(output);
+        assertEquals(3, exported);
+        assertEquals(List.of("deck-1", "deck-2", "deck-3"), lines.stream().map(line -> line.get("deckId").asText()).toList());
+        assertFalse(lines.get(0).has("players"));
+    }
+
+    @Test
+    void export_ShouldIncludePlayersOfBothStorageModes() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportService.export(output, true, Locale.ENGLISH);
+
+        // Assert
+        List<JsonNode> lines = lines(output);
+        assertEquals(3, exported);
+        assertEquals(2, lines.get(0).get("players").size());
+        assertEquals("King of Spades", lines.get(0).get("players").get(1).get("hand").asText());
+        assertEquals(13, lines.get(0).get("players").get(1).get("score").asInt());
+        assertEquals("10 of Clubs", lines.get(1).get("players").get(0).get("hand").asText());
+        assertEquals("2 of Diamonds", lines.get(2).get("players").get(0).get("hand").asText());
+    }
+
+    private void save(String mode, String deckId, List<Player> players) {
+        GamePersistenceService service = new GamePersistenceService(gameHistoryRepository, playerRepository, eventPublisher, mode);
+        service.saveGameHistory(players.size(), 1, deckId, "Jogador 1", players);
+    }
+
+    private static List<JsonNode> lines(ByteArrayOutputStream output) throws Exception {
+        String ndjson = output.toString(StandardCharsets.UTF_8);
+        assertEquals('\n', ndjson.charAt(ndjson.length() - 1));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(OBJECT_MAPPER.readTree(line));
+        }
+        return lines;
+    }
+
+}
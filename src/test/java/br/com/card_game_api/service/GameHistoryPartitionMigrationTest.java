@@ -0,0 +1,155 @@
+package br.com.card_game_api.service;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migração de {@code game_history} e {@code players} para partições mensais
+ * ({@code V20261018150000__partition_game_history_by_month.sql}) sobre dados gravados antes dela.
+ * <p>
+ * Executado apenas com a variável {@code CARD_GAME_MIGRATION_DB_URL} apontando para um banco PostgreSQL
+ * descartável (usuário e senha em {@code CARD_GAME_MIGRATION_DB_USER} e {@code CARD_GAME_MIGRATION_DB_PASSWORD}):
+ * cada teste apaga o banco, aplica as migrations até a anterior ao particionamento, grava jogos de três meses e
+ * aplica as demais.
+ */
+@EnabledIfEnvironmentVariable(named = "CARD_GAME_MIGRATION_DB_URL", matches = ".+")
+class GameHistoryPartitionMigrationTest {
+
+    private static final String LAST_UNPARTITIONED_VERSION = "20261018140000";
+    private static final int PLAYERS_PER_GAME = 4;
+
+    private static final String INSERT_LEGACY_GAME = """
+            INSERT INTO game_history (id, number_of_players, cards_per_player, deck_id, winner, highest_score,
+                                      game_timestamp, winners)
+            VALUES (?, ?, 5, ?, 'Jogador 1', 40, ?, ARRAY['Jogador 1'])""";
+    private static final String INSERT_LEGACY_PLAYER = """
+            INSERT INTO players (id, identifier, score, hand, hand_codes, game_history_id)
+            VALUES (?, ?, 30, NULL, '\\x00010203'::bytea, ?)""";
+
+    private final YearMonth currentMonth = YearMonth.now();
+    private final YearMonth oldestMonth = currentMonth.minusMonths(3);
+    private final YearMonth previousMonth = currentMonth.minusMonths(2);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                System.getenv("CARD_GAME_MIGRATION_DB_URL"),
+                System.getenv("CARD_GAME_MIGRATION_DB_USER"),
+                System.getenv("CARD_GAME_MIGRATION_DB_PASSWORD"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway legacy = Flyway.configure().dataSource(dataSource).cleanDisabled(false)
+                .target(LAST_UNPARTITIONED_VERSION).load();
+        legacy.clean();
+        legacy.migrate();
+
+        // Dois jogos em cada um dos dois meses antigos, três no mês corrente e um sem data
+        long id = 1;
+        id = insertLegacyGames(id, oldestMonth, 2);
+        id = insertLegacyGames(id, previousMonth, 2);
+        id = insertLegacyGames(id, currentMonth, 3);
+        insertLegacyGame(id, null);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @Test
+    void migration_ShouldKeepEveryGameAndPlayer() {
+        // Assert
+        assertEquals(8, count("SELECT count(*) FROM game_history"));
+        assertEquals(8 * PLAYERS_PER_GAME, count("SELECT count(*) FROM players"));
+        assertEquals(2, count("SELECT count(*) FROM " + partition("game_history", oldestMonth)));
+        assertEquals(2 * PLAYERS_PER_GAME, count("SELECT count(*) FROM " + partition("players", oldestMonth)));
+        // O jogo sem data recebe a data da migração e fica na partição do mês corrente
+        assertEquals(4, count("SELECT count(*) FROM " + partition("game_history", currentMonth)));
+        assertEquals(0, count("""
+                SELECT count(*)
+                FROM players p
+                JOIN game_history g ON g.id = p.game_history_id
+                WHERE p.game_timestamp <> g.game_timestamp"""));
+        assertEquals(8, count("SELECT sum(games) FROM game_stats_by_format"));
+    }
+
+    @Test
+    void migration_ShouldReferenceTheGameByIdAndTimestamp() {
+        // Arrange
+        String foreignKey = jdbcTemplate.queryForObject("""
+                SELECT pg_get_constraintdef(oid)
+                FROM pg_constraint
+                WHERE conname = 'fk_game_history' AND conrelid = 'players'::regclass""", String.class);
+        Timestamp otherMonth = Timestamp.valueOf(previousMonth.atDay(15).atTime(12, 0));
+
+        // Act & Assert
+        assertEquals("FOREIGN KEY (game_history_id, game_timestamp) REFERENCES game_history(id, game_timestamp) "
+                + "ON DELETE CASCADE", foreignKey);
+        // Jogador do jogo 5 (mês corrente) com a data de outro mês
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update("""
+                INSERT INTO players (id, identifier, score, hand_codes, game_history_id, game_timestamp)
+                VALUES (1000, 'Jogador 1', 30, '\\x00'::bytea, 5, ?)""", otherMonth));
+        jdbcTemplate.update("DELETE FROM game_history WHERE id = 5");
+        assertEquals(0, count("SELECT count(*) FROM players WHERE game_history_id = 5"));
+    }
+
+    @Test
+    void purgeExpiredPartitions_ShouldDetachAndDropMonthsWithPlayers() {
+        // Arrange
+        GameHistoryPartitionService detach = new GameHistoryPartitionService(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), true, 3, 2, GameHistoryPartitionService.DETACH_ACTION);
+        GameHistoryPartitionService drop = new GameHistoryPartitionService(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), true, 3, 1, GameHistoryPartitionService.DROP_ACTION);
+
+        // Act
+        List<YearMonth> detached = detach.purgeExpiredPartitions(currentMonth);
+        List<YearMonth> dropped = drop.purgeExpiredPartitions(currentMonth);
+
+        // Assert
+        assertEquals(List.of(oldestMonth), detached);
+        assertEquals(List.of(previousMonth), dropped);
+        assertEquals(4, count("SELECT count(*) FROM game_history"));
+        assertEquals(4 * PLAYERS_PER_GAME, count("SELECT count(*) FROM players"));
+        // O mês desanexado fica como tabelas avulsas, com os jogos e os jogadores
+        assertEquals(2, count("SELECT count(*) FROM " + partition("game_history", oldestMonth)));
+        assertEquals(2 * PLAYERS_PER_GAME, count("SELECT count(*) FROM " + partition("players", oldestMonth)));
+        assertEquals(0, count("SELECT count(*) FROM pg_class WHERE relname IN ('"
+                + partition("game_history", previousMonth) + "', '" + partition("players", previousMonth) + "')"));
+    }
+
+    private long insertLegacyGames(long firstId, YearMonth month, int games) {
+        long id = firstId;
+        for (int day = 1; day <= games; day++) {
+            insertLegacyGame(id++, Timestamp.valueOf(month.atDay(day).atTime(12, 0)));
+        }
+        return id;
+    }
+
+    private void insertLegacyGame(long id, Timestamp gameTimestamp) {
+        jdbcTemplate.update(INSERT_LEGACY_GAME, id, PLAYERS_PER_GAME, "deck-" + id, gameTimestamp);
+        for (int seat = 1; seat <= PLAYERS_PER_GAME; seat++) {
+            jdbcTemplate.update(INSERT_LEGACY_PLAYER, id * 10 + seat, "Jogador " + seat, id);
+        }
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static String partition(String table, YearMonth month) {
+        return GameHistoryPartitionService.partitionName(table, month);
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.com.card_game_api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameHistoryPartitionServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "game_history_p2025_08", "game_history_p2025_09", "game_history_p2025_10", "game_history_old"));
+    }
+
+    @Test
+    void createPartitions_ShouldCreateBothTablesForEachMonth() {
+        // Arrange
+        GameHistoryPartitionService service = service(0, "detach");
+
+        // Act
+        service.createPartitions(YearMonth.of(2026, 11), YearMonth.of(2027, 1));
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS game_history_p2026_11 PARTITION OF "
+                + "game_history FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS players_p2026_11 PARTITION OF "
+                + "players FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS game_history_p2026_12 PARTITION OF "
+                + "game_history FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS players_p2026_12 PARTITION OF "
+                + "players FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS game_history_p2027_01 PARTITION OF "
+                + "game_history FOR VALUES FROM ('2027-01-01') TO ('2027-02-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS players_p2027_01 PARTITION OF "
+                + "players FOR VALUES FROM ('2027-01-01') TO ('2027-02-01')");
+    }
+
+    @Test
+    void purgeExpiredPartitions_ShouldDetachMonthsBeforeTheRetentionPeriod() {
+        // Arrange
+        GameHistoryPartitionService service = service(12, "detach");
+
+        // Act
+        List<YearMonth> expired = service.purgeExpiredPartitions(YearMonth.of(2026, 10));
+
+        // Assert
+        assertEquals(List.of(YearMonth.of(2025, 8), YearMonth.of(2025, 9)), expired);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE players DETACH PARTITION players_p2025_08");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE players_p2025_08 DROP CONSTRAINT IF EXISTS fk_game_history");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE game_history DETACH PARTITION game_history_p2025_08");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE players DETACH PARTITION players_p2025_09");
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        verify(jdbcTemplate, never()).execute(contains("2025_10"));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void purgeExpiredPartitions_ShouldDropDetachedPartitions_WhenActionIsDrop() {
+        // Arrange
+        GameHistoryPartitionService service = service(13, "drop");
+
+        // Act
+        List<YearMonth> expired = service.purgeExpiredPartitions(YearMonth.of(2026, 10));
+
+        // Assert
+        assertEquals(List.of(YearMonth.of(2025, 8)), expired);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE game_history DETACH PARTITION game_history_p2025_08");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE players_p2025_08");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE game_history_p2025_08");
+    }
+
+    @Test
+    void purgeExpiredPartitions_ShouldKeepEverything_WhenRetentionIsZero() {
+        // Arrange
+        GameHistoryPartitionService service = service(0, "drop");
+
+        // Act
+        List<YearMonth> expired = service.purgeExpiredPartitions(YearMonth.of(2026, 10));
+
+        // Assert
+        assertTrue(expired.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void maintainPartitions_ShouldDoNothing_WhenDatabaseIsNotPostgres() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        GameHistoryPartitionService service = service(12, "drop");
+
+        // Act
+        service.maintainPartitions();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void constructor_ShouldRejectUnknownRetentionAction() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> service(12, "delete"));
+
+        assertEquals("Ação de retenção inválida: delete. Valores aceitos: detach, drop", exception.getMessage());
+    }
+
+    private GameHistoryPartitionService service(int retentionMonths, String retentionAction) {
+        return new GameHistoryPartitionService(jdbcTemplate, transactionManager, true, 3, retentionMonths,
+                retentionAction);
+    }
+
+}
@@ -0,0 +1,181 @@
+package br.com.card_game_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Planos das consultas da listagem do histórico em um PostgreSQL com alguns milhões de jogos.
+ * <p>
+ * Executado apenas com a variável {@code CARD_GAME_EXPLAIN_DB_URL} apontando para um banco descartável
+ * (usuário e senha em {@code CARD_GAME_EXPLAIN_DB_USER} e {@code CARD_GAME_EXPLAIN_DB_PASSWORD}). As migrations
+ * são aplicadas, as partições do último ano são criadas e, se a tabela estiver vazia ou tiver outros dados,
+ * {@value #SEEDED_GAMES} jogos são gerados; a primeira execução demora alguns minutos, as seguintes reaproveitam
+ * os dados.
+ * <p>
+ * Os filtros seletivos (vencedor raro, pontuação mínima e deck) precisam usar o próprio índice; apenas o filtro
+ * por um vencedor comum pode percorrer o índice da ordenação.
+ * <p>
+ * As consultas reproduzem o SQL gerado por {@link GameHistorySpecifications} para a primeira página.
+ */
+@EnabledIfEnvironmentVariable(named = "CARD_GAME_EXPLAIN_DB_URL", matches = ".+")
+class GameHistoryQueryPlanTest {
+
+    private static final int SEEDED_GAMES = 3_000_000;
+    private static final double MAX_EXECUTION_MILLIS = 10.0;
+    private static final int PAGE_ROWS = GamePersistenceService.DEFAULT_PAGE_SIZE + 1;
+
+    private static final String SELECT_PAGE = """
+            SELECT g.id, g.number_of_players, g.cards_per_player, g.deck_id, g.winner, g.highest_score,
+                   g.game_timestamp
+            FROM game_history g
+            WHERE %s
+            ORDER BY g.game_timestamp DESC, g.id DESC
+            FETCH FIRST %d ROWS ONLY""";
+
+    // Jogos de 4 jogadores com 5 cartas (pontuação de 5 a 65) distribuídos pelo último ano. Cada vencedor comum
+    // ganha 0,1% dos jogos e 1% termina empatado; os filtros seletivos têm valores raros, com 30 jogos cada: o
+    // vencedor RARE_WINNER e a pontuação RARE_SCORE. Cada baralho tem 4 jogos
+    private static final String SEED = """
+            INSERT INTO game_history (id, number_of_players, cards_per_player, deck_id, winner, winners,
+                                      highest_score, game_timestamp)
+            SELECT i, 4, 5, 'deck-' || (i / 4),
+                   CASE WHEN i %% 100000 = 0 THEN '%s'
+                        WHEN i %% 100 = 0 THEN 'Jogador 1, Jogador 2' ELSE 'Jogador ' || (1 + i %% 1000) END,
+                   CASE WHEN i %% 100000 = 0 THEN ARRAY['%s']
+                        WHEN i %% 100 = 0 THEN ARRAY['Jogador 1', 'Jogador 2']
+                        ELSE ARRAY['Jogador ' || (1 + i %% 1000)] END,
+                   CASE WHEN i %% 100000 = 50 THEN %d ELSE 5 + (random() * 60)::int END,
+                   now() - interval '365 days' + (i * interval '365 days' / %d)
+            FROM generate_series(1, %d) AS i""";
+    private static final String RARE_WINNER = "Jogador 1001";
+    private static final int RARE_SCORE = 999;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @BeforeAll
+    static void seed() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("CARD_GAME_EXPLAIN_DB_URL"),
+                System.getenv("CARD_GAME_EXPLAIN_DB_USER"),
+                System.getenv("CARD_GAME_EXPLAIN_DB_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new GameHistoryPartitionService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                true, 3, 0, GameHistoryPartitionService.DETACH_ACTION)
+                .createPartitions(YearMonth.now().minusMonths(13), YearMonth.now());
+
+        Long games = jdbcTemplate.queryForObject("SELECT count(*) FROM game_history", Long.class);
+        // Refaz a carga quando os dados vieram de outra versão da carga
+        Long rareGames = jdbcTemplate.queryForObject("SELECT count(*) FROM game_history WHERE highest_score > 65",
+                Long.class);
+        if (games == null || games < SEEDED_GAMES || rareGames == null || rareGames != SEEDED_GAMES / 100_000) {
+            jdbcTemplate.execute("TRUNCATE game_history CASCADE");
+            jdbcTemplate.execute(SEED.formatted(RARE_WINNER, RARE_WINNER, RARE_SCORE, SEEDED_GAMES, SEEDED_GAMES));
+            jdbcTemplate.execute("SELECT setval('game_history_seq', " + (SEEDED_GAMES + 1) + ", false)");
+        }
+        // O VACUUM também esvazia a lista pendente dos índices GIN, como o autovacuum faria depois da carga
+        jdbcTemplate.execute("VACUUM ANALYZE game_history");
+    }
+
+    @Test
+    void winnerFilter_ShouldUseTheWinnersIndexOrTheTimestampIndex() {
+        // Cerca de 1% dos jogos: percorrer o índice da ordenação até completar a página também é rápido
+        assertFastIndexScan("g.winners @> ARRAY['Jogador 2']::varchar[]", "idx_game_history_winners", true);
+    }
+
+    @Test
+    void rareWinnerFilter_ShouldUseTheWinnersIndex() {
+        assertFastIndexScan("g.winners @> ARRAY['" + RARE_WINNER + "']::varchar[]", "idx_game_history_winners", false);
+    }
+
+    @Test
+    void timeRangeFilter_ShouldUseTheTimestampIndex() {
+        assertFastIndexScan(
+                "g.game_timestamp >= now() - interval '30 days' AND g.game_timestamp < now() - interval '29 days'",
+                "idx_game_history_timestamp_id", false);
+    }
+
+    @Test
+    void minScoreFilter_ShouldUseTheScoreIndex() {
+        assertFastIndexScan("g.highest_score >= " + RARE_SCORE, "idx_game_history_highest_score", false);
+    }
+
+    @Test
+    void deckFilter_ShouldUseTheDeckIndex() {
+        assertFastIndexScan("g.deck_id = 'deck-123456'", "idx_game_history_deck_id", false);
+    }
+
+    /**
+     * Executa o EXPLAIN ANALYZE da consulta e verifica que nenhuma partição com jogos é lida por inteiro, que o
+     * índice esperado foi usado e que a execução ficou abaixo de {@value #MAX_EXECUTION_MILLIS} ms. Com
+     * {@code orderIndexAccepted}, o índice da ordenação também é aceito, para filtros pouco seletivos em que o
+     * planejador pode preferi-lo.
+     */
+    private static void assertFastIndexScan(String condition, String expectedIndex, boolean orderIndexAccepted) {
+        // A primeira execução carrega as páginas no cache, como acontece com as consultas frequentes da API
+        jdbcTemplate.queryForList(SELECT_PAGE.formatted(condition, PAGE_ROWS));
+        String json = jdbcTemplate.queryForObject(
+                "EXPLAIN (ANALYZE, FORMAT JSON) " + SELECT_PAGE.formatted(condition, PAGE_ROWS), String.class);
+        JsonNode explain = readExplain(json);
+        List<JsonNode> nodes = new ArrayList<>();
+        collectNodes(explain.get("Plan"), nodes);
+
+        String plan = explain.toPrettyString();
+        // Partições vazias (os meses à frente) podem ser lidas sequencialmente sem custo
+        assertTrue(nodes.stream().noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && node.path("Actual Rows").asLong() + node.path("Rows Removed by Filter").asLong() > 0),
+                () -> "Leitura sequencial de uma partição:\n" + plan);
+        Set<String> acceptedIndexes = new HashSet<>(indexWithPartitions(expectedIndex));
+        if (orderIndexAccepted) {
+            acceptedIndexes.addAll(indexWithPartitions("idx_game_history_timestamp_id"));
+        }
+        assertTrue(nodes.stream().map(node -> node.path("Index Name").asText(null)).anyMatch(acceptedIndexes::contains),
+                () -> "Índice " + expectedIndex + " não usado:\n" + plan);
+        double executionMillis = explain.get("Execution Time").asDouble();
+        assertTrue(executionMillis < MAX_EXECUTION_MILLIS,
+                () -> "Execução em " + executionMillis + " ms:\n" + plan);
+    }
+
+    // O índice criado na tabela particionada tem um índice correspondente, com outro nome, em cada partição
+    private static List<String> indexWithPartitions(String index) {
+        List<String> names = new ArrayList<>(jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = ?::regclass""", String.class, index));
+        names.add(index);
+        return names;
+    }
+
+    private static JsonNode readExplain(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json).get(0);
+        } catch (Exception e) {
+            throw new IllegalStateException("EXPLAIN inválido: " + json, e);
+        }
+    }
+
+    private static void collectNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collectNodes(child, nodes);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.exception.GameNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameHistoryResponseCacheTest {
+
+    // Mesma configuração de datas do ObjectMapper do Spring Boot
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private GamePersistenceService gamePersistenceService;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        gamePersistenceService = mock(GamePersistenceService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void getGameHistoryJson_ShouldReadTheDatabaseOnlyOnTheFirstRequest() throws Exception {
+        // Arrange
+        GameHistoryResponseCache cache = cache(true, DataSize.ofMegabytes(1));
+        when(gamePersistenceService.getGameHistoryById(1L)).thenReturn(gameHistory(1L));
+
+        // Act
+        byte[] first = cache.getGameHistoryJson(1L);
+        byte[] second = cache.getGameHistoryJson(1L);
+
+        // Assert
+        assertSame(first, second);
+        JsonNode json = objectMapper.readTree(first);
+        assertEquals(1, json.get("id").asInt());
+        assertEquals("Jogador 1, Jogador 2", json.get("winner").asText());
+        assertEquals("2026-10-18T10:15:30.123456", json.get("gameTimestamp").asText());
+        assertFalse(json.has("players"));
+        verify(gamePersistenceService, times(1)).getGameHistoryById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "game.history", "result", "hit")
+                .functionCounter().count());
+        assertEquals(0.5, meterRegistry.get("game.history.cache.hit-ratio").gauge().value());
+    }
+
+    @Test
+    void onGameHistorySaved_ShouldServeSavedGamesWithoutReadingTheDatabase() throws Exception {
+        // Arrange
+        GameHistoryResponseCache cache = cache(true, DataSize.ofMegabytes(1));
+        GameHistory queued = gameHistory(null);
+
+        // Act
+        cache.onGameHistorySaved(new GameHistorySavedEvent(List.of(gameHistory(7L), queued)));
+        byte[] json = cache.getGameHistoryJson(7L);
+
+        // Assert
+        assertEquals(7, objectMapper.readTree(json).get("id").asInt());
+        verifyNoInteractions(gamePersistenceService);
+    }
+
+    @Test
+    void getGameHistoryJson_ShouldNotCacheMissingGames() {
+        // Arrange
+        GameHistoryResponseCache cache = cache(true, DataSize.ofMegabytes(1));
+        when(gamePersistenceService.getGameHistoryById(9L)).thenThrow(new GameNotFoundException("Jogo com ID 9 não encontrado."));
+
+        // Act & Assert
+        assertThrows(GameNotFoundException.class, () -> cache.getGameHistoryJson(9L));
+        assertThrows(GameNotFoundException.class, () -> cache.getGameHistoryJson(9L));
+        verify(gamePersistenceService, times(2)).getGameHistoryById(9L);
+    }
+
+    @Test
+    void onGameHistorySaved_ShouldEvictGames_WhenTheCacheExceedsItsSize() {
+        // Arrange
+        GameHistoryResponseCache cache = cache(true, DataSize.ofBytes(1000));
+        List<GameHistory> games = List.of(gameHistory(1L), gameHistory(2L), gameHistory(3L), gameHistory(4L),
+                gameHistory(5L), gameHistory(6L), gameHistory(7L), gameHistory(8L), gameHistory(9L));
+
+        // Act
+        cache.onGameHistorySaved(new GameHistorySavedEvent(games));
+
+        // Assert
+        assertTrue(meterRegistry.get("cache.evictions").tag("cache", "game.history").functionCounter().count() > 0,
+                "jogos que passam do limite de bytes devem ser removidos");
+        assertTrue(meterRegistry.get("cache.size").tag("cache", "game.history").gauge().value() < games.size());
+    }
+
+    @Test
+    void getGameHistoryJson_ShouldReadTheDatabaseEveryTime_WhenDisabled() {
+        // Arrange
+        GameHistoryResponseCache cache = cache(false, DataSize.ofMegabytes(1));
+        when(gamePersistenceService.getGameHistoryById(1L)).thenReturn(gameHistory(1L));
+
+        // Act
+        cache.onGameHistorySaved(new GameHistorySavedEvent(List.of(gameHistory(1L))));
+        cache.getGameHistoryJson(1L);
+        cache.getGameHistoryJson(1L);
+
+        // Assert
+        verify(gamePersistenceService, times(2)).getGameHistoryById(1L);
+        assertNull(meterRegistry.find("cache.gets").meter());
+    }
+
+    private GameHistoryResponseCache cache(boolean enabled, DataSize maxSize) {
+        return new GameHistoryResponseCache(gamePersistenceService, objectMapper, meterRegistry, enabled,
+                maxSize);
+    }
+
+    private static GameHistory gameHistory(Long id) {
+        GameHistory gameHistory = new GameHistory(4, 5, "deck123", "Jogador 1, Jogador 2", 30,
+                LocalDateTime.of(2026, 10, 18, 10, 15, 30, 123_456_000));
+        gameHistory.setId(id);
+        return gameHistory;
+    }
+
+}
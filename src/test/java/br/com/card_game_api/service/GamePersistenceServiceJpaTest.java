@@ -0,0 +1,382 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.HandFormatter;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.GameHistoryDTO;
+import br.com.card_game_api.dto.GameHistoryMapper;
+import br.com.card_game_api.repository.GameHistoryRepository;
+import br.com.card_game_api.repository.PlayerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica, em um banco H2 em memória, quantos comandos SQL a gravação de um jogo envia ao banco.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.card_game_api.service.GamePersistenceServiceJpaTest$SqlRecorder"
+})
+@Import(GamePersistenceService.class)
+class GamePersistenceServiceJpaTest {
+
+    @Autowired
+    private GamePersistenceService gamePersistenceService;
+
+    @Autowired
+    private GameHistoryRepository gameHistoryRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void saveGameHistory_ShouldInsertAllPlayersOfAGameInASingleBatch() {
+        // Arrange
+        List<Player> players = buildPlayers(100);
+
+        // Act
+        gamePersistenceService.saveGameHistory(100, 5, "deck123", "Jogador 1", players);
+        entityManager.flush();
+
+        // Assert
+        // 1 INSERT do jogo e 1 lote com os 100 jogadores, além de no máximo 1 chamada a cada sequence
+        assertEquals(2, insertStatements());
+        assertTrue(statistics.getPrepareStatementCount() <= 4);
+        assertEquals(101, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void saveGameHistory_ShouldReuseReservedIdsForFollowingGames() {
+        // Arrange
+        gamePersistenceService.saveGameHistory(2, 5, "deck123", "Jogador 1", buildPlayers(2));
+        entityManager.flush();
+        statistics.clear();
+        SqlRecorder.STATEMENTS.clear();
+
+        // Act
+        GameHistory gameHistory = gamePersistenceService.saveGameHistory(3, 5, "deck456", "Jogador 2", buildPlayers(3));
+        entityManager.flush();
+
+        // Assert
+        // Os ids já reservados nas sequences atendem o segundo jogo: restam apenas os dois INSERTs
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, insertStatements());
+        assertEquals(4, statistics.getEntityInsertCount());
+        assertEquals(3, entityManager.createQuery(
+                        "select count(p) from Player p where p.gameHistory.id = :id", Long.class)
+                .setParameter("id", gameHistory.getId())
+                .getSingleResult());
+    }
+
+    @Test
+    void saveGameHistory_ShouldCopyTheGameTimestampToThePlayersPartitionKey() {
+        // Act
+        GameHistory gameHistory = gamePersistenceService.saveGameHistory(2, 5, "deck123", "Jogador 1", buildPlayers(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        LocalDateTime gameTimestamp = entityManager.find(GameHistory.class, gameHistory.getId()).getGameTimestamp();
+        List<LocalDateTime> timestamps = entityManager.createQuery(
+                        "select p.gameTimestamp from Player p where p.gameHistory.id = :id", LocalDateTime.class)
+                .setParameter("id", gameHistory.getId())
+                .getResultList();
+        assertEquals(List.of(gameTimestamp, gameTimestamp), timestamps);
+    }
+
+    @Test
+    void saveGameHistories_ShouldInsertAllGamesAndPlayersOfTheBatchTogether() {
+        // Arrange
+        List<GameHistory> gameHistories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            gameHistories.add(gamePersistenceService.buildGameHistory(5, 1, "deck" + i, "Jogador 5", buildPlayers(5)));
+        }
+
+        // Act
+        gamePersistenceService.saveGameHistories(gameHistories);
+        entityManager.flush();
+
+        // Assert
+        // 1 lote com os 10 jogos e 1 lote com os 50 jogadores
+        assertEquals(2, insertStatements());
+        assertEquals(60, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void saveGameHistory_ShouldWriteASingleRow_WhenDocumentModeIsEnabled() {
+        // Arrange
+        GamePersistenceService documentPersistenceService = new GamePersistenceService(
+                gameHistoryRepository, playerRepository, eventPublisher, GamePersistenceService.DOCUMENT_MODE);
+        List<Player> players = buildPlayers(100);
+
+        // Act
+        GameHistory gameHistory = documentPersistenceService.saveGameHistory(100, 1, "deck123", "Jogador 100", players);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, insertStatements());
+        assertEquals(1, statistics.getEntityInsertCount());
+
+        GameHistory loaded = gamePersistenceService.getGameHistoryById(gameHistory.getId());
+        assertEquals(100, loaded.getPlayers().size());
+        assertEquals("Jogador 100", loaded.getPlayers().get(99).getIdentifier());
+        assertEquals(100, loaded.getPlayers().get(99).getScore());
+        assertEquals(Hand.of(CardCode.of("ACE", "HEARTS")), loaded.getPlayers().get(99).getHand());
+        assertEquals(0, playerRepository.count());
+    }
+
+    @Test
+    void getGameHistoryPage_ShouldWalkThroughAllGamesWithoutOffset() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        List<GameHistory> gameHistories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            GameHistory gameHistory = gamePersistenceService.buildGameHistory(1, 1, "deck" + i, "Jogador 1", buildPlayers(1));
+            // Dois jogos no mesmo instante, para exercitar o desempate pelo id
+            gameHistory.setGameTimestamp(start.plusMinutes(Math.min(i, 3)));
+            gameHistories.add(gameHistory);
+        }
+        gamePersistenceService.saveGameHistories(gameHistories);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        SqlRecorder.STATEMENTS.clear();
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            GameHistoryPage page = gamePersistenceService.getGameHistoryPage(GameHistoryFilter.none(), cursor, 2);
+            page.getItems().forEach(gameHistory -> ids.add(gameHistory.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        List<Long> expected = gameHistories.stream()
+                .sorted(Comparator.comparing(GameHistory::getGameTimestamp).thenComparing(GameHistory::getId).reversed())
+                .map(GameHistory::getId)
+                .toList();
+        assertEquals(expected, ids);
+        assertEquals(3, pages);
+        // Projeção: nenhuma entidade é criada para listar os jogos
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(SqlRecorder.STATEMENTS.stream().noneMatch(sql -> sql.toLowerCase().contains("offset")));
+        assertTrue(SqlRecorder.STATEMENTS.stream().allMatch(sql -> sql.toLowerCase().contains("fetch first")));
+    }
+
+    @Test
+    void getGameHistoryPage_ShouldApplyThePeriodFilter() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        List<GameHistory> gameHistories = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            GameHistory gameHistory = gamePersistenceService.buildGameHistory(1, 1, "deck" + i, "Jogador 1", buildPlayers(1));
+            gameHistory.setGameTimestamp(start.plusDays(i));
+            gameHistories.add(gameHistory);
+        }
+        gamePersistenceService.saveGameHistories(gameHistories);
+        entityManager.flush();
+
+        // Act
+        GameHistoryPage page = gamePersistenceService.getGameHistoryPage(
+                new GameHistoryFilter(start.plusDays(1), start.plusDays(3)), null, 10);
+
+        // Assert
+        assertEquals(List.of("deck2", "deck1"), page.getItems().stream().map(GameHistoryDTO::getDeckId).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getGameHistoryPage_ShouldFilterByWinnerIncludingTies() {
+        // Arrange
+        saveGame("deck-a", "Jogador 1", 20);
+        saveGame("deck-b", "Jogador 2", 30);
+        saveGame("deck-c", "Jogador 1, Jogador 3", 25);
+        saveGame("deck-d", "Jogador 10", 40);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        GameHistoryPage page = gamePersistenceService.getGameHistoryPage(
+                new GameHistoryFilter(null, null, "Jogador 1", null, null), null, 10);
+
+        // Assert
+        assertEquals(List.of("deck-a", "deck-c"),
+                page.getItems().stream().map(GameHistoryDTO::getDeckId).sorted().toList());
+    }
+
+    @Test
+    void getGameHistoryPage_ShouldFilterByMinimumScoreAndDeck() {
+        // Arrange
+        saveGame("deck-a", "Jogador 1", 20);
+        saveGame("deck-b", "Jogador 2", 30);
+        saveGame("deck-b", "Jogador 1", 35);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        GameHistoryPage byScore = gamePersistenceService.getGameHistoryPage(
+                new GameHistoryFilter(null, null, null, 30, null), null, 10);
+        GameHistoryPage byDeckAndScore = gamePersistenceService.getGameHistoryPage(
+                new GameHistoryFilter(null, null, null, 31, "deck-b"), null, 10);
+
+        // Assert
+        assertEquals(List.of(30, 35),
+                byScore.getItems().stream().map(GameHistoryDTO::getHighestScore).sorted().toList());
+        assertEquals(1, byDeckAndScore.getItems().size());
+        assertEquals(35, byDeckAndScore.getItems().get(0).getHighestScore());
+    }
+
+    @Test
+    void getGameHistoryWithPlayers_ShouldUseASingleStatement_RegardlessOfThePlayerCount() {
+        for (int playerCount : new int[]{2, 20}) {
+            // Arrange
+            GameHistory saved = gamePersistenceService.saveGameHistory(playerCount, 5, "deck123", "Jogador 1",
+                    buildPlayers(playerCount));
+            entityManager.flush();
+            entityManager.clear();
+            SqlRecorder.STATEMENTS.clear();
+
+            // Act
+            GameHistory gameHistory = gamePersistenceService.getGameHistoryWithPlayers(saved.getId());
+
+            // Assert
+            assertEquals(playerCount, gameHistory.getPlayers().size());
+            assertEquals("Jogador " + playerCount, gameHistory.getPlayers().get(playerCount - 1).getIdentifier());
+            assertEquals(1, SqlRecorder.STATEMENTS.size(), "os jogadores não devem ser carregados sob demanda");
+        }
+    }
+
+    @Test
+    void getGameHistoryWithPlayers_ShouldReturnTheLegacyText_WhenTheHandWasNotConverted() {
+        // Arrange
+        GameHistory saved = gamePersistenceService.saveGameHistory(2, 1, "deck123", "Jogador 1", buildPlayers(2));
+        entityManager.flush();
+        // Linha gravada por uma versão anterior, ainda sem os códigos das cartas
+        entityManager.createNativeQuery("UPDATE players SET hand_codes = NULL, hand = 'Ás de Copas' "
+                + "WHERE identifier = 'Jogador 2'").executeUpdate();
+        entityManager.clear();
+
+        // Act
+        GameHistory gameHistory = gamePersistenceService.getGameHistoryWithPlayers(saved.getId());
+        GameHistoryDTO gameHistoryDTO = GameHistoryMapper.toDTO(gameHistory, Locale.ENGLISH);
+
+        // Assert
+        assertNull(gameHistory.getPlayers().get(1).getHand());
+        assertNull(gameHistory.getPlayers().get(0).getLegacyHand());
+        assertEquals("Ás de Copas", gameHistoryDTO.getPlayers().get(1).getHand());
+        assertEquals(HandFormatter.format(gameHistory.getPlayers().get(0).getHand(), Locale.ENGLISH),
+                gameHistoryDTO.getPlayers().get(0).getHand());
+    }
+
+    @Test
+    void getGameHistoriesWithPlayers_ShouldUseTwoStatementsPerPage_RegardlessOfPageSizeAndPlayerCount() {
+        for (int size : new int[]{2, 10}) {
+            // Arrange
+            List<GameHistory> gameHistories = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                gameHistories.add(gamePersistenceService.buildGameHistory(size, 1, "deck" + i, "Jogador 1",
+                        buildPlayers(size)));
+            }
+            gamePersistenceService.saveGameHistories(gameHistories);
+            entityManager.flush();
+            entityManager.clear();
+            SqlRecorder.STATEMENTS.clear();
+
+            // Act
+            GameHistoryPage page = gamePersistenceService.getGameHistoryPage(GameHistoryFilter.none(), null, size);
+            List<Long> ids = page.getItems().stream().map(GameHistoryDTO::getId).toList();
+            List<GameHistory> withPlayers = gamePersistenceService.getGameHistoriesWithPlayers(ids);
+            int playerCount = withPlayers.stream().mapToInt(gameHistory -> gameHistory.getPlayers().size()).sum();
+
+            // Assert
+            // 1 consulta da página e 1 consulta dos jogos da página com os jogadores
+            assertEquals(2, SqlRecorder.STATEMENTS.size(), () -> String.join("\n", SqlRecorder.STATEMENTS));
+            assertEquals(ids, withPlayers.stream().map(GameHistory::getId).toList());
+            assertEquals(size * size, playerCount);
+        }
+    }
+
+    private void saveGame(String deckId, String winner, int highestScore) {
+        List<Player> players = List.of(new Player("Jogador 1", highestScore, Hand.of(CardCode.of("ACE", "HEARTS"))));
+        GameHistory gameHistory = gamePersistenceService.buildGameHistory(1, 1, deckId, winner, players);
+        gameHistory.setHighestScore(highestScore);
+        gamePersistenceService.saveGameHistories(List.of(gameHistory));
+    }
+
+    private static long insertStatements() {
+        return SqlRecorder.STATEMENTS.stream()
+                .filter(sql -> sql.regionMatches(true, 0, "insert", 0, 6))
+                .count();
+    }
+
+    private static List<Player> buildPlayers(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            players.add(new Player("Jogador " + i, i, Hand.of(CardCode.of("ACE", "HEARTS"))));
+        }
+        return players;
+    }
+
+    /**
+     * Registra cada comando SQL preparado pelo Hibernate. Com os INSERTs em lote, cada lote é preparado uma única vez.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+}
@@ -1,15 +1,19 @@
 package br.com.card_game_api.service;
 
+import br.com.card_game_api.domain.CardCode;
 import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
 import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.GameHistoryDTO;
 import br.com.card_game_api.exception.GameNotFoundException;
 import br.com.card_game_api.repository.GameHistoryRepository;
 import br.com.card_game_api.repository.PlayerRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,12 +30,16 @@ class GamePersistenceServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private GamePersistenceService gamePersistenceService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        gamePersistenceService = new GamePersistenceService(
+                gameHistoryRepository, playerRepository, eventPublisher, GamePersistenceService.NORMALIZED_MODE);
     }
 
     @Test
@@ -43,8 +51,8 @@ class GamePersistenceServiceTest {
         String winner = "Player 1";
 
         List<Player> mockPlayers = List.of(
-                new Player("Jogador 1", 10, "10 de Copas"),
-                new Player("Jogador 2", 8, "8 de Espadas")
+                new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "HEARTS"))),
+                new Player("Jogador 2", 8, Hand.of(CardCode.of("8", "SPADES")))
         );
 
         GameHistory gameHistory = new GameHistory(
@@ -67,6 +75,42 @@ class GamePersistenceServiceTest {
 
         verify(gameHistoryRepository).save(any(GameHistory.class));
         verify(playerRepository).saveAll(mockPlayers);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof GameHistorySavedEvent saved
+                && saved.getGameHistories().equals(List.of(gameHistory))));
+    }
+
+    @Test
+    void saveGameHistory_ShouldEmbedPlayersInTheGameRow_WhenDocumentModeIsEnabled() {
+        // Arrange
+        GamePersistenceService documentPersistenceService = new GamePersistenceService(
+                gameHistoryRepository, playerRepository, eventPublisher, GamePersistenceService.DOCUMENT_MODE);
+        List<Player> players = List.of(
+                new Player("Jogador 1", 10, Hand.of(CardCode.of("10", "HEARTS"))),
+                new Player("Jogador 2", 8, Hand.of(CardCode.of("8", "SPADES")))
+        );
+        when(gameHistoryRepository.save(any(GameHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        GameHistory savedGameHistory = documentPersistenceService.saveGameHistory(2, 1, "deck123", "Jogador 1", players);
+
+        // Assert
+        assertTrue(savedGameHistory.hasEmbeddedPlayers());
+        assertEquals(10, savedGameHistory.getHighestScore());
+        assertEquals(2, savedGameHistory.getPlayers().size());
+        assertEquals("Jogador 2", savedGameHistory.getPlayers().get(1).getIdentifier());
+        assertEquals(Hand.of(CardCode.of("8", "SPADES")), savedGameHistory.getPlayers().get(1).getHand());
+        // Os jogadores do documento são reconstruídos uma única vez e não podem ser alterados pela lista
+        assertSame(savedGameHistory.getPlayers(), savedGameHistory.getPlayers());
+        assertThrows(UnsupportedOperationException.class, () -> savedGameHistory.getPlayers().add(players.get(0)));
+        verify(gameHistoryRepository).save(savedGameHistory);
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenModeIsInvalid() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> new GamePersistenceService(gameHistoryRepository, playerRepository, eventPublisher, "wide"));
     }
 
     @Test
@@ -97,17 +141,37 @@ class GamePersistenceServiceTest {
     }
 
     @Test
-    void getAllGameHistory_ShouldReturnGamesHistoriesWhenFound() {
+    void getGameHistoryPage_ShouldReturnNextCursor_WhenThereAreMoreGames() {
         // Arrange
-        List<GameHistory> gameHistory = List.of(new GameHistory());
-        when(gameHistoryRepository.findAll()).thenReturn(gameHistory);
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 10, 0);
+        List<GameHistoryDTO> rows = List.of(gameAt(3L, now), gameAt(2L, now), gameAt(1L, now.minusMinutes(1)));
+        when(gameHistoryRepository.findSummaries(any(Specification.class), eq(GameHistorySpecifications.NEWEST_FIRST), eq(3)))
+                .thenReturn(rows);
 
         // Act
-        List<GameHistory> result = gamePersistenceService.getAllGameHistories();
+        GameHistoryPage page = gamePersistenceService.getGameHistoryPage(GameHistoryFilter.none(), null, 2);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(gameHistory, result);
+        assertEquals(rows.subList(0, 2), page.getItems());
+        assertEquals(new GameHistoryCursor(now, 2L).encode(), page.getNextCursor());
+    }
+
+    @Test
+    void getGameHistoryPage_ShouldNotReturnNextCursor_OnTheLastPage() {
+        // Arrange
+        List<GameHistoryDTO> rows = List.of(gameAt(1L, LocalDateTime.now()));
+        when(gameHistoryRepository.findSummaries(any(Specification.class), any(), eq(3))).thenReturn(rows);
+
+        // Act
+        GameHistoryPage page = gamePersistenceService.getGameHistoryPage(GameHistoryFilter.none(), null, 2);
+
+        // Assert
+        assertEquals(rows, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    private static GameHistoryDTO gameAt(Long id, LocalDateTime gameTimestamp) {
+        return new GameHistoryDTO(id, 2, 5, "deck123", "Jogador 1", 10, gameTimestamp);
     }
 
 }
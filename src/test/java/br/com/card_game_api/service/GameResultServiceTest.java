@@ -1,5 +1,7 @@
 package br.com.card_game_api.service;
 
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.Hand;
 import br.com.card_game_api.domain.Player;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,9 +22,9 @@ class GameResultServiceTest {
     void determineWinner_ShouldReturnSingleWinnerWhenNoTie() {
         // Arrange
         List<Player> players = List.of(
-                new Player("Player 1", 15, "ACE of Spades"),
-                new Player("Player 2", 20, "KING of Hearts"),
-                new Player("Player 3", 10, "2 of Clubs")
+                new Player("Player 1", 15, Hand.of(CardCode.of("ACE", "SPADES"))),
+                new Player("Player 2", 20, Hand.of(CardCode.of("KING", "HEARTS"))),
+                new Player("Player 3", 10, Hand.of(CardCode.of("2", "CLUBS")))
         );
 
         // Act
@@ -36,9 +38,9 @@ class GameResultServiceTest {
     void determineWinner_ShouldReturnMultipleWinnersInCaseOfTie() {
         // Arrange
         List<Player> players = List.of(
-                new Player("Player 1", 20, "QUEEN of Diamonds"),
-                new Player("Player 2", 20, "JACK of Hearts"),
-                new Player("Player 3", 10, "7 of Spades")
+                new Player("Player 1", 20, Hand.of(CardCode.of("QUEEN", "DIAMONDS"))),
+                new Player("Player 2", 20, Hand.of(CardCode.of("JACK", "HEARTS"))),
+                new Player("Player 3", 10, Hand.of(CardCode.of("7", "SPADES")))
         );
 
         // Act
@@ -64,7 +66,7 @@ class GameResultServiceTest {
     void determineWinner_ShouldHandleSinglePlayerCorrectly() {
         // Arrange
         List<Player> players = List.of(
-                new Player("Player 1", 30, "10 of Hearts")
+                new Player("Player 1", 30, Hand.of(CardCode.of("10", "HEARTS")))
         );
 
         // Act
@@ -74,4 +76,19 @@ class GameResultServiceTest {
         assertEquals("Player 1", result);
     }
 
+    @Test
+    void determineWinners_ShouldReturnEverySeatWithTheHighestScore() {
+        // Arrange
+        int[] scores = {20, 35, 12, 35};
+        int[] winningSeats = new int[scores.length];
+
+        // Act
+        int winners = gameResultService.determineWinners(scores, scores.length, winningSeats);
+
+        // Assert
+        assertEquals(2, winners);
+        assertEquals(1, winningSeats[0]);
+        assertEquals(3, winningSeats[1]);
+    }
+
 }
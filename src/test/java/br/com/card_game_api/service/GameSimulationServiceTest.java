@@ -0,0 +1,94 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.dto.SimulationResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulationServiceTest {
+
+    private final List<GameSimulationService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(GameSimulationService::shutdown);
+    }
+
+    @Test
+    void simulate_ShouldAggregateEveryHandAndGame() {
+        // Arrange
+        GameSimulationService service = service(2);
+
+        // Act
+        SimulationResultDTO result = service.simulate(4, 5, 20_000, 42L);
+
+        // Assert
+        assertEquals(20_000, result.getGames());
+        assertEquals(80_000, result.getScoreHistogram().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(result.getScoreHistogram().firstKey() >= 5);
+        assertTrue(result.getScoreHistogram().lastKey() <= 65);
+        // Valor médio de uma carta: (1 + 2 + ... + 13) / 13 = 7
+        assertEquals(35.0, result.getMeanScore(), 0.2);
+
+        // Cada jogo tem um vencedor, e cada empate acrescenta de 1 a 3 vitórias
+        double extraWins = result.getWinRateBySeat().stream().mapToDouble(Double::doubleValue).sum() - 1.0;
+        assertTrue(result.getTieRate() > 0 && result.getTieRate() < 0.2);
+        assertTrue(extraWins >= result.getTieRate() - 1e-9);
+        assertTrue(extraWins <= result.getTieRate() * 3 + 1e-9);
+        double winRateSum = 1.0 + extraWins;
+        // As posições são simétricas
+        for (double winRate : result.getWinRateBySeat()) {
+            assertEquals(winRateSum / 4, winRate, 0.02);
+        }
+    }
+
+    @Test
+    void simulate_ShouldRepeatTheResultForTheSameSeed_RegardlessOfParallelism() {
+        // Act
+        SimulationResultDTO sequential = service(1).simulate(3, 7, 50_000, 7L);
+        SimulationResultDTO parallel = service(4).simulate(3, 7, 50_000, 7L);
+
+        // Assert
+        assertEquals(sequential.getScoreHistogram(), parallel.getScoreHistogram());
+        assertEquals(sequential.getWinRateBySeat(), parallel.getWinRateBySeat());
+        assertEquals(sequential.getTieRate(), parallel.getTieRate());
+    }
+
+    @Test
+    void simulate_ShouldUseEveryCardOfTheDeck_WhenTheGameTakesAllCards() {
+        // Act
+        SimulationResultDTO result = service(1).simulate(1, 52, 100, 1L);
+
+        // Assert
+        // Um baralho inteiro sempre soma 4 * (1 + 2 + ... + 13) = 364, e o único jogador sempre vence
+        assertEquals(1, result.getScoreHistogram().size());
+        assertEquals(100L, result.getScoreHistogram().get(364));
+        assertEquals(List.of(1.0), result.getWinRateBySeat());
+        assertEquals(0.0, result.getTieRate());
+    }
+
+    @Test
+    void simulate_ShouldRejectGameCountsOutsideTheLimit() {
+        GameSimulationService service = service(1);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service.simulate(2, 5, 1_000_001, null));
+
+        assertEquals("Quantidade de jogos inválida: 1000001. Valores aceitos: 1 a 1000000", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(2, 5, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(200, 100, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(0, 5, 10, null));
+    }
+
+    private GameSimulationService service(int parallelism) {
+        GameSimulationService service = new GameSimulationService(new InputValidator(), new DeckCalculatorService(),
+                new ScoreCalculatorService(), new GameResultService(), parallelism, 1_000_000, 10_000);
+        services.add(service);
+        return service;
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.GameHistory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bloqueios das linhas de estatísticas entre gravações concorrentes do mesmo formato, com o mesmo vencedor, em um
+ * PostgreSQL.
+ * <p>
+ * Executado apenas com a variável {@code CARD_GAME_EXPLAIN_DB_URL} (a mesma de {@link GameHistoryQueryPlanTest});
+ * todas as transações são desfeitas no final, sem alterar as estatísticas do banco.
+ */
+@EnabledIfEnvironmentVariable(named = "CARD_GAME_EXPLAIN_DB_URL", matches = ".+")
+class GameStatsContentionTest {
+
+    private static final int ATTEMPTS = 10;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("CARD_GAME_EXPLAIN_DB_URL"),
+                System.getenv("CARD_GAME_EXPLAIN_DB_USER"),
+                System.getenv("CARD_GAME_EXPLAIN_DB_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void onGameHistorySaved_ShouldWaitForAnOpenSaveOfTheSameFormat_WithASingleSlot() throws Exception {
+        assertEquals(0, savesWithoutWaiting(1));
+    }
+
+    @Test
+    void onGameHistorySaved_ShouldNotWaitForAnOpenSaveOfTheSameFormat_WithSeveralSlots() throws Exception {
+        // Cada gravação aguarda apenas quando sorteia o slot da transação aberta (1 em 16)
+        assertTrue(savesWithoutWaiting(16) > ATTEMPTS / 2);
+    }
+
+    /**
+     * Mantém aberta uma transação que gravou um jogo e conta quantas de {@value #ATTEMPTS} gravações do mesmo
+     * formato terminam sem aguardar o seu commit.
+     */
+    private static int savesWithoutWaiting(int slots) throws Exception {
+        // Arrange
+        GameStatsService service = new GameStatsService(jdbcTemplate, null, null, slots);
+        GameHistorySavedEvent event = new GameHistorySavedEvent(
+                List.of(new GameHistory(4, 5, "deck123", "Jogador 1", 40, null)));
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> openSave = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    service.onGameHistorySaved(event);
+                    saved.countDown();
+                    try {
+                        release.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    status.setRollbackOnly();
+                }));
+
+        try {
+            assertTrue(saved.await(10, TimeUnit.SECONDS));
+
+            // Act
+            int withoutWaiting = 0;
+            for (int i = 0; i < ATTEMPTS; i++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.execute("SET LOCAL lock_timeout = '200ms'");
+                        service.onGameHistorySaved(event);
+                        status.setRollbackOnly();
+                    });
+                    withoutWaiting++;
+                } catch (DataAccessException e) {
+                    // Tempo esgotado aguardando o bloqueio da linha da transação aberta
+                }
+            }
+            return withoutWaiting;
+        } finally {
+            release.countDown();
+            openSave.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import br.com.card_game_api.dto.FormatStatsDTO;
+import br.com.card_game_api.dto.GameStatsDTO;
+import br.com.card_game_api.dto.SeatStatsDTO;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifica, em um banco H2 em memória, a atualização das estatísticas na gravação dos jogos e a reconstrução a
+ * partir do histórico.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({GamePersistenceService.class, GameStatsService.class})
+class GameStatsServiceJpaTest {
+
+    @Autowired
+    private GamePersistenceService gamePersistenceService;
+
+    @Autowired
+    private GameStatsService gameStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void saveGameHistory_ShouldUpdateTheStatsInTheSameTransaction() {
+        // Arrange
+        gamePersistenceService.saveGameHistory(2, 5, "deck1", "Jogador 1", players(20, 10));
+        gamePersistenceService.saveGameHistory(2, 5, "deck2", "Jogador 1, Jogador 2", players(30, 30));
+        gamePersistenceService.saveGameHistory(3, 1, "deck3", "Jogador 3", players(1, 2, 13));
+
+        // Act
+        GameStatsDTO stats = gameStatsService.getStats();
+
+        // Assert
+        assertEquals(3, stats.getGamesPlayed());
+        assertEquals(1, stats.getTies());
+        assertEquals(1.0 / 3, stats.getTieRate(), 1e-9);
+
+        assertEquals(2, stats.getByFormat().size());
+        FormatStatsDTO twoPlayers = stats.getByFormat().get(0);
+        assertEquals(2, twoPlayers.getNumberOfPlayers());
+        assertEquals(5, twoPlayers.getCardsPerPlayer());
+        assertEquals(2, twoPlayers.getGames());
+        assertEquals(25.0, twoPlayers.getAverageHighestScore(), 1e-9);
+        assertEquals(30, twoPlayers.getMaxHighestScore());
+
+        List<SeatStatsDTO> seats = stats.getWinsBySeat();
+        assertEquals(List.of("Jogador 1", "Jogador 2", "Jogador 3"),
+                seats.stream().map(SeatStatsDTO::getIdentifier).toList());
+        assertEquals(List.of(2L, 1L, 1L), seats.stream().map(SeatStatsDTO::getWins).toList());
+        // "Jogador 3" só existe no jogo de três jogadores
+        assertEquals(1.0, seats.get(2).getWinRate(), 1e-9);
+        assertEquals(2.0 / 3, seats.get(0).getWinRate(), 1e-9);
+    }
+
+    @Test
+    void saveGameHistories_ShouldAddTheWholeBatch() {
+        // Arrange
+        List<GameHistory> gameHistories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            gameHistories.add(gamePersistenceService.buildGameHistory(2, 5, "deck" + i, "Jogador 2", players(i, 20)));
+        }
+
+        // Act
+        gamePersistenceService.saveGameHistories(gameHistories);
+        GameStatsDTO stats = gameStatsService.getStats();
+
+        // Assert
+        assertEquals(10, stats.getGamesPlayed());
+        assertEquals(0, stats.getTies());
+        assertEquals(1, stats.getWinsBySeat().size());
+        assertEquals(10, stats.getWinsBySeat().get(0).getWins());
+        assertEquals(1.0, stats.getWinsBySeat().get(0).getWinRate(), 1e-9);
+    }
+
+    @Test
+    void getStats_ShouldSumTheSlotsOfEachFormatAndSeat() {
+        // Arrange
+        jdbcTemplate.update("""
+                INSERT INTO game_stats_by_format (number_of_players, cards_per_player, slot, games, ties,
+                                                  highest_score_sum, highest_score_max)
+                VALUES (2, 5, 0, 3, 1, 60, 30), (2, 5, 7, 1, 0, 40, 40), (3, 1, 2, 1, 0, 13, 13)""");
+        jdbcTemplate.update("INSERT INTO game_stats_wins_by_seat (seat, slot, wins) VALUES (1, 0, 2), (1, 7, 1), "
+                + "(3, 2, 1)");
+
+        // Act
+        GameStatsDTO stats = gameStatsService.getStats();
+
+        // Assert
+        assertEquals(5, stats.getGamesPlayed());
+        assertEquals(1, stats.getTies());
+        assertEquals(2, stats.getByFormat().size());
+        FormatStatsDTO twoPlayers = stats.getByFormat().get(0);
+        assertEquals(4, twoPlayers.getGames());
+        assertEquals(25.0, twoPlayers.getAverageHighestScore(), 1e-9);
+        assertEquals(40, twoPlayers.getMaxHighestScore());
+        assertEquals(List.of(3L, 1L), stats.getWinsBySeat().stream().map(SeatStatsDTO::getWins).toList());
+        assertEquals(3.0 / 5, stats.getWinsBySeat().get(0).getWinRate(), 1e-9);
+        assertEquals(1.0, stats.getWinsBySeat().get(1).getWinRate(), 1e-9);
+    }
+
+    @Test
+    void rebuildStats_ShouldRecalculateTheTotalsFromTheHistory() {
+        // Arrange
+        gamePersistenceService.saveGameHistory(2, 5, "deck1", "Jogador 1", players(20, 10));
+        gamePersistenceService.saveGameHistory(2, 5, "deck2", "Jogador 1, Jogador 2", players(30, 30));
+        GameHistory removed = gamePersistenceService.saveGameHistory(4, 2, "deck3", "Jogador 4", players(1, 2, 3, 26));
+        entityManager.flush();
+        // Jogo removido do histórico sem passar pelo serviço, como ao apagar uma partição
+        jdbcTemplate.update("DELETE FROM players WHERE game_history_id = ?", removed.getId());
+        jdbcTemplate.update("DELETE FROM game_history WHERE id = ?", removed.getId());
+        assertEquals(3, gameStatsService.getStats().getGamesPlayed());
+
+        // Act
+        GameStatsDTO stats = gameStatsService.rebuildStats();
+
+        // Assert
+        assertEquals(2, stats.getGamesPlayed());
+        assertEquals(1, stats.getTies());
+        assertEquals(1, stats.getByFormat().size());
+        assertEquals(25.0, stats.getByFormat().get(0).getAverageHighestScore(), 1e-9);
+        assertEquals(List.of(2L, 1L), stats.getWinsBySeat().stream().map(SeatStatsDTO::getWins).toList());
+        // Os totais reconstruídos ficam em uma única linha por formato
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM game_stats_by_format", Integer.class));
+    }
+
+    @Test
+    void seatOf_ShouldReadThePositionFromTheIdentifier() {
+        assertEquals(1, GameStatsService.seatOf("Jogador 1"));
+        assertEquals(12, GameStatsService.seatOf("Jogador 12"));
+        assertEquals(-1, GameStatsService.seatOf("Jogador X"));
+        assertEquals(-1, GameStatsService.seatOf("Player 1"));
+    }
+
+    private static List<Player> players(int... scores) {
+        List<Player> players = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            players.add(new Player("Jogador " + (i + 1), scores[i], Hand.of(CardCode.of("ACE", "HEARTS"))));
+        }
+        return players;
+    }
+
+}
@@ -0,0 +1,219 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import br.com.card_game_api.domain.GameHistory;
+import br.com.card_game_api.domain.Hand;
+import br.com.card_game_api.domain.Player;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class GameWriteBehindServiceTest {
+
+    private GamePersistenceService gamePersistenceService;
+    private MeterRegistry meterRegistry;
+    private GameWriteBehindService gameWriteBehindService;
+    private final List<Integer> committedBatchSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstCommitStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseCommits = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        gamePersistenceService = mock(GamePersistenceService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(gamePersistenceService.saveGameHistories(anyList())).thenAnswer(invocation -> {
+            List<GameHistory> gameHistories = invocation.getArgument(0);
+            firstCommitStarted.countDown();
+            releaseCommits.await(5, TimeUnit.SECONDS);
+            committedBatchSizes.add(gameHistories.size());
+            return gameHistories;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseCommits.countDown();
+        if (gameWriteBehindService != null) {
+            gameWriteBehindService.shutdown();
+        }
+    }
+
+    @Test
+    void save_ShouldSaveInItsOwnTransaction_WhenWriteBehindIsDisabled() {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, false, 10, 10, true,
+                Duration.ofSeconds(5));
+        List<Player> players = List.of(new Player());
+        GameHistory gameHistory = new GameHistory();
+        when(gamePersistenceService.saveGameHistory(1, 5, "deck123", "Jogador 1", players)).thenReturn(gameHistory);
+
+        // Act
+        GameHistory saved = gameWriteBehindService.save(1, 5, "deck123", "Jogador 1", players);
+
+        // Assert
+        assertSame(gameHistory, saved);
+        verify(gamePersistenceService, never()).saveGameHistories(anyList());
+        assertThrows(IllegalStateException.class, () -> gameWriteBehindService.submit(gameHistory));
+    }
+
+    @Test
+    void submit_ShouldCommitGamesQueuedDuringACommitTogether() throws Exception {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 10, 10, true,
+                Duration.ofSeconds(5));
+        CompletableFuture<GameHistory> first = gameWriteBehindService.submit(new GameHistory());
+        assertTrue(firstCommitStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        List<CompletableFuture<GameHistory>> queued = List.of(
+                gameWriteBehindService.submit(new GameHistory()),
+                gameWriteBehindService.submit(new GameHistory()),
+                gameWriteBehindService.submit(new GameHistory()));
+        releaseCommits.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<GameHistory> future : queued) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        assertEquals(List.of(1, 3), committedBatchSizes);
+        assertEquals(2, meterRegistry.get("game.write-behind.batch.size").summary().count());
+        assertEquals(4.0, meterRegistry.get("game.write-behind.batch.size").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("game.write-behind.commit").timer().count());
+    }
+
+    @Test
+    void submit_ShouldWaitForSpace_WhenQueueIsFull() throws Exception {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 1, 10, true,
+                Duration.ofSeconds(5));
+        gameWriteBehindService.submit(new GameHistory());
+        assertTrue(firstCommitStarted.await(5, TimeUnit.SECONDS));
+        gameWriteBehindService.submit(new GameHistory());
+
+        // Act
+        CompletableFuture<CompletableFuture<GameHistory>> blocked =
+                CompletableFuture.supplyAsync(() -> gameWriteBehindService.submit(new GameHistory()));
+        Thread.sleep(200);
+
+        // Assert
+        assertFalse(blocked.isDone());
+        assertEquals(1.0, meterRegistry.get("game.write-behind.queue.size").gauge().value());
+
+        releaseCommits.countDown();
+        blocked.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        assertEquals(1.0, meterRegistry.get("game.write-behind.backpressure").counter().count());
+        assertEquals(3, committedBatchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void save_ShouldThrowTheBatchFailure_WhenCommitFails() {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 10, 10, true,
+                Duration.ofSeconds(5));
+        List<Player> players = List.of(new Player());
+        when(gamePersistenceService.buildGameHistory(2, 5, "deck123", "Jogador 1", players)).thenReturn(new GameHistory());
+        doThrow(new IllegalStateException("banco indisponível"))
+                .when(gamePersistenceService).saveGameHistories(anyList());
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> gameWriteBehindService.save(2, 5, "deck123", "Jogador 1", players));
+
+        // Assert
+        assertEquals("banco indisponível", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("game.write-behind.failures").counter().count());
+    }
+
+    @Test
+    void save_ShouldReturnAnUnsavedCopyBeforeCommit_WhenNotWaitingForDurability() {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 10, 10, false,
+                Duration.ofSeconds(5));
+        List<Player> players = List.of(new Player("Jogador 1", 20, Hand.of(CardCode.of("10", "HEARTS"))),
+                new Player("Jogador 2", 10, Hand.of(CardCode.of("ACE", "SPADES"))));
+        GameHistory gameHistory = new GameHistory(2, 5, "deck123", "Jogador 1", 20, LocalDateTime.now());
+        players.forEach(gameHistory::addPlayer);
+        when(gamePersistenceService.buildGameHistory(2, 5, "deck123", "Jogador 1", players)).thenReturn(gameHistory);
+        // A gravação preenche os ids do jogo enfileirado
+        doAnswer(invocation -> {
+            List<GameHistory> gameHistories = invocation.getArgument(0);
+            gameHistories.forEach(saved -> saved.setId(42L));
+            committedBatchSizes.add(gameHistories.size());
+            return gameHistories;
+        }).when(gamePersistenceService).saveGameHistories(anyList());
+
+        // Act
+        GameHistory returned = gameWriteBehindService.save(2, 5, "deck123", "Jogador 1", players);
+        gameWriteBehindService.shutdown();
+
+        // Assert
+        assertEquals(List.of(1), committedBatchSizes);
+        assertEquals(42L, gameHistory.getId());
+        assertNotSame(gameHistory, returned);
+        assertNull(returned.getId());
+        assertEquals(gameHistory.getGameTimestamp(), returned.getGameTimestamp());
+        assertEquals(List.of("Jogador 1", "Jogador 2"),
+                returned.getPlayers().stream().map(Player::getIdentifier).toList());
+        assertEquals(List.of(20, 10), returned.getPlayers().stream().map(Player::getScore).toList());
+        assertSame(players.get(1).getHand(), returned.getPlayers().get(1).getHand());
+        assertTrue(returned.getPlayers().stream().noneMatch(players::contains));
+    }
+
+    @Test
+    void save_ShouldStopWaiting_WhenTheCommitTakesLongerThanTheTimeout() {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 10, 10, true,
+                Duration.ofMillis(100));
+        List<Player> players = List.of(new Player());
+        when(gamePersistenceService.buildGameHistory(2, 5, "deck123", "Jogador 1", players)).thenReturn(new GameHistory());
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> gameWriteBehindService.save(2, 5, "deck123", "Jogador 1", players));
+
+        // Assert
+        assertEquals("Tempo esgotado aguardando a gravação do jogo.", exception.getMessage());
+    }
+
+    @Test
+    void submit_ShouldFailQueuedGames_WhenTheWriterIsInterrupted() throws Exception {
+        // Arrange
+        gameWriteBehindService = new GameWriteBehindService(gamePersistenceService, meterRegistry, true, 10, 10, true,
+                Duration.ofSeconds(5));
+        CompletableFuture<GameHistory> inProgress = gameWriteBehindService.submit(new GameHistory());
+        assertTrue(firstCommitStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<GameHistory> queued = gameWriteBehindService.submit(new GameHistory());
+        Thread writer = (Thread) ReflectionTestUtils.getField(gameWriteBehindService, "writer");
+
+        // Act
+        writer.interrupt();
+        writer.join(5_000);
+
+        // Assert
+        assertFalse(writer.isAlive());
+        ExecutionException inProgressFailure = assertThrows(ExecutionException.class,
+                () -> inProgress.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, inProgressFailure.getCause());
+        ExecutionException queuedFailure = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, queuedFailure.getCause());
+        assertThrows(IllegalStateException.class, () -> gameWriteBehindService.submit(new GameHistory()));
+    }
+
+}
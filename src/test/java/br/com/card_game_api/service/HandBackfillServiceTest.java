@@ -0,0 +1,83 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.domain.CardCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Executa a conversão das mãos em texto para {@code hand_codes} em um banco H2 em memória.
+ */
+@JdbcTest(properties = "spring.flyway.enabled=false")
+class HandBackfillServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS players");
+        jdbcTemplate.execute("CREATE TABLE players (id BIGINT PRIMARY KEY, hand TEXT, hand_codes VARBINARY(1024), "
+                + "hand_backfill_failed BOOLEAN DEFAULT FALSE NOT NULL)");
+    }
+
+    @Test
+    void runBackfill_ShouldConvertPendingHandsInBatches() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO players (id, hand) VALUES (1, 'Ás de Copas, 10 de Paus')");
+        jdbcTemplate.update("INSERT INTO players (id, hand) VALUES (2, 'Rei de Espadas')");
+        jdbcTemplate.update("INSERT INTO players (id, hand) VALUES (3, '')");
+        jdbcTemplate.update("INSERT INTO players (id, hand_codes) VALUES (4, ?)", (Object) new byte[]{0});
+        HandBackfillService service = new HandBackfillService(jdbcTemplate, transactionManager, false, 2);
+
+        // Act
+        long converted = service.runBackfill();
+
+        // Assert
+        assertEquals(3, converted);
+        assertArrayEquals(new byte[]{CardCode.of("ACE", "HEARTS"), CardCode.of("10", "CLUBS")}, handCodes(1));
+        assertArrayEquals(new byte[]{CardCode.of("KING", "SPADES")}, handCodes(2));
+        assertArrayEquals(new byte[0], handCodes(3));
+        assertNull(jdbcTemplate.queryForObject("SELECT hand FROM players WHERE id = 1", String.class));
+        assertEquals(0, service.runBackfill());
+    }
+
+    @Test
+    void runBackfill_ShouldMarkHandsThatCannotBeParsedAndNotReadThemAgain() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO players (id, hand) VALUES (1, 'Coringa')");
+        jdbcTemplate.update("INSERT INTO players (id, hand) VALUES (2, '2 de Ouros')");
+        HandBackfillService service = new HandBackfillService(jdbcTemplate, transactionManager, false, 1);
+
+        // Act
+        long converted = service.runBackfill();
+
+        // Assert
+        assertEquals(1, converted);
+        assertNull(handCodes(1));
+        assertEquals("Coringa", jdbcTemplate.queryForObject("SELECT hand FROM players WHERE id = 1", String.class));
+        assertArrayEquals(new byte[]{CardCode.of("2", "DIAMONDS")}, handCodes(2));
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT hand_backfill_failed FROM players WHERE id = 1", Boolean.class));
+
+        // Uma nova execução não relê a linha marcada, mesmo que o texto passe a ser reconhecido
+        jdbcTemplate.update("UPDATE players SET hand = '3 de Ouros' WHERE id = 1");
+        assertEquals(0, service.runBackfill());
+        assertNull(handCodes(1));
+    }
+
+    private byte[] handCodes(long id) {
+        return jdbcTemplate.queryForObject("SELECT hand_codes FROM players WHERE id = ?", byte[].class, id);
+    }
+
+}
@@ -1,11 +1,9 @@
 package br.com.card_game_api.service;
 
-import br.com.card_game_api.dto.CardDTO;
+import br.com.card_game_api.domain.CardCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ScoreCalculatorServiceTest {
@@ -20,13 +18,13 @@ class ScoreCalculatorServiceTest {
     @Test
     void calculateScore_ShouldReturnCorrectScoreForValidCards() {
         // Arrange
-        List<CardDTO> cards = List.of(
-                new CardDTO("ACE", "S"),  // Ás, valor 1
-                new CardDTO("KING", "H"),  // Rei, valor 13
-                new CardDTO("QUEEN", "C"),  // Dama, valor 12
-                new CardDTO("JACK", "D"),  // Valete, valor 11
-                new CardDTO("10", "H")  // 10, valor 10
-        );
+        byte[] cards = {
+                CardCode.of("ACE", "SPADES"),  // Ás, valor 1
+                CardCode.of("KING", "HEARTS"),  // Rei, valor 13
+                CardCode.of("QUEEN", "CLUBS"),  // Dama, valor 12
+                CardCode.of("JACK", "DIAMONDS"),  // Valete, valor 11
+                CardCode.of("10", "HEARTS")  // 10, valor 10
+        };
 
         // Act
         int score = scoreCalculatorService.calculateScore(cards);
@@ -38,7 +36,7 @@ class ScoreCalculatorServiceTest {
     @Test
     void calculateScore_ShouldReturnZeroForEmptyCardList() {
         // Arrange
-        List<CardDTO> cards = List.of();
+        byte[] cards = {};
 
         // Act
         int score = scoreCalculatorService.calculateScore(cards);
@@ -50,11 +48,11 @@ class ScoreCalculatorServiceTest {
     @Test
     void calculateScore_ShouldHandleOnlyNumericCards() {
         // Arrange
-        List<CardDTO> cards = List.of(
-                new CardDTO("2", "S"),  // 2, valor 2
-                new CardDTO("5", "D"),  // 5, valor 5
-                new CardDTO("9", "H")   // 9, valor 9
-        );
+        byte[] cards = {
+                CardCode.of("2", "SPADES"),  // 2, valor 2
+                CardCode.of("5", "DIAMONDS"),  // 5, valor 5
+                CardCode.of("9", "HEARTS")   // 9, valor 9
+        };
 
         // Act
         int score = scoreCalculatorService.calculateScore(cards);
@@ -63,4 +61,21 @@ class ScoreCalculatorServiceTest {
         assertEquals(16, score);  // 2 + 5 + 9 = 16
     }
 
+    @Test
+    void calculateScore_ShouldOnlyScoreTheRequestedRange() {
+        // Arrange
+        byte[] cards = {
+                CardCode.of("KING", "SPADES"),  // fora do trecho
+                CardCode.of("3", "CLUBS"),  // 3, valor 3
+                CardCode.of("QUEEN", "HEARTS"),  // Dama, valor 12
+                CardCode.of("ACE", "DIAMONDS")  // fora do trecho
+        };
+
+        // Act
+        int score = scoreCalculatorService.calculateScore(cards, 1, 3);
+
+        // Assert
+        assertEquals(15, score);
+    }
+
 }
@@ -0,0 +1,112 @@
+package br.com.card_game_api.service;
+
+import br.com.card_game_api.dto.ScoreDistributionDTO;
+import br.com.card_game_api.dto.SimulationResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreDistributionServiceTest {
+
+    private final ScoreDistributionService service = new ScoreDistributionService(new InputValidator(),
+            new DeckCalculatorService(), new SimpleMeterRegistry(), 10, 100, 1_000_000);
+
+    @Test
+    void getDistribution_ShouldMatchTheCombinatorialCounts() {
+        // Act
+        ScoreDistributionDTO oneCard = service.getDistribution(1, 1);
+        ScoreDistributionDTO twoCards = service.getDistribution(1, 2);
+
+        // Assert
+        assertEquals(13, oneCard.getScoreProbabilities().size());
+        oneCard.getScoreProbabilities().values().forEach(probability -> assertEquals(1.0 / 13, probability, 1e-12));
+        assertEquals(7.0, oneCard.getMeanScore(), 1e-12);
+
+        // Dois Ases: C(4, 2) de C(52, 2) mãos; 3 pontos: um Ás e um 2, 4 × 4 mãos
+        assertEquals(6.0 / 1326, twoCards.getScoreProbabilities().get(2), 1e-12);
+        assertEquals(16.0 / 1326, twoCards.getScoreProbabilities().get(3), 1e-12);
+        assertEquals(22.0 / 1326, twoCards.getCumulativeProbabilities().get(3), 1e-12);
+        assertEquals(1.0, twoCards.getCumulativeProbabilities().get(26), 1e-12);
+        assertEquals(1.0, twoCards.getWinProbability(), 1e-12);
+        assertEquals(0.0, twoCards.getTieProbability(), 1e-12);
+    }
+
+    @Test
+    void getDistribution_ShouldHaveASingleScore_WhenTheHandTakesTheWholeDeck() {
+        // Act
+        ScoreDistributionDTO distribution = service.getDistribution(1, 52);
+
+        // Assert
+        assertEquals(Map.of(364, 1.0), Map.copyOf(distribution.getScoreProbabilities()));
+    }
+
+    @Test
+    void getDistribution_ShouldHaveTheMeanOfTheDeck_ForManyDecks() {
+        // Act
+        ScoreDistributionDTO distribution = service.getDistribution(60, 100);
+
+        // Assert
+        assertEquals(116, distribution.getDecks());
+        assertEquals(700.0, distribution.getMeanScore(), 1e-6);
+        double total = distribution.getScoreProbabilities().values().stream().mapToDouble(Double::doubleValue).sum();
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(1.0, distribution.getWinProbability() * 60 + distribution.getGameTieProbability(), 1e-9);
+    }
+
+    @Test
+    void getDistribution_ShouldAgreeWithTheSimulation() {
+        // Arrange
+        GameSimulationService simulationService = new GameSimulationService(new InputValidator(),
+                new DeckCalculatorService(), new ScoreCalculatorService(), new GameResultService(), 1,
+                1_000_000, 10_000);
+        long games = 200_000;
+
+        try {
+            // Act
+            ScoreDistributionDTO distribution = service.getDistribution(4, 5);
+            SimulationResultDTO simulation = simulationService.simulate(4, 5, games, 42L);
+
+            // Assert
+            long hands = games * 4;
+            for (int score = 5; score <= 65; score++) {
+                double expected = distribution.getScoreProbabilities().getOrDefault(score, 0.0);
+                double observed = (double) simulation.getScoreHistogram().getOrDefault(score, 0L) / hands;
+                // Até cinco desvios-padrão da frequência observada
+                assertEquals(expected, observed, 5 * Math.sqrt(expected * (1 - expected) / hands) + 1e-9,
+                        "pontuação " + score);
+            }
+            assertEquals(distribution.getMeanScore(), simulation.getMeanScore(), 0.05);
+
+            // As mãos do mesmo deck não são independentes: a tolerância cobre essa aproximação
+            double topProbability = distribution.getWinProbability() + distribution.getTieProbability();
+            for (double winRate : simulation.getWinRateBySeat()) {
+                assertEquals(topProbability, winRate, 0.01);
+            }
+            assertEquals(distribution.getGameTieProbability(), simulation.getTieRate(), 0.01);
+        } finally {
+            simulationService.shutdown();
+        }
+    }
+
+    @Test
+    void getDistribution_ShouldCalculateEachFormatOnlyOnce() {
+        // Act
+        ScoreDistributionDTO first = service.getDistribution(4, 5);
+        ScoreDistributionDTO second = service.getDistribution(4, 5);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, service.getDistribution(5, 4));
+    }
+
+    @Test
+    void getDistribution_ShouldRejectHandsAboveTheLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.getDistribution(2, 101));
+        assertThrows(IllegalArgumentException.class, () -> service.getDistribution(20_000, 100));
+        assertThrows(IllegalArgumentException.class, () -> service.getDistribution(0, 5));
+    }
+
+}